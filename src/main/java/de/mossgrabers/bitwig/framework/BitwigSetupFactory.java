@@ -13,6 +13,7 @@ import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.DataSetup;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.ObserverBudget;
 import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.scale.Scales;
@@ -45,7 +46,7 @@ public class BitwigSetupFactory implements ISetupFactory
     @Override
     public IModel createModel (final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final ModelSetup modelSetup)
     {
-        final DataSetup dataSetup = new DataSetup (new HostImpl (this.controllerHost), valueChanger, colorManager);
+        final DataSetup dataSetup = new DataSetup (new HostImpl (this.controllerHost, new ObserverBudget (modelSetup)), valueChanger, colorManager);
         return new ModelImpl (modelSetup, dataSetup, this.controllerHost, scales);
     }
 
@@ -5,13 +5,22 @@
 package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.bitwig.framework.daw.data.Util;
+import de.mossgrabers.framework.daw.ActionMacro;
 import de.mossgrabers.framework.daw.IApplication;
+import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.constants.RecordQuantization;
 
 import com.bitwig.extension.controller.api.Action;
 import com.bitwig.extension.controller.api.ActionCategory;
 import com.bitwig.extension.controller.api.Application;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 
 /**
  * Proxy to the Bitwig Application.
@@ -20,22 +29,43 @@ import com.bitwig.extension.controller.api.Application;
  */
 public class ApplicationImpl implements IApplication
 {
-    private static final String ACTION_ZOOM_OUT            = "Zoom Out";
-    private static final String ACTION_ZOOM_IN             = "Zoom In";
-    private static final String ACTION_TOGGLE_TRACK_HEIGHT = "toggle_double_or_single_row_track_height";
-
-    private Application         application;
+    private static final String        ACTION_ZOOM_OUT            = "Zoom Out";
+    private static final String        ACTION_ZOOM_IN             = "Zoom In";
+    private static final String        ACTION_TOGGLE_TRACK_HEIGHT = "toggle_double_or_single_row_track_height";
+    private static final String        ACTION_SLICE_TO_SAMPLER    = "slice_to_multi_sampler_track";
+    private static final String        ACTION_SLICE_TO_DRUM       = "slice_to_drum_track";
+    private static final int           MAX_UNAVAILABLE_ACTIONS    = 64;
+
+    private final IHost                host;
+    private final Application          application;
+    private final List<Action>         actions                    = new ArrayList<> ();
+    private final Map<String, Integer> actionHandles              = new HashMap<> ();
+    private final Set<String>          unavailableActions         = new HashSet<> ();
+
+    private final int                  zoomOutAction;
+    private final int                  zoomInAction;
+    private final int                  toggleTrackHeightAction;
+    private final int                  sliceToSamplerAction;
+    private final int                  sliceToDrumAction;
 
 
     /**
      * Constructor.
      *
+     * @param host The host
      * @param application The application object
      */
-    public ApplicationImpl (final Application application)
+    public ApplicationImpl (final IHost host, final Application application)
     {
+        this.host = host;
         this.application = application;
 
+        this.zoomOutAction = this.resolveAction (ACTION_ZOOM_OUT);
+        this.zoomInAction = this.resolveAction (ACTION_ZOOM_IN);
+        this.toggleTrackHeightAction = this.resolveAction (ACTION_TOGGLE_TRACK_HEIGHT);
+        this.sliceToSamplerAction = this.resolveAction (ACTION_SLICE_TO_SAMPLER);
+        this.sliceToDrumAction = this.resolveAction (ACTION_SLICE_TO_DRUM);
+
         this.application.hasActiveEngine ().markInterested ();
         this.application.panelLayout ().markInterested ();
         this.application.recordQuantizationGrid ().markInterested ();
@@ -312,7 +342,7 @@ public class ApplicationImpl implements IApplication
     @Override
     public void zoomOut ()
     {
-        this.invokeAction (ACTION_ZOOM_OUT);
+        this.invokeAction (this.zoomOutAction);
     }
 
 
@@ -320,7 +350,7 @@ public class ApplicationImpl implements IApplication
     @Override
     public void zoomIn ()
     {
-        this.invokeAction (ACTION_ZOOM_IN);
+        this.invokeAction (this.zoomInAction);
     }
 
 
@@ -329,7 +359,7 @@ public class ApplicationImpl implements IApplication
     public void incTrackHeight ()
     {
         // No track height increase method available
-        this.invokeAction (ACTION_TOGGLE_TRACK_HEIGHT);
+        this.invokeAction (this.toggleTrackHeightAction);
     }
 
 
@@ -338,7 +368,7 @@ public class ApplicationImpl implements IApplication
     public void decTrackHeight ()
     {
         // No track height increase method available
-        this.invokeAction (ACTION_TOGGLE_TRACK_HEIGHT);
+        this.invokeAction (this.toggleTrackHeightAction);
     }
 
 
@@ -388,7 +418,7 @@ public class ApplicationImpl implements IApplication
     @Override
     public void sliceToSampler ()
     {
-        this.invokeAction ("slice_to_multi_sampler_track");
+        this.invokeAction (this.sliceToSamplerAction);
     }
 
 
@@ -396,7 +426,7 @@ public class ApplicationImpl implements IApplication
     @Override
     public void sliceToDrumMachine ()
     {
-        this.invokeAction ("slice_to_drum_track");
+        this.invokeAction (this.sliceToDrumAction);
     }
 
 
@@ -404,21 +434,108 @@ public class ApplicationImpl implements IApplication
     @Override
     public void invokeAction (final String id)
     {
-        final Action action = this.getAction (id);
-        if (action != null)
-            action.invoke ();
+        this.invokeAction (this.resolveAction (id));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int resolveAction (final String id)
+    {
+        final Integer handle = this.actionHandles.get (id);
+        if (handle != null)
+            return handle.intValue ();
+
+        if (this.unavailableActions.contains (id))
+            return -1;
+
+        final Action action = this.application.getAction (id);
+        if (action == null)
+        {
+            // Only reported once but limited, since the IDs might be sent by a remote (e.g. OSC)
+            this.host.error ("Action is not available: " + id);
+            if (this.unavailableActions.size () >= MAX_UNAVAILABLE_ACTIONS)
+                this.unavailableActions.clear ();
+            this.unavailableActions.add (id);
+            return -1;
+        }
+
+        final int newHandle = this.actions.size ();
+        this.actions.add (action);
+        this.actionHandles.put (id, Integer.valueOf (newHandle));
+        return newHandle;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void invokeAction (final int handle)
+    {
+        if (handle >= 0)
+            this.actions.get (handle).invoke ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ActionMacro createActionMacro (final String definition)
+    {
+        final ActionMacro macro = new ActionMacro ();
+        boolean endsWithDelay = false;
+        for (final String part: definition.split (";"))
+        {
+            final String step = part.trim ();
+            if (step.isEmpty ())
+                continue;
+            try
+            {
+                macro.addDelay (Integer.parseInt (step));
+                endsWithDelay = true;
+            }
+            catch (final NumberFormatException ex)
+            {
+                final int handle = this.resolveAction (step);
+                if (handle >= 0)
+                    macro.addAction (handle);
+                endsWithDelay = false;
+            }
+        }
+        if (endsWithDelay)
+            throw new IllegalArgumentException ("A delay must be followed by an action: " + definition);
+        return macro;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void invokeActionMacro (final ActionMacro macro)
+    {
+        this.invokeActionMacro (macro, 0, false);
     }
 
 
     /**
-     * Returns the action for the given action identifier.
+     * Invokes the actions of a macro starting with the given step. The remaining steps are
+     * scheduled if a step has a delay.
      *
-     * @param id the action identifier string, must not be `null`
-     * @return The action
+     * @param macro The macro
+     * @param start The index of the first step to invoke
+     * @param isDelayed True if the delay of the first step has already passed
      */
-    private Action getAction (final String id)
-    {
-        return this.application.getAction (id);
+    private void invokeActionMacro (final ActionMacro macro, final int start, final boolean isDelayed)
+    {
+        final int numSteps = macro.getNumSteps ();
+        for (int step = start; step < numSteps; step++)
+        {
+            final int delay = macro.getDelay (step);
+            if (delay > 0 && (step > start || !isDelayed))
+            {
+                final int next = step;
+                this.host.scheduleTask ( () -> this.invokeActionMacro (macro, next, true), delay);
+                return;
+            }
+            this.invokeAction (macro.getHandle (step));
+        }
     }
 
 
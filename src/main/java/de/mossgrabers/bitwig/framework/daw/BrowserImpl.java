@@ -18,6 +18,8 @@ import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IItem;
 
 import com.bitwig.extension.controller.api.BrowserFilterColumn;
+import com.bitwig.extension.controller.api.BrowserItem;
+import com.bitwig.extension.controller.api.BrowserResultsColumn;
 import com.bitwig.extension.controller.api.BrowserResultsItemBank;
 import com.bitwig.extension.controller.api.CursorBrowserResultItem;
 import com.bitwig.extension.controller.api.CursorDevice;
@@ -33,12 +35,19 @@ import com.bitwig.extension.controller.api.PopupBrowser;
  */
 public class BrowserImpl extends AbstractBrowser
 {
+    /** The number of result pages which are loaded around the current page. */
+    private static final int              PREFETCH_PAGES   = 3;
+
     private final CursorDevice            cursorDevice;
     private final CursorTrack             cursorTrack;
     private final PopupBrowser            browser;
     private final BrowserFilterColumn []  filterColumns;
     private final CursorBrowserResultItem cursorResult;
     private final BrowserResultsItemBank  resultsItemBank;
+    private final BrowserResultsColumn    resultsColumn;
+    private final BrowserResultsItemBank  prefetchBank;
+    private final int                     prefetchSize;
+    private int                           prefetchPosition = 0;
 
 
     /**
@@ -78,11 +87,35 @@ public class BrowserImpl extends AbstractBrowser
 
         this.columnData = this.createFilterColumns (this.filterColumns.length, numFilterColumnEntries);
 
-        this.cursorResult = (CursorBrowserResultItem) this.browser.resultsColumn ().createCursorItem ();
+        this.resultsColumn = this.browser.resultsColumn ();
+        this.cursorResult = (CursorBrowserResultItem) this.resultsColumn.createCursorItem ();
         this.cursorResult.name ().markInterested ();
 
         this.resultsItemBank = (BrowserResultsItemBank) this.cursorResult.createSiblingsBank (this.numResults);
         this.resultData = this.createResultData (this.numResults);
+
+        // A larger bank which is kept around the current result page and fills the result cache,
+        // the cache keeps the names of all windows and is cleared if the result list changes.
+        // The names are stored at the window position which was requested when the bank was
+        // scrolled, since the new names might arrive before the new scroll position
+        this.prefetchSize = PREFETCH_PAGES * this.numResults;
+        this.prefetchBank = (BrowserResultsItemBank) this.resultsColumn.createItemBank (this.prefetchSize);
+        this.prefetchBank.scrollPosition ().markInterested ();
+        this.prefetchBank.scrollPosition ().addValueObserver (this::handlePrefetchScroll);
+        for (int i = 0; i < this.prefetchSize; i++)
+        {
+            final int index = i;
+            final BrowserItem item = this.prefetchBank.getItemAt (i);
+            item.name ().markInterested ();
+            item.name ().addValueObserver (name -> this.resultCache.setName (this.prefetchPosition + index, name));
+        }
+
+        this.resultsColumn.entryCount ().markInterested ();
+        this.resultsColumn.entryCount ().addValueObserver (count -> this.clearResultCache ());
+        this.browser.selectedContentTypeIndex ().addValueObserver (index -> this.clearResultCache ());
+
+        this.resultsItemBank.scrollPosition ().markInterested ();
+        this.resultsItemBank.scrollPosition ().addValueObserver (this::prefetchAround);
     }
 
 
@@ -102,6 +135,12 @@ public class BrowserImpl extends AbstractBrowser
 
         for (final IBrowserColumnItem item: this.resultData)
             item.enableObservers (enable);
+
+        Util.setIsSubscribed (this.resultsColumn.entryCount (), enable);
+        Util.setIsSubscribed (this.resultsItemBank.scrollPosition (), enable);
+        Util.setIsSubscribed (this.prefetchBank.scrollPosition (), enable);
+        for (int i = 0; i < this.prefetchSize; i++)
+            Util.setIsSubscribed (this.prefetchBank.getItemAt (i).name (), enable);
     }
 
 
@@ -258,6 +297,44 @@ public class BrowserImpl extends AbstractBrowser
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getSelectedResultPosition ()
+    {
+        final int index = this.getSelectedResultIndex ();
+        return index < 0 ? -1 : this.resultsItemBank.scrollPosition ().get () + index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectResult (final int position)
+    {
+        final int count = this.resultsColumn.entryCount ().get ();
+        final int pos = Math.max (0, count > 0 ? Math.min (position, count - 1) : position);
+
+        // Select it directly if it is already loaded
+        final int index = pos - this.prefetchBank.scrollPosition ().get ();
+        if (index >= 0 && index < this.prefetchSize)
+        {
+            this.prefetchBank.getItemAt (index).isSelected ().set (true);
+            return;
+        }
+
+        final int current = this.getSelectedResultPosition ();
+        if (current < 0)
+            return;
+        final int steps = Math.abs (pos - current);
+        for (int i = 0; i < steps; i++)
+        {
+            if (pos > current)
+                this.cursorResult.selectNext ();
+            else
+                this.cursorResult.selectPrevious ();
+        }
+    }
+
+
     /**
      * Select the previous result page.
      */
@@ -276,11 +353,68 @@ public class BrowserImpl extends AbstractBrowser
     }
 
 
+    /**
+     * Scrolls the prefetch bank if the given position is not surrounded by at least one loaded
+     * page on both sides.
+     *
+     * @param position The position of the first result on the current page
+     */
+    private void prefetchAround (final int position)
+    {
+        if (position < 0)
+            return;
+        final int scrollPosition = this.prefetchPosition;
+        final boolean hasPrevious = position >= scrollPosition + this.numResults || scrollPosition == 0;
+        if (hasPrevious && position + 2 * this.numResults <= scrollPosition + this.prefetchSize)
+            return;
+        this.prefetchPosition = Math.max (0, position - (this.prefetchSize - this.numResults) / 2);
+        this.prefetchBank.scrollPosition ().set (this.prefetchPosition);
+    }
+
+
+    /**
+     * Stores the names of the new window of the prefetch bank. If the bank was not scrolled to the
+     * requested position (e.g. it was limited or reset by the DAW), names might have been stored
+     * at wrong positions in the meantime, therefore the cache is cleared.
+     *
+     * @param position The new scroll position of the prefetch bank
+     */
+    private void handlePrefetchScroll (final int position)
+    {
+        if (position == this.prefetchPosition)
+        {
+            // Names which did not change since the previous window are not sent again
+            this.cachePrefetchedNames ();
+            return;
+        }
+        this.prefetchPosition = position;
+        this.clearResultCache ();
+    }
+
+
+    private void cachePrefetchedNames ()
+    {
+        for (int i = 0; i < this.prefetchSize; i++)
+            this.resultCache.setName (this.prefetchPosition + i, this.prefetchBank.getItemAt (i).name ().get ());
+    }
+
+
+    private void clearResultCache ()
+    {
+        this.resultCache.clear ();
+        this.cachePrefetchedNames ();
+    }
+
+
     private IBrowserColumn [] createFilterColumns (final int count, final int numFilterColumnEntries)
     {
         final IBrowserColumn [] columns = new IBrowserColumn [count];
         for (int i = 0; i < count; i++)
-            columns[i] = new BrowserColumnImpl (this.filterColumns[i], i, numFilterColumnEntries);
+        {
+            final BrowserColumnImpl column = new BrowserColumnImpl (this.filterColumns[i], i, numFilterColumnEntries);
+            column.addCursorNameObserver (name -> this.clearResultCache ());
+            columns[i] = column;
+        }
         return columns;
     }
 
@@ -14,6 +14,8 @@ import de.mossgrabers.bitwig.framework.usb.UsbDeviceImpl;
 import de.mossgrabers.framework.controller.hardware.IHwSurfaceFactory;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.ObserverBudget;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IImage;
@@ -44,8 +46,9 @@ import java.util.List;
  */
 public class HostImpl implements IHost
 {
-    private ControllerHost   host;
-    private List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private ControllerHost       host;
+    private final ObserverBudget observerBudget;
+    private List<IUsbDevice>     usbDevices = new ArrayList<> ();
 
 
     /**
@@ -54,8 +57,21 @@ public class HostImpl implements IHost
      * @param host The host
      */
     public HostImpl (final ControllerHost host)
+    {
+        this (host, new ObserverBudget (new ModelSetup ()));
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param observerBudget The budget for the observers of the model
+     */
+    public HostImpl (final ControllerHost host, final ObserverBudget observerBudget)
     {
         this.host = host;
+        this.observerBudget = observerBudget;
     }
 
 
@@ -110,6 +126,14 @@ public class HostImpl implements IHost
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ObserverBudget getObserverBudget ()
+    {
+        return this.observerBudget;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void scheduleTask (final Runnable task, final long delay)
@@ -15,6 +15,8 @@ import java.nio.ByteBuffer;
 public class MemoryBlockImpl implements IMemoryBlock
 {
     private MemoryBlock memoryBlock;
+    private boolean     isBackingArrayChecked = false;
+    private byte []     backingArray;
 
 
     /**
@@ -45,4 +47,20 @@ public class MemoryBlockImpl implements IMemoryBlock
     {
         return this.memoryBlock.createByteBuffer ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public byte [] getBackingArray ()
+    {
+        if (!this.isBackingArrayChecked)
+        {
+            // The memory of a block does not change, therefore it only needs to be checked once
+            final ByteBuffer buffer = this.memoryBlock.createByteBuffer ();
+            if (buffer.hasArray () && buffer.arrayOffset () == 0 && buffer.array ().length == buffer.capacity ())
+                this.backingArray = buffer.array ();
+            this.isBackingArrayChecked = true;
+        }
+        return this.backingArray;
+    }
 }
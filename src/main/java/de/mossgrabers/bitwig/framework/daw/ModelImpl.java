@@ -79,7 +79,7 @@ public class ModelImpl extends AbstractModel
         this.controllerHost = controllerHost;
 
         final Application app = controllerHost.createApplication ();
-        this.application = new ApplicationImpl (app);
+        this.application = new ApplicationImpl (this.host, app);
         final Project proj = controllerHost.getProject ();
         this.rootTrackGroup = proj.getRootTrackGroup ();
         this.project = new ProjectImpl (this.valueChanger, proj, app);
@@ -209,6 +209,14 @@ public class ModelImpl extends AbstractModel
 
         this.currentTrackBank = this.trackBank;
 
+        // The surfaces are started after these values have been received for the first time
+        final Runnable cursorTrackReceived = this.expectValue ("cursor track");
+        this.bwCursorTrack.exists ().addValueObserver (exists -> cursorTrackReceived.run ());
+        final Runnable trackBankReceived = this.expectValue ("track bank");
+        tb.itemCount ().addValueObserver (count -> trackBankReceived.run ());
+        final Runnable cursorDeviceReceived = this.expectValue ("cursor device");
+        mainCursorDevice.exists ().addValueObserver (exists -> cursorDeviceReceived.run ());
+
         controllerHost.scheduleTask (this::flushWorkaround, 4000);
     }
 
@@ -47,6 +47,7 @@ public class TransportImpl implements ITransport
     private final RawParameterImpl         tempoParameter;
     private final IParameter               crossfadeParameter;
     private final IParameter               metronomeVolumeParameter;
+    private final int                      jumpToEndAction;
 
 
     /**
@@ -62,6 +63,7 @@ public class TransportImpl implements ITransport
         this.application = application;
         this.valueChanger = valueChanger;
         this.transport = host.createTransport ();
+        this.jumpToEndAction = application.resolveAction (ACTION_JUMP_TO_END);
 
         this.transport.isPlaying ().markInterested ();
         this.transport.isArrangerRecordEnabled ().markInterested ();
@@ -458,7 +460,7 @@ public class TransportImpl implements ITransport
     @Override
     public void setPositionToEnd ()
     {
-        this.application.invokeAction (ACTION_JUMP_TO_END);
+        this.application.invokeAction (this.jumpToEndAction);
 
         // Force moving the end of the arranger into view
         this.changePosition (false, true);
@@ -99,6 +99,18 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
     }
 
 
+    /**
+     * Add an observer for the name of the selected filter item, which changes when the filter is
+     * changed.
+     *
+     * @param observer The observer
+     */
+    public void addCursorNameObserver (final IValueObserver<String> observer)
+    {
+        this.cursorResult.name ().addValueObserver (observer::update);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public String getName (final int limit)
@@ -9,11 +9,13 @@ import de.mossgrabers.bitwig.framework.daw.data.bank.SendBankImpl;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ObserverBudget;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.ObservedValue;
 
 import com.bitwig.extension.controller.api.Channel;
 import com.bitwig.extension.controller.api.SettableColorValue;
@@ -29,8 +31,10 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     protected final IValueChanger               valueChanger;
 
     private static final int                    MAX_RESOLUTION = 16384;
+    private static final String                 OBSERVER_GROUP = "Channels";
 
     private final AbstractChannelBankImpl<?, ?> channelBankImpl;
+    private final boolean                       observeColor;
 
     private int                                 vuLeft;
     private int                                 vuRight;
@@ -57,21 +61,26 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         this.deviceChain = channel;
         this.valueChanger = valueChanger;
 
+        final ObserverBudget observerBudget = host.getObserverBudget ();
+        this.observeColor = observerBudget.isObserved (ObservedValue.COLORS);
+
         if (channel == null)
             return;
 
-        channel.exists ().markInterested ();
-        channel.name ().markInterested ();
-        channel.isActivated ().markInterested ();
-        channel.mute ().markInterested ();
-        channel.solo ().markInterested ();
-        channel.color ().markInterested ();
+        Util.markInterested (observerBudget, OBSERVER_GROUP, channel.exists (), channel.name (), channel.isActivated (), channel.mute (), channel.solo ());
+        if (this.observeColor)
+            Util.markInterested (observerBudget, OBSERVER_GROUP, channel.color ());
 
-        this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), index);
-        this.panParameter = new ParameterImpl (valueChanger, channel.pan (), index);
+        this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), index, false, observerBudget);
+        this.panParameter = new ParameterImpl (valueChanger, channel.pan (), index, false, observerBudget);
 
-        channel.addVuMeterObserver (MAX_RESOLUTION, 0, true, this::handleVULeftMeter);
-        channel.addVuMeterObserver (MAX_RESOLUTION, 1, true, this::handleVURightMeter);
+        if (observerBudget.isObserved (ObservedValue.VU_METERS))
+        {
+            channel.addVuMeterObserver (MAX_RESOLUTION, 0, true, this::handleVULeftMeter);
+            observerBudget.addObservers (OBSERVER_GROUP, 1);
+            channel.addVuMeterObserver (MAX_RESOLUTION, 1, true, this::handleVURightMeter);
+            observerBudget.addObservers (OBSERVER_GROUP, 1);
+        }
 
         this.sendBank = new SendBankImpl (host, valueChanger, numSends == 0 ? null : channel.sendBank (), numSends);
     }
@@ -94,7 +103,8 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         Util.setIsSubscribed (this.deviceChain.isActivated (), enable);
         Util.setIsSubscribed (this.deviceChain.mute (), enable);
         Util.setIsSubscribed (this.deviceChain.solo (), enable);
-        Util.setIsSubscribed (this.deviceChain.color (), enable);
+        if (this.observeColor)
+            Util.setIsSubscribed (this.deviceChain.color (), enable);
 
         this.volumeParameter.enableObservers (enable);
         this.panParameter.enableObservers (enable);
@@ -355,6 +365,9 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public ColorEx getColor ()
     {
+        if (!this.observeColor)
+            return ColorEx.BLACK;
+
         final SettableColorValue color = this.deviceChain.color ();
         return new ColorEx (color.red (), color.green (), color.blue ());
     }
@@ -5,7 +5,9 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ObserverBudget;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.ObservedValue;
 
 import com.bitwig.extension.controller.api.Parameter;
 
@@ -17,8 +19,11 @@ import com.bitwig.extension.controller.api.Parameter;
  */
 public class ParameterImpl extends RangedValueImpl
 {
-    private final Parameter parameter;
-    private final boolean   fixNames;
+    private static final String OBSERVER_GROUP = "Parameters";
+
+    private final Parameter     parameter;
+    private final boolean       fixNames;
+    private final boolean       observeModulation;
 
 
     /**
@@ -56,17 +61,33 @@ public class ParameterImpl extends RangedValueImpl
      */
     public ParameterImpl (final IValueChanger valueChanger, final Parameter parameter, final int index, final boolean fixNames)
     {
-        super (null, valueChanger, parameter, index);
+        this (valueChanger, parameter, index, fixNames, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param parameter The parameter
+     * @param index The index of the item in the page
+     * @param fixNames Don't use targetName if true
+     * @param observerBudget The budget which counts the observers and decides if the modulated
+     *            value is observed, if null all values are observed
+     */
+    public ParameterImpl (final IValueChanger valueChanger, final Parameter parameter, final int index, final boolean fixNames, final ObserverBudget observerBudget)
+    {
+        super (null, valueChanger, parameter, index, observerBudget, OBSERVER_GROUP);
 
         this.parameter = parameter;
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/268
         this.fixNames = fixNames;
+        this.observeModulation = observerBudget == null || observerBudget.isObserved (ObservedValue.MODULATED_VALUES);
 
-        parameter.exists ().markInterested ();
-        parameter.name ().markInterested ();
-        parameter.value ().markInterested ();
-        parameter.modulatedValue ().markInterested ();
+        Util.markInterested (observerBudget, OBSERVER_GROUP, parameter.exists (), parameter.name (), parameter.value ());
+        if (this.observeModulation)
+            Util.markInterested (observerBudget, OBSERVER_GROUP, parameter.modulatedValue ());
     }
 
 
@@ -79,7 +100,8 @@ public class ParameterImpl extends RangedValueImpl
         Util.setIsSubscribed (this.parameter.exists (), enable);
         Util.setIsSubscribed (this.parameter.name (), enable);
         Util.setIsSubscribed (this.parameter.value (), enable);
-        Util.setIsSubscribed (this.parameter.modulatedValue (), enable);
+        if (this.observeModulation)
+            Util.setIsSubscribed (this.parameter.modulatedValue (), enable);
     }
 
 
@@ -146,8 +168,11 @@ public class ParameterImpl extends RangedValueImpl
     @Override
     public int getModulatedValue ()
     {
-        final double value = this.targetModulatedValue == null ? this.parameter.modulatedValue ().get () : this.targetModulatedValue.get ();
-        return this.valueChanger.fromNormalizedValue (value);
+        if (this.targetModulatedValue != null)
+            return this.valueChanger.fromNormalizedValue (this.targetModulatedValue.get ());
+        if (!this.observeModulation)
+            return this.getValue ();
+        return this.valueChanger.fromNormalizedValue (this.parameter.modulatedValue ().get ());
     }
 
 
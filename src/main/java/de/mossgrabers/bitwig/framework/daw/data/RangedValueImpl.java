@@ -5,6 +5,8 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.controller.valuechanger.TickRateTracker;
+import de.mossgrabers.framework.daw.ObserverBudget;
 import de.mossgrabers.framework.daw.data.AbstractParameterImpl;
 
 import com.bitwig.extension.controller.api.DoubleValue;
@@ -22,6 +24,7 @@ public class RangedValueImpl extends AbstractParameterImpl
     protected final IValueChanger       valueChanger;
     protected final SettableRangedValue rangedValue;
     protected final String              name;
+    private final TickRateTracker       tickRateTracker = new TickRateTracker (this::inc);
 
     protected StringValue               targetName;
     protected StringValue               targetDisplayedValue;
@@ -51,6 +54,22 @@ public class RangedValueImpl extends AbstractParameterImpl
      * @param index The index of the item in a page
      */
     public RangedValueImpl (final String name, final IValueChanger valueChanger, final SettableRangedValue rangedValue, final int index)
+    {
+        this (name, valueChanger, rangedValue, index, null, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the value
+     * @param valueChanger The value changer
+     * @param rangedValue The ranged value
+     * @param index The index of the item in a page
+     * @param observerBudget The budget in which to count the observers, may be null
+     * @param observerGroup The group in which to count the observers
+     */
+    public RangedValueImpl (final String name, final IValueChanger valueChanger, final SettableRangedValue rangedValue, final int index, final ObserverBudget observerBudget, final String observerGroup)
     {
         super (index);
 
@@ -59,8 +78,7 @@ public class RangedValueImpl extends AbstractParameterImpl
         this.valueChanger = valueChanger;
         this.rangedValue = rangedValue;
 
-        this.rangedValue.markInterested ();
-        this.rangedValue.displayedValue ().markInterested ();
+        Util.markInterested (observerBudget, observerGroup, this.rangedValue, this.rangedValue.displayedValue ());
     }
 
 
@@ -150,7 +168,7 @@ public class RangedValueImpl extends AbstractParameterImpl
     @Override
     public void changeValue (final int value)
     {
-        this.inc (this.valueChanger.calcKnobChange (value));
+        this.valueChanger.queueKnobChange (value, this.tickRateTracker);
     }
 
 
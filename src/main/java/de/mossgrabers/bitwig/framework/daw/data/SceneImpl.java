@@ -5,9 +5,11 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.ObserverBudget;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.ObservedValue;
 
 import com.bitwig.extension.controller.api.Scene;
 import com.bitwig.extension.controller.api.SettableColorValue;
@@ -20,7 +22,10 @@ import com.bitwig.extension.controller.api.SettableColorValue;
  */
 public class SceneImpl extends AbstractItemImpl implements IScene
 {
-    private final Scene scene;
+    private static final String OBSERVER_GROUP = "Scenes";
+
+    private final Scene         scene;
+    private final boolean       observeColor;
 
 
     /**
@@ -28,18 +33,21 @@ public class SceneImpl extends AbstractItemImpl implements IScene
      *
      * @param scene The scene
      * @param index The index of the scene
+     * @param observerBudget The budget which counts the observers and decides if the color is
+     *            observed
      */
-    public SceneImpl (final Scene scene, final int index)
+    public SceneImpl (final Scene scene, final int index, final ObserverBudget observerBudget)
     {
         super (index);
 
         this.scene = scene;
+        this.observeColor = observerBudget.isObserved (ObservedValue.COLORS);
 
-        scene.exists ().markInterested ();
-        scene.name ().markInterested ();
-        scene.sceneIndex ().markInterested ();
-        scene.color ().markInterested ();
+        Util.markInterested (observerBudget, OBSERVER_GROUP, scene.exists (), scene.name (), scene.sceneIndex ());
+        if (this.observeColor)
+            Util.markInterested (observerBudget, OBSERVER_GROUP, scene.color ());
         scene.addIsSelectedInEditorObserver (this::setSelected);
+        observerBudget.addObservers (OBSERVER_GROUP, 1);
     }
 
 
@@ -50,7 +58,8 @@ public class SceneImpl extends AbstractItemImpl implements IScene
         Util.setIsSubscribed (this.scene.exists (), enable);
         Util.setIsSubscribed (this.scene.name (), enable);
         Util.setIsSubscribed (this.scene.sceneIndex (), enable);
-        Util.setIsSubscribed (this.scene.color (), enable);
+        if (this.observeColor)
+            Util.setIsSubscribed (this.scene.color (), enable);
     }
 
 
@@ -98,6 +107,9 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public ColorEx getColor ()
     {
+        if (!this.observeColor)
+            return ColorEx.BLACK;
+
         final SettableColorValue color = this.scene.color ();
         return new ColorEx (color.red (), color.green (), color.blue ());
     }
@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.ObserverBudget;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.bank.ISendBank;
 
@@ -28,10 +29,11 @@ public class SendImpl extends ParameterImpl implements ISend
      * @param valueChanger The value changer
      * @param send The send
      * @param index The index of the send
+     * @param observerBudget The budget for the observers
      */
-    public SendImpl (final ISendBank sendBank, final IValueChanger valueChanger, final Send send, final int index)
+    public SendImpl (final ISendBank sendBank, final IValueChanger valueChanger, final Send send, final int index, final ObserverBudget observerBudget)
     {
-        super (valueChanger, send, index);
+        super (valueChanger, send, index, false, observerBudget);
 
         this.sendBank = sendBank;
     }
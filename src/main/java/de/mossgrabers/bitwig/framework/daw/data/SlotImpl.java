@@ -5,10 +5,12 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.ObserverBudget;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.ObservedValue;
 
 import com.bitwig.extension.controller.api.ClipLauncherSlot;
 import com.bitwig.extension.controller.api.ColorValue;
@@ -21,8 +23,11 @@ import com.bitwig.extension.controller.api.ColorValue;
  */
 public class SlotImpl extends AbstractItemImpl implements ISlot
 {
+    private static final String    OBSERVER_GROUP = "Clip slots";
+
     private final ITrack           track;
     private final ClipLauncherSlot slot;
+    private final boolean          observeColor;
 
 
     /**
@@ -31,27 +36,23 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
      * @param track The track which contains the slot
      * @param slot The slot
      * @param index The index of the slot
+     * @param observerBudget The budget which counts the observers and decides if the color is
+     *            observed
      */
-    public SlotImpl (final ITrack track, final ClipLauncherSlot slot, final int index)
+    public SlotImpl (final ITrack track, final ClipLauncherSlot slot, final int index, final ObserverBudget observerBudget)
     {
         super (index);
 
         this.track = track;
         this.slot = slot;
+        this.observeColor = observerBudget.isObserved (ObservedValue.COLORS);
 
-        slot.exists ().markInterested ();
-        slot.sceneIndex ().markInterested ();
-        slot.name ().markInterested ();
-        slot.hasContent ().markInterested ();
-        slot.color ().markInterested ();
+        Util.markInterested (observerBudget, OBSERVER_GROUP, slot.exists (), slot.sceneIndex (), slot.name (), slot.hasContent ());
+        if (this.observeColor)
+            Util.markInterested (observerBudget, OBSERVER_GROUP, slot.color ());
 
         // States
-        slot.isPlaying ().markInterested ();
-        slot.isPlaybackQueued ().markInterested ();
-        slot.isRecording ().markInterested ();
-        slot.isRecordingQueued ().markInterested ();
-        slot.isStopQueued ().markInterested ();
-        slot.isSelected ().markInterested ();
+        Util.markInterested (observerBudget, OBSERVER_GROUP, slot.isPlaying (), slot.isPlaybackQueued (), slot.isRecording (), slot.isRecordingQueued (), slot.isStopQueued (), slot.isSelected ());
     }
 
 
@@ -63,7 +64,8 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         Util.setIsSubscribed (this.slot.sceneIndex (), enable);
         Util.setIsSubscribed (this.slot.name (), enable);
         Util.setIsSubscribed (this.slot.hasContent (), enable);
-        Util.setIsSubscribed (this.slot.color (), enable);
+        if (this.observeColor)
+            Util.setIsSubscribed (this.slot.color (), enable);
         Util.setIsSubscribed (this.slot.isPlaying (), enable);
         Util.setIsSubscribed (this.slot.isPlaybackQueued (), enable);
         Util.setIsSubscribed (this.slot.isRecording (), enable);
@@ -176,6 +178,8 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         // TODO API extension required - https://github.com/teotigraphix/Framework4Bitwig/issues/218
         if (this.track.isGroup ())
             return this.track.getColor ();
+        if (!this.observeColor)
+            return ColorEx.BLACK;
 
         final ColorValue color = this.slot.color ();
         return new ColorEx (color.red (), color.green (), color.blue ());
@@ -8,6 +8,7 @@ import de.mossgrabers.bitwig.framework.daw.ApplicationImpl;
 import de.mossgrabers.bitwig.framework.daw.data.bank.SlotBankImpl;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ObserverBudget;
 import de.mossgrabers.framework.daw.constants.RecordQuantization;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
@@ -32,17 +33,19 @@ import java.util.Set;
  */
 public class TrackImpl extends ChannelImpl implements ITrack
 {
-    protected static final int       NOTE_OFF      = 0;
-    protected static final int       NOTE_ON       = 1;
-    protected static final int       NOTE_ON_NEW   = 2;
+    protected static final int       NOTE_OFF       = 0;
+    protected static final int       NOTE_ON        = 1;
+    protected static final int       NOTE_ON_NEW    = 2;
+
+    private static final String      OBSERVER_GROUP = "Tracks";
 
     protected final Track            track;
 
     private final BooleanValue       isTopGroup;
     private final ApplicationImpl    application;
     private final ISlotBank          slotBank;
-    private final int []             noteCache     = new int [128];
-    private final Set<INoteObserver> noteObservers = new HashSet<> ();
+    private final int []             noteCache      = new int [128];
+    private final Set<INoteObserver> noteObservers  = new HashSet<> ();
     private final CursorTrack        cursorTrack;
     private final IHost              host;
 
@@ -78,20 +81,13 @@ public class TrackImpl extends ChannelImpl implements ITrack
         this.track = track;
         this.application = application;
 
-        track.trackType ().markInterested ();
-        track.position ().markInterested ();
-        track.isGroup ().markInterested ();
-        track.arm ().markInterested ();
-        track.monitor ().markInterested ();
-        track.autoMonitor ().markInterested ();
-        track.crossFadeMode ().markInterested ();
-        track.canHoldNoteData ().markInterested ();
-        track.canHoldAudioData ().markInterested ();
-        track.isStopped ().markInterested ();
+        final ObserverBudget observerBudget = host.getObserverBudget ();
+        Util.markInterested (observerBudget, OBSERVER_GROUP, track.trackType (), track.position (), track.isGroup (), track.arm (), track.monitor (), track.autoMonitor (), track.crossFadeMode (), track.canHoldNoteData (), track.canHoldAudioData (), track.isStopped ());
         track.playingNotes ().addValueObserver (this::handleNotes);
+        observerBudget.addObservers (OBSERVER_GROUP, 1);
 
         this.isTopGroup = track.createParentTrack (0, 0).createEqualsValue (rootGroup);
-        this.isTopGroup.markInterested ();
+        Util.markInterested (observerBudget, OBSERVER_GROUP, this.isTopGroup);
 
         this.slotBank = new SlotBankImpl (host, valueChanger, this, track.clipLauncherSlotBank (), numScenes);
 
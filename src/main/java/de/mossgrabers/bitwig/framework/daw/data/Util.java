@@ -4,7 +4,10 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.framework.daw.ObserverBudget;
+
 import com.bitwig.extension.controller.api.Subscribable;
+import com.bitwig.extension.controller.api.Value;
 
 
 /**
@@ -36,4 +39,20 @@ public final class Util
         else
             subscribable.unsubscribe ();
     }
+
+
+    /**
+     * Marks values as interested and counts them in the observer budget.
+     *
+     * @param observerBudget The budget in which to count the observers, may be null
+     * @param group The name of the group in which to count the observers
+     * @param values The values to mark as interested
+     */
+    public static void markInterested (final ObserverBudget observerBudget, final String group, final Value<?>... values)
+    {
+        for (final Value<?> value: values)
+            value.markInterested ();
+        if (observerBudget != null)
+            observerBudget.addObservers (group, values.length);
+    }
 }
@@ -45,10 +45,9 @@ public abstract class AbstractItemBankImpl<B extends Bank<?>, T extends IItem> e
         if (this.bank == null)
             return;
 
-        this.bank.scrollPosition ().markInterested ();
-        this.bank.canScrollBackwards ().markInterested ();
-        this.bank.canScrollForwards ().markInterested ();
-        this.bank.itemCount ().markInterested ();
+        final String observerGroup = this.getClass ().getSimpleName ();
+        Util.markInterested (host.getObserverBudget (), observerGroup, this.bank.scrollPosition (), this.bank.canScrollBackwards (), this.bank.canScrollForwards (), this.bank.itemCount ());
+        host.getObserverBudget ().addBankSlots (observerGroup, pageSize);
     }
 
 
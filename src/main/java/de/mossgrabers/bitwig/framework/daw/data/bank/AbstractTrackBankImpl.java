@@ -29,6 +29,7 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
     private final ApplicationImpl application;
     protected final CursorTrack   cursorTrack;
     private final Track           rootGroup;
+    private int                   selectedIndex = -1;
 
 
     /**
@@ -107,6 +108,15 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ITrack getSelectedItem ()
+    {
+        // Called for every played note, therefore the index is cached instead of searching
+        return this.selectedIndex < 0 ? null : this.items.get (this.selectedIndex);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isClipRecording ()
@@ -133,6 +143,10 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
     private void handleBankSelection (final int index, final boolean isSelected)
     {
         this.getItem (index).setSelected (isSelected);
+        if (isSelected)
+            this.selectedIndex = index;
+        else if (this.selectedIndex == index)
+            this.selectedIndex = -1;
         this.notifySelectionObservers (index, isSelected);
     }
 }
\ No newline at end of file
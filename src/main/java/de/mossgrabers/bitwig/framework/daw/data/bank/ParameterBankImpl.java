@@ -48,12 +48,11 @@ public class ParameterBankImpl extends AbstractItemBank<IParameter> implements I
         this.remoteControls = remoteControlsPage;
 
         for (int i = 0; i < this.getPageSize (); i++)
-            this.items.add (new ParameterImpl (this.valueChanger, this.remoteControls.getParameter (i), i, true));
+            this.items.add (new ParameterImpl (this.valueChanger, this.remoteControls.getParameter (i), i, true, host.getObserverBudget ()));
 
-        this.remoteControls.hasPrevious ().markInterested ();
-        this.remoteControls.hasNext ().markInterested ();
-        this.remoteControls.selectedPageIndex ().markInterested ();
-        this.remoteControls.pageCount ().markInterested ();
+        final String observerGroup = this.getClass ().getSimpleName ();
+        Util.markInterested (host.getObserverBudget (), observerGroup, this.remoteControls.hasPrevious (), this.remoteControls.hasNext (), this.remoteControls.selectedPageIndex (), this.remoteControls.pageCount ());
+        host.getObserverBudget ().addBankSlots (observerGroup, numParams);
     }
 
 
@@ -33,7 +33,7 @@ public class SceneBankImpl extends AbstractItemBankImpl<SceneBank, IScene> imple
         super (host, valueChanger, sceneBank, numScenes);
 
         for (int i = 0; i < this.getPageSize (); i++)
-            this.items.add (new SceneImpl (this.bank.getItemAt (i), i));
+            this.items.add (new SceneImpl (this.bank.getItemAt (i), i, host.getObserverBudget ()));
     }
 
 
@@ -33,6 +33,6 @@ public class SendBankImpl extends AbstractItemBankImpl<SendBank, ISend> implemen
         super (host, valueChanger, sendBank, numSends);
 
         for (int i = 0; i < this.getPageSize (); i++)
-            this.items.add (new SendImpl (this, this.valueChanger, this.bank.getItemAt (i), i));
+            this.items.add (new SendImpl (this, this.valueChanger, this.bank.getItemAt (i), i, this.host.getObserverBudget ()));
     }
 }
\ No newline at end of file
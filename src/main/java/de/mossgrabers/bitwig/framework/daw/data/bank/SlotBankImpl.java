@@ -40,7 +40,7 @@ public class SlotBankImpl extends AbstractItemBankImpl<ClipLauncherSlotBank, ISl
         this.track = track;
 
         for (int i = 0; i < this.getPageSize (); i++)
-            this.items.add (new SlotImpl (this.track, this.bank.getItemAt (i), i));
+            this.items.add (new SlotImpl (this.track, this.bank.getItemAt (i), i, host.getObserverBudget ()));
     }
 
 
@@ -49,7 +49,7 @@ public class UserParameterBankImpl extends AbstractBank<IParameter> implements I
 
         final int itemCount = numPages * numParamsPerPage;
         for (int i = 0; i < itemCount; i++)
-            this.items.add (new ParameterImpl (this.valueChanger, this.userControlBank.getControl (i), i));
+            this.items.add (new ParameterImpl (this.valueChanger, this.userControlBank.getControl (i), i, false, host.getObserverBudget ()));
     }
 
 
@@ -262,6 +262,24 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setClip (final double left, final double top, final double width, final double height)
+    {
+        this.gc.save ();
+        this.gc.rectangle (left, top, Math.max (0, width), Math.max (0, height));
+        this.gc.clip ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.gc.restore ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
@@ -20,6 +20,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.MidiShortCallback;
 import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+import de.mossgrabers.framework.daw.midi.MidiTrace;
 
 import com.bitwig.extension.controller.api.AbsoluteHardwareControl;
 import com.bitwig.extension.controller.api.AbsoluteHardwareValueMatcher;
@@ -41,8 +42,11 @@ import com.bitwig.extension.controller.api.RelativeHardwareValueMatcher;
  */
 public class MidiInputImpl implements IMidiInput
 {
-    private MidiIn        port;
-    private NoteInputImpl defaultNoteInput;
+    private MidiIn             port;
+    private NoteInputImpl      defaultNoteInput;
+    private MidiShortCallback  midiCallback;
+    private MidiSysExCallback  sysexCallback;
+    private volatile MidiTrace trace;
 
 
     /**
@@ -78,7 +82,8 @@ public class MidiInputImpl implements IMidiInput
     @Override
     public void setMidiCallback (final MidiShortCallback callback)
     {
-        this.port.setMidiCallback (callback::handleMidi);
+        this.midiCallback = callback;
+        this.port.setMidiCallback (this::replayMidi);
     }
 
 
@@ -86,7 +91,40 @@ public class MidiInputImpl implements IMidiInput
     @Override
     public void setSysexCallback (final MidiSysExCallback callback)
     {
-        this.port.setSysexCallback (callback::handleMidi);
+        this.sysexCallback = callback;
+        this.port.setSysexCallback (this::replaySysex);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setTrace (final MidiTrace trace)
+    {
+        this.trace = trace;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void replayMidi (final int status, final int data1, final int data2)
+    {
+        final MidiTrace t = this.trace;
+        if (t != null)
+            t.recordMidi (true, status, data1, data2);
+        if (this.midiCallback != null)
+            this.midiCallback.handleMidi (status, data1, data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void replaySysex (final String data)
+    {
+        final MidiTrace t = this.trace;
+        if (t != null)
+            t.recordSysex (true, data);
+        if (this.sysexCallback != null)
+            this.sysexCallback.handleMidi (data);
     }
 
 
@@ -5,6 +5,8 @@
 package de.mossgrabers.bitwig.framework.midi;
 
 import de.mossgrabers.framework.daw.midi.AbstractMidiOutputImpl;
+import de.mossgrabers.framework.daw.midi.MidiTrace;
+import de.mossgrabers.framework.utils.PerformanceMetrics.Counter;
 
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.MidiOut;
@@ -47,7 +49,19 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
     @Override
     public void sendSysex (final byte [] data)
     {
+        final MidiTrace capture = this.captureTrace;
+        if (capture != null)
+        {
+            capture.recordSysex (false, data);
+            return;
+        }
+
         this.port.sendSysex (data);
+        this.metrics.add (Counter.SYSEX_BYTES_OUT, data.length);
+
+        final MidiTrace t = this.trace;
+        if (t != null)
+            t.recordSysex (false, data);
     }
 
 
@@ -55,7 +69,20 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
     @Override
     public void sendSysex (final String data)
     {
+        final MidiTrace capture = this.captureTrace;
+        if (capture != null)
+        {
+            capture.recordSysex (false, data);
+            return;
+        }
+
         this.port.sendSysex (data);
+        // Formatted as hex bytes separated by a space
+        this.metrics.add (Counter.SYSEX_BYTES_OUT, (data.length () + 1) / 3);
+
+        final MidiTrace t = this.trace;
+        if (t != null)
+            t.recordSysex (false, data);
     }
 
 
@@ -63,6 +90,18 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
     @Override
     protected void sendMidiShort (final int status, final int data1, final int data2)
     {
+        final MidiTrace capture = this.captureTrace;
+        if (capture != null)
+        {
+            capture.recordMidi (false, status, data1, data2);
+            return;
+        }
+
         this.port.sendMidi (status, data1, data2);
+        this.metrics.add (Counter.MIDI_BYTES_OUT, 3);
+
+        final MidiTrace t = this.trace;
+        if (t != null)
+            t.recordMidi (false, status, data1, data2);
     }
 }
\ No newline at end of file
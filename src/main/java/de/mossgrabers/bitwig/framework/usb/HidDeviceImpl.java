@@ -24,8 +24,12 @@ import java.nio.ByteBuffer;
  */
 public class HidDeviceImpl implements IHidDevice
 {
-    private HidDevice hidDevice;
-    private boolean   isOpen;
+    private HidDevice         hidDevice;
+    private boolean           isOpen;
+
+    /** Re-usable send buffers indexed by the report ID. */
+    private final byte [] []  outputReportBuffers  = new byte [256] [];
+    private final byte [] []  featureReportBuffers = new byte [256] [];
 
 
     /**
@@ -65,35 +69,29 @@ public class HidDeviceImpl implements IHidDevice
 
     /** {@inheritDoc} */
     @Override
-    public int sendOutputReport (final byte reportID, final IMemoryBlock memoryBlock)
+    public synchronized int sendOutputReport (final byte reportID, final IMemoryBlock memoryBlock)
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
 
         // purehid documentation says otherwise but MAC also needs the report ID in
         // data[0], therefore add it
-        byte [] d = data;
-        int l = data.length;
+        final byte [] data;
         if (OperatingSystem.get () == OperatingSystem.MAC)
-        {
-            l++;
-            d = new byte [l];
-            d[0] = reportID;
-            System.arraycopy (data, 0, d, 1, data.length);
-        }
-
-        return this.hidDevice.setOutputReport (reportID, d, d.length);
+            data = fillBuffer (this.outputReportBuffers, reportID, memoryBlock, 1);
+        else
+            data = getData (this.outputReportBuffers, reportID, memoryBlock);
+        return this.hidDevice.setOutputReport (reportID, data, data.length);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public int sendFeatureReport (final byte reportID, final IMemoryBlock memoryBlock)
+    public synchronized int sendFeatureReport (final byte reportID, final IMemoryBlock memoryBlock)
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
+        final byte [] data = getData (this.featureReportBuffers, reportID, memoryBlock);
         return this.hidDevice.setFeatureReport (reportID, data, data.length);
     }
 
@@ -133,13 +131,50 @@ public class HidDeviceImpl implements IHidDevice
     }
 
 
-    private static byte [] toBuffer (final IMemoryBlock memoryBlock)
+    /**
+     * Get the data of the memory block. If the memory block is backed by an array it is used
+     * directly otherwise the data is copied into the re-usable buffer of the report.
+     *
+     * @param buffers The re-usable buffers indexed by the report ID
+     * @param reportID The report ID
+     * @param memoryBlock The memory block with the data
+     * @return The data to send
+     */
+    private static byte [] getData (final byte [] [] buffers, final byte reportID, final IMemoryBlock memoryBlock)
+    {
+        final byte [] backingArray = memoryBlock.getBackingArray ();
+        return backingArray == null ? fillBuffer (buffers, reportID, memoryBlock, 0) : backingArray;
+    }
+
+
+    /**
+     * Copy the data of the memory block into the re-usable buffer of the report. The buffer is only
+     * (re-)created if the size of the data has changed.
+     *
+     * @param buffers The re-usable buffers indexed by the report ID
+     * @param reportID The report ID
+     * @param memoryBlock The memory block with the data
+     * @param offset If 1 the report ID is written to the first byte of the buffer followed by the
+     *            data, use 0 for no report ID
+     * @return The filled buffer
+     */
+    private static byte [] fillBuffer (final byte [] [] buffers, final byte reportID, final IMemoryBlock memoryBlock, final int offset)
     {
-        final ByteBuffer buffer = memoryBlock.createByteBuffer ();
-        final int size = buffer.capacity ();
-        final byte [] data = new byte [size];
-        buffer.rewind ();
-        buffer.get (data);
+        final ByteBuffer source = memoryBlock.createByteBuffer ();
+        final int size = source.capacity ();
+        final int index = Byte.toUnsignedInt (reportID);
+
+        byte [] data = buffers[index];
+        if (data == null || data.length != size + offset)
+        {
+            data = new byte [size + offset];
+            buffers[index] = data;
+        }
+
+        if (offset > 0)
+            data[0] = reportID;
+        source.rewind ();
+        source.get (data, offset, size);
         return data;
     }
 }
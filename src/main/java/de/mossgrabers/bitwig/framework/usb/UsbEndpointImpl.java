@@ -64,18 +64,19 @@ public class UsbEndpointImpl implements IUsbEndpoint
     @Override
     public void sendAsync (final IMemoryBlock memoryBlock, final IUsbCallback callback, final int timeout)
     {
-        if (this.endpoint.direction () != UsbTransferDirection.IN)
-            return;
-
         try
         {
-            ((UsbInputPipe) this.endpoint).readAsync (((MemoryBlockImpl) memoryBlock).getMemoryBlock (), callback::process, timeout);
+            if (this.endpoint.direction () == UsbTransferDirection.OUT)
+                ((UsbOutputPipe) this.endpoint).writeAsync (((MemoryBlockImpl) memoryBlock).getMemoryBlock (), callback::process, timeout);
+            else
+                ((UsbInputPipe) this.endpoint).readAsync (((MemoryBlockImpl) memoryBlock).getMemoryBlock (), callback::process, timeout);
         }
         catch (final RuntimeException ex)
         {
             // Can only catch RuntimeException since it is a Bitwig internal Exception that is
             // thrown
-            this.host.error ("Could not read USB memory block.", ex);
+            this.host.error ("Could not transfer USB memory block.", ex);
+            callback.process (-1);
         }
     }
 }
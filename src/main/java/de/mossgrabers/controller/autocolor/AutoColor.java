@@ -8,11 +8,7 @@ import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 
-import java.util.ArrayList;
 import java.util.EnumMap;
-import java.util.List;
-import java.util.Map.Entry;
-import java.util.regex.Pattern;
 
 
 /**
@@ -25,9 +21,15 @@ import java.util.regex.Pattern;
  */
 public class AutoColor
 {
-    private final EnumMap<DAWColor, List<Pattern>> colorRegex = new EnumMap<> (DAWColor.class);
-    private final AutoColorConfiguration           configuration;
-    private ITrackBank                             trackBank;
+    private final EnumMap<DAWColor, String> searchStrings = new EnumMap<> (DAWColor.class);
+    private final AutoColorConfiguration    configuration;
+    private TrackNameMatcher                matcher       = new TrackNameMatcher (this.searchStrings);
+    private ITrackBank                      trackBank;
+
+    /** The track names which were matched last, to only match again if the name has changed. */
+    private String []                       trackNames    = new String [0];
+    /** The matched colors of the track names, null if none matched. */
+    private DAWColor []                     trackColors   = new DAWColor [0];
 
 
     /**
@@ -49,20 +51,16 @@ public class AutoColor
      */
     public void handleRegExChange (final DAWColor color, final String filter)
     {
-        if (!this.configuration.isEnableAutoColor ())
-            return;
-
-        final List<Pattern> patterns = new ArrayList<> ();
-        if (filter != null && !filter.trim ().isEmpty ())
-        {
-            for (final String part: filter.split (","))
-                patterns.add (Pattern.compile (".*" + Pattern.quote (part.trim ()) + ".*"));
-        }
-        synchronized (this.colorRegex)
+        synchronized (this.searchStrings)
         {
-            this.colorRegex.put (color, patterns);
-            if (!patterns.isEmpty ())
-                this.updateTracks (color, patterns);
+            if (filter == null || filter.isBlank ())
+                this.searchStrings.remove (color);
+            else
+                this.searchStrings.put (color, filter);
+            this.matcher = new TrackNameMatcher (this.searchStrings);
+
+            if (this.configuration.isEnableAutoColor ())
+                this.updateTracks (color);
         }
     }
 
@@ -75,63 +73,45 @@ public class AutoColor
      */
     public void matchTrackName (final int channelIndex, final String trackName)
     {
-        if (this.configuration.isEnableAutoColor () && !trackName.trim ().isEmpty ())
-            this.matchColorsToTrack (this.trackBank.getItem (channelIndex), trackName);
-    }
-
+        if (!this.configuration.isEnableAutoColor () || trackName.isBlank ())
+            return;
 
-    /**
-     * Updates all tracks (in the page) for a color.
-     *
-     * @param color The color to match for
-     * @param patterns The patterns to match
-     */
-    private void updateTracks (final DAWColor color, final List<Pattern> patterns)
-    {
-        for (int i = 0; i < this.trackBank.getPageSize (); i++)
+        final DAWColor color;
+        synchronized (this.searchStrings)
         {
-            final ITrack track = this.trackBank.getItem (i);
-            matchColorToTrack (track, track.getName (), color, patterns);
+            if (trackName.equals (this.trackNames[channelIndex]))
+                color = this.trackColors[channelIndex];
+            else
+            {
+                color = this.matcher.match (trackName);
+                this.trackNames[channelIndex] = trackName;
+                this.trackColors[channelIndex] = color;
+            }
         }
-    }
-
 
-    /**
-     * Tests a track against all color patterns.
-     *
-     * @param track The track to test
-     * @param trackName The name of the track (the track name of the track might not yet beend
-     *            updated)
-     */
-    private void matchColorsToTrack (final ITrack track, final String trackName)
-    {
-        synchronized (this.colorRegex)
-        {
-            for (final Entry<DAWColor, List<Pattern>> e: this.colorRegex.entrySet ())
-                matchColorToTrack (track, trackName, e.getKey (), e.getValue ());
-        }
+        if (color != null)
+            this.trackBank.getItem (channelIndex).setColor (color.getColor ());
     }
 
 
     /**
-     * Tests a track for all given patterns and assigns the given color if it matches one of the
-     * patterns.
+     * Matches all tracks (in the page) again after the search strings of a color have changed.
+     * Only tracks which now match a different color or the changed color are updated.
      *
-     * @param track The track to test
-     * @param trackName The name of the track (the track name of the track might not yet beend
-     *            updated)
-     * @param color The color to apply
-     * @param patterns The pattern to test against
+     * @param changedColor The color of which the search strings have changed
      */
-    private static void matchColorToTrack (final ITrack track, final String trackName, final DAWColor color, final List<Pattern> patterns)
+    private void updateTracks (final DAWColor changedColor)
     {
-        for (final Pattern pattern: patterns)
+        for (int i = 0; i < this.trackBank.getPageSize (); i++)
         {
-            if (pattern.matcher (trackName).matches ())
-            {
+            final ITrack track = this.trackBank.getItem (i);
+            final String trackName = track.getName ();
+            final DAWColor color = this.matcher.match (trackName);
+            final DAWColor oldColor = this.trackColors[i];
+            this.trackNames[i] = trackName;
+            this.trackColors[i] = color;
+            if (color != null && (color != oldColor || color == changedColor))
                 track.setColor (color.getColor ());
-                break;
-            }
         }
     }
 
@@ -144,5 +124,12 @@ public class AutoColor
     public void setTrackBank (final ITrackBank trackBank)
     {
         this.trackBank = trackBank;
+
+        final int size = trackBank.getPageSize ();
+        synchronized (this.searchStrings)
+        {
+            this.trackNames = new String [size];
+            this.trackColors = new DAWColor [size];
+        }
     }
 }
@@ -0,0 +1,195 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.autocolor;
+
+import de.mossgrabers.framework.daw.DAWColor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+
+
+/**
+ * Finds the color for a track name by testing the name against the search strings of all colors.
+ * All search strings are compiled into one automaton (Aho-Corasick), therefore the name is only
+ * scanned once no matter how many search strings are set. If the search strings of several colors
+ * match, the color with the highest index wins (as if the colors were applied one after the other).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TrackNameMatcher
+{
+    private static final int              NO_MATCH   = -1;
+    private static final int              ASCII_SIZE = 128;
+
+    private static final DAWColor []      COLORS     = DAWColor.values ();
+
+    /** The index into the transition table for ASCII characters, 0 if not part of a keyword. */
+    private final int []                  asciiIndex = new int [ASCII_SIZE];
+    /** The index into the transition table for all other characters. */
+    private final Map<Character, Integer> otherIndex = new HashMap<> ();
+    /** The state transitions, first index is the state, second the character index. */
+    private final int [] []               transitions;
+    /** The highest color ordinal which matches when reaching a state. */
+    private final int []                  outputs;
+
+
+    /**
+     * Constructor.
+     *
+     * @param searchStrings The comma separated search strings for all colors
+     */
+    public TrackNameMatcher (final Map<DAWColor, String> searchStrings)
+    {
+        final List<int []> gotos = new ArrayList<> ();
+        final List<Integer> stateOutputs = new ArrayList<> ();
+        gotos.add (null);
+        stateOutputs.add (Integer.valueOf (NO_MATCH));
+
+        // Collect all characters first to get the size of the alphabet
+        int alphabetSize = 1;
+        final List<String> keywords = new ArrayList<> ();
+        final List<DAWColor> keywordColors = new ArrayList<> ();
+        for (final Entry<DAWColor, String> e: searchStrings.entrySet ())
+        {
+            for (final String keyword: split (e.getValue ()))
+            {
+                keywords.add (keyword);
+                keywordColors.add (e.getKey ());
+                for (int i = 0; i < keyword.length (); i++)
+                {
+                    final char c = keyword.charAt (i);
+                    if (this.getCharacterIndex (c) == 0)
+                    {
+                        if (c < ASCII_SIZE)
+                            this.asciiIndex[c] = alphabetSize;
+                        else
+                            this.otherIndex.put (Character.valueOf (c), Integer.valueOf (alphabetSize));
+                        alphabetSize++;
+                    }
+                }
+            }
+        }
+
+        // Build the trie
+        for (int k = 0; k < keywords.size (); k++)
+        {
+            final String keyword = keywords.get (k);
+            int state = 0;
+            for (int i = 0; i < keyword.length (); i++)
+            {
+                if (gotos.get (state) == null)
+                    gotos.set (state, new int [alphabetSize]);
+                final int [] next = gotos.get (state);
+                final int ci = this.getCharacterIndex (keyword.charAt (i));
+                if (next[ci] == 0)
+                {
+                    next[ci] = gotos.size ();
+                    gotos.add (null);
+                    stateOutputs.add (Integer.valueOf (NO_MATCH));
+                }
+                state = next[ci];
+            }
+            final int ordinal = keywordColors.get (k).ordinal ();
+            stateOutputs.set (state, Integer.valueOf (Math.max (stateOutputs.get (state).intValue (), ordinal)));
+        }
+
+        // Calculate the failure links breadth first and create the complete transition table
+        final int numStates = gotos.size ();
+        this.transitions = new int [numStates] [alphabetSize];
+        this.outputs = new int [numStates];
+        final int [] failures = new int [numStates];
+        for (int s = 0; s < numStates; s++)
+            this.outputs[s] = stateOutputs.get (s).intValue ();
+
+        final Queue<Integer> queue = new ArrayDeque<> ();
+        final int [] rootGotos = gotos.get (0);
+        if (rootGotos != null)
+        {
+            for (int ci = 0; ci < alphabetSize; ci++)
+            {
+                final int next = rootGotos[ci];
+                this.transitions[0][ci] = next;
+                if (next != 0)
+                    queue.add (Integer.valueOf (next));
+            }
+        }
+
+        while (!queue.isEmpty ())
+        {
+            final int state = queue.poll ().intValue ();
+            final int [] stateGotos = gotos.get (state);
+            for (int ci = 0; ci < alphabetSize; ci++)
+            {
+                final int next = stateGotos == null ? 0 : stateGotos[ci];
+                if (next == 0)
+                {
+                    this.transitions[state][ci] = this.transitions[failures[state]][ci];
+                    continue;
+                }
+                failures[next] = this.transitions[failures[state]][ci];
+                this.outputs[next] = Math.max (this.outputs[next], this.outputs[failures[next]]);
+                this.transitions[state][ci] = next;
+                queue.add (Integer.valueOf (next));
+            }
+        }
+    }
+
+
+    /**
+     * Get the color for a track name.
+     *
+     * @param trackName The name of the track
+     * @return The color of the matching search string with the highest color index or null if no
+     *         search string matches
+     */
+    public DAWColor match (final String trackName)
+    {
+        int best = NO_MATCH;
+        int state = 0;
+        for (int i = 0; i < trackName.length (); i++)
+        {
+            state = this.transitions[state][this.getCharacterIndex (trackName.charAt (i))];
+            if (this.outputs[state] > best)
+                best = this.outputs[state];
+        }
+        return best == NO_MATCH ? null : COLORS[best];
+    }
+
+
+    private int getCharacterIndex (final char c)
+    {
+        if (c < ASCII_SIZE)
+            return this.asciiIndex[c];
+        final Integer index = this.otherIndex.get (Character.valueOf (c));
+        return index == null ? 0 : index.intValue ();
+    }
+
+
+    /**
+     * Split the comma separated search strings. Empty search strings are ignored.
+     *
+     * @param searchStrings The search strings
+     * @return The individual search strings
+     */
+    private static List<String> split (final String searchStrings)
+    {
+        if (searchStrings == null || searchStrings.isBlank ())
+            return List.of ();
+
+        final List<String> result = new ArrayList<> ();
+        for (final String part: searchStrings.split (","))
+        {
+            final String keyword = part.trim ();
+            if (!keyword.isEmpty ())
+                result.add (keyword);
+        }
+        return result;
+    }
+}
@@ -103,6 +103,7 @@ public class FireConfiguration extends AbstractConfiguration
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+        this.activateKnobAccelerationSetting (globalSettings);
 
         ///////////////////////////
         // Hardware
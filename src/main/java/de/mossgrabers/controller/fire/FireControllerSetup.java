@@ -50,6 +50,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.AccelerationCurve;
 import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITransport;
@@ -103,6 +104,7 @@ public class FireControllerSetup extends AbstractControllerSetup<FireControlSurf
 
         this.colorManager = new FireColorManager ();
         this.valueChanger = new DefaultValueChanger (1024, 10);
+        this.knobAccelerationCurve = AccelerationCurve.TWOS_COMPLEMENT;
         this.configuration = new FireConfiguration (host, this.valueChanger, factory.getArpeggiatorModes ());
     }
 
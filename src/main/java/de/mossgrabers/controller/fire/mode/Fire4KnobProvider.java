@@ -9,6 +9,10 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.observer.IParametersAdjustObserver;
 import de.mossgrabers.framework.parameterprovider.IParameterProvider;
+import de.mossgrabers.framework.parameterprovider.MappedParametersAdjustObserver;
+
+import java.util.HashSet;
+import java.util.Set;
 
 
 /**
@@ -19,8 +23,10 @@ import de.mossgrabers.framework.parameterprovider.IParameterProvider;
  */
 public class Fire4KnobProvider implements IParameterProvider
 {
-    private final FireControlSurface surface;
-    private final IParameterProvider provider;
+    private final FireControlSurface             surface;
+    private final IParameterProvider             provider;
+    private final Set<IParametersAdjustObserver> observers = new HashSet<> ();
+    private final IParametersAdjustObserver      providerObserver;
 
 
     /**
@@ -33,6 +39,8 @@ public class Fire4KnobProvider implements IParameterProvider
     {
         this.surface = surface;
         this.provider = provider;
+
+        this.providerObserver = new MappedParametersAdjustObserver (this.observers, this::getStartIndex, () -> 4, () -> 0);
     }
 
 
@@ -48,7 +56,7 @@ public class Fire4KnobProvider implements IParameterProvider
     @Override
     public IParameter get (final int index)
     {
-        return this.provider.get (this.surface.isPressed (ButtonID.ALT) ? 4 + index : index);
+        return this.provider.get (this.getStartIndex () + index);
     }
 
 
@@ -56,7 +64,10 @@ public class Fire4KnobProvider implements IParameterProvider
     @Override
     public void addParametersObserver (final IParametersAdjustObserver observer)
     {
-        this.provider.addParametersObserver (observer);
+        final boolean isFirst = this.observers.isEmpty ();
+        this.observers.add (observer);
+        if (isFirst)
+            this.provider.addParametersObserver (this.providerObserver);
     }
 
 
@@ -64,7 +75,9 @@ public class Fire4KnobProvider implements IParameterProvider
     @Override
     public void removeParametersObserver (final IParametersAdjustObserver observer)
     {
-        this.provider.removeParametersObserver (observer);
+        this.observers.remove (observer);
+        if (this.observers.isEmpty ())
+            this.provider.removeParametersObserver (this.providerObserver);
     }
 
 
@@ -74,4 +87,10 @@ public class Fire4KnobProvider implements IParameterProvider
     {
         this.provider.notifyParametersObservers ();
     }
+
+
+    private int getStartIndex ()
+    {
+        return this.surface.isPressed (ButtonID.ALT) ? 4 : 0;
+    }
 }
@@ -198,4 +198,33 @@ public class CommandSlot
     {
         this.sendValueWhenReceived = value;
     }
+
+
+    /**
+     * Copy all settings from another slot.
+     *
+     * @param slot The slot to copy from
+     */
+    public void set (final CommandSlot slot)
+    {
+        this.type = slot.type;
+        this.number = slot.number;
+        this.midiChannel = slot.midiChannel;
+        this.knobMode = slot.knobMode;
+        this.sendValue = slot.sendValue;
+        this.sendValueWhenReceived = slot.sendValueWhenReceived;
+        this.command = slot.command;
+    }
+
+
+    /**
+     * Check if all settings are identical to the ones of another slot.
+     *
+     * @param slot The slot to compare with
+     * @return True if identical
+     */
+    public boolean hasSameSettings (final CommandSlot slot)
+    {
+        return this.type == slot.type && this.number == slot.number && this.midiChannel == slot.midiChannel && this.knobMode == slot.knobMode && this.sendValue == slot.sendValue && this.sendValueWhenReceived == slot.sendValueWhenReceived && this.command == slot.command;
+    }
 }
@@ -0,0 +1,244 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.generic;
+
+import de.mossgrabers.controller.generic.controller.FlexiCommand;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+
+/**
+ * Reads and writes the command slots of the Generic Flexi. Two formats are supported: the original
+ * properties format with one entry per slot setting and a packed, versioned binary format. The
+ * packed format stores the slot settings column by column and the commands as indices into a table
+ * of the used command names, which keeps the files small and independent from the order of the
+ * commands. The format of a file to read is detected from its content.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlexiMappingFile
+{
+    /** The file ending of the packed format. */
+    public static final String PACKED_ENDING = ".flexi";
+
+    private static final int   MAGIC         = 0x464C5831;
+    private static final int   VERSION       = 1;
+
+    private static final int   FLAG_SEND     = 1;
+    private static final int   FLAG_RECEIVED = 2;
+
+
+    /**
+     * Private due to utility class.
+     */
+    private FlexiMappingFile ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Write the command slots to a file. The packed format is used if the file name ends with
+     * {@link #PACKED_ENDING}, otherwise the properties format.
+     *
+     * @param file The file to write to
+     * @param slots The slots to write
+     * @throws IOException Could not write the file
+     */
+    public static void write (final File file, final CommandSlot [] slots) throws IOException
+    {
+        if (file.getName ().endsWith (PACKED_ENDING))
+            writePacked (file, slots);
+        else
+            writeProperties (file, slots);
+    }
+
+
+    /**
+     * Read command slots from a file in one of the supported formats.
+     *
+     * @param file The file to read from
+     * @param numSlots The number of slots to read, missing slots are set to off
+     * @return The read slots
+     * @throws IOException Could not read the file or the content is not valid
+     */
+    public static CommandSlot [] read (final File file, final int numSlots) throws IOException
+    {
+        final CommandSlot [] slots = new CommandSlot [numSlots];
+        for (int i = 0; i < numSlots; i++)
+            slots[i] = new CommandSlot ();
+
+        try (final InputStream in = new BufferedInputStream (new FileInputStream (file)))
+        {
+            final DataInputStream data = new DataInputStream (in);
+            if (file.length () >= 4 && data.readInt () == MAGIC)
+            {
+                readPacked (data, slots);
+                return slots;
+            }
+        }
+
+        readProperties (file, slots);
+        return slots;
+    }
+
+
+    private static void writePacked (final File file, final CommandSlot [] slots) throws IOException
+    {
+        final Map<FlexiCommand, Integer> commandIndices = new LinkedHashMap<> ();
+        for (final CommandSlot slot: slots)
+            commandIndices.computeIfAbsent (slot.getCommand (), command -> Integer.valueOf (commandIndices.size ()));
+
+        try (final DataOutputStream out = new DataOutputStream (new BufferedOutputStream (new FileOutputStream (file))))
+        {
+            out.writeInt (MAGIC);
+            out.writeShort (VERSION);
+            out.writeShort (slots.length);
+
+            out.writeShort (commandIndices.size ());
+            for (final FlexiCommand command: commandIndices.keySet ())
+                out.writeUTF (command.getName ());
+
+            for (final CommandSlot slot: slots)
+                out.writeByte (slot.getType ());
+            for (final CommandSlot slot: slots)
+                out.writeByte (slot.getNumber ());
+            for (final CommandSlot slot: slots)
+                out.writeByte (slot.getMidiChannel ());
+            for (final CommandSlot slot: slots)
+                out.writeByte (slot.getKnobMode ());
+            for (final CommandSlot slot: slots)
+                out.writeByte ((slot.isSendValue () ? FLAG_SEND : 0) | (slot.isSendValueWhenReceived () ? FLAG_RECEIVED : 0));
+            for (final CommandSlot slot: slots)
+                out.writeShort (commandIndices.get (slot.getCommand ()).intValue ());
+        }
+    }
+
+
+    private static void readPacked (final DataInputStream in, final CommandSlot [] slots) throws IOException
+    {
+        final int version = in.readUnsignedShort ();
+        if (version > VERSION)
+            throw new IOException ("Unsupported file version: " + version);
+
+        final int numStored = in.readUnsignedShort ();
+        final FlexiCommand [] commands = new FlexiCommand [in.readUnsignedShort ()];
+        for (int i = 0; i < commands.length; i++)
+            commands[i] = FlexiCommand.lookupByName (in.readUTF ());
+
+        final int [] [] columns = new int [5] [numStored];
+        for (final int [] column: columns)
+        {
+            for (int i = 0; i < numStored; i++)
+                column[i] = in.readByte ();
+        }
+
+        final int count = Math.min (numStored, slots.length);
+        for (int i = 0; i < numStored; i++)
+        {
+            final int commandIndex = in.readUnsignedShort ();
+            if (commandIndex >= commands.length)
+                throw new IOException ("Invalid command index in slot " + (i + 1));
+            if (i >= count)
+                continue;
+
+            final CommandSlot slot = slots[i];
+            final FlexiCommand command = commands[commandIndex];
+            final int type = columns[0][i];
+            if (type < CommandSlot.TYPE_OFF || type > CommandSlot.TYPE_MMC)
+                throw new IOException ("Invalid type " + type + " in slot " + (i + 1));
+            slot.setType (command == FlexiCommand.OFF ? CommandSlot.TYPE_OFF : type);
+            slot.setNumber (checkRange (columns[1][i], 127, i));
+            slot.setMidiChannel (checkRange (columns[2][i], 15, i));
+            slot.setKnobMode (checkRange (columns[3][i], 4, i));
+            slot.setSendValue ((columns[4][i] & FLAG_SEND) > 0);
+            slot.setSendValueWhenReceived ((columns[4][i] & FLAG_RECEIVED) > 0);
+            slot.setCommand (command);
+        }
+    }
+
+
+    private static void writeProperties (final File file, final CommandSlot [] slots) throws IOException
+    {
+        final Properties props = new Properties ();
+        for (int i = 0; i < slots.length; i++)
+        {
+            final String slotName = "SLOT" + i + "_";
+            final CommandSlot slot = slots[i];
+            props.put (slotName + "TYPE", Integer.toString (slot.getType ()));
+            props.put (slotName + "NUMBER", Integer.toString (slot.getNumber ()));
+            props.put (slotName + "MIDI_CHANNEL", Integer.toString (slot.getMidiChannel ()));
+            props.put (slotName + "KNOB_MODE", Integer.toString (slot.getKnobMode ()));
+            props.put (slotName + "COMMAND", slot.getCommand ().getName ());
+            props.put (slotName + "SEND_VALUE", Boolean.toString (slot.isSendValue ()));
+            props.put (slotName + "SEND_VALUE_WHEN_RECEIVED", Boolean.toString (slot.isSendValueWhenReceived ()));
+        }
+        try (final Writer writer = new FileWriter (file))
+        {
+            props.store (writer, "Generic Flexi");
+        }
+    }
+
+
+    private static void readProperties (final File file, final CommandSlot [] slots) throws IOException
+    {
+        final Properties props = new Properties ();
+        try (final Reader reader = new FileReader (file))
+        {
+            props.load (reader);
+        }
+
+        try
+        {
+            for (int i = 0; i < slots.length; i++)
+            {
+                final String slotName = "SLOT" + i + "_";
+                final CommandSlot slot = slots[i];
+
+                final FlexiCommand command = FlexiCommand.lookupByName (props.getProperty (slotName + "COMMAND"));
+                int type = Integer.parseInt (props.getProperty (slotName + "TYPE"));
+
+                // For backwards compatibility
+                if (command == FlexiCommand.OFF)
+                    type = CommandSlot.TYPE_OFF;
+
+                slot.setType (type);
+                slot.setNumber (Integer.parseInt (props.getProperty (slotName + "NUMBER")));
+                slot.setMidiChannel (Integer.parseInt (props.getProperty (slotName + "MIDI_CHANNEL")));
+                slot.setKnobMode (Integer.parseInt (props.getProperty (slotName + "KNOB_MODE")));
+                slot.setCommand (command);
+                slot.setSendValue (Boolean.parseBoolean (props.getProperty (slotName + "SEND_VALUE")));
+                slot.setSendValueWhenReceived (Boolean.parseBoolean (props.getProperty (slotName + "SEND_VALUE_WHEN_RECEIVED")));
+            }
+        }
+        catch (final NumberFormatException ex)
+        {
+            throw new IOException ("Invalid number in file.", ex);
+        }
+    }
+
+
+    private static int checkRange (final int value, final int max, final int slotIndex) throws IOException
+    {
+        if (value < 0 || value > max)
+            throw new IOException ("Invalid value " + value + " in slot " + (slotIndex + 1));
+        return value;
+    }
+}
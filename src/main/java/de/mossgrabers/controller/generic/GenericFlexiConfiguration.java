@@ -20,18 +20,13 @@ import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.FileEx;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.Reader;
-import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -275,6 +270,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private Object                                   syncMapUpdate             = new Object ();
     private int []                                   keyMap;
+    private int []                                   slotLookup;
     private int                                      seleIndexctedSlot         = 0;
     private String                                   learnTypeValue            = null;
     private String                                   learnNumberValue          = null;
@@ -442,6 +438,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         // Workflow
 
         this.activateKnobSpeedSetting (globalSettings);
+        this.activateKnobAccelerationSetting (globalSettings);
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
 
         this.activateNoteRepeatSetting (documentSettings);
@@ -470,6 +467,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = selectedSlot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         selectedSlot.setCommand (newCommand);
+        this.clearSlotLookup ();
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -532,13 +530,54 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public int getSlotCommand (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        if (type < 0 || type > CommandSlot.TYPE_MMC || midiChannel < 0 || midiChannel > 15 || number < 0 || number > 127)
+            return -1;
+
+        final int [] lookup;
+        synchronized (this.syncMapUpdate)
+        {
+            if (this.slotLookup == null)
+                this.slotLookup = this.createSlotLookup ();
+            lookup = this.slotLookup;
+        }
+        return lookup[getSlotLookupIndex (type, type == CommandSlot.TYPE_PITCH_BEND ? 0 : number, midiChannel)];
+    }
+
+
+    /**
+     * Create the table to lookup the slot index for a type, MIDI channel and number. If several
+     * slots match, the one with the lowest index is used.
+     *
+     * @return The lookup table
+     */
+    private int [] createSlotLookup ()
+    {
+        final int [] lookup = new int [(CommandSlot.TYPE_MMC + 1) * 16 * 128];
+        Arrays.fill (lookup, -1);
+        for (int i = this.commandSlots.length - 1; i >= 0; i--)
         {
             final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && slot.getMidiChannel () == midiChannel && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
-                return i;
+            final int type = slot.getType ();
+            if (slot.getCommand () == FlexiCommand.OFF || type < 0)
+                continue;
+            lookup[getSlotLookupIndex (type, type == CommandSlot.TYPE_PITCH_BEND ? 0 : slot.getNumber (), slot.getMidiChannel ())] = i;
+        }
+        return lookup;
+    }
+
+
+    private static int getSlotLookupIndex (final int type, final int number, final int midiChannel)
+    {
+        return (type * 16 + midiChannel) * 128 + number;
+    }
+
+
+    private void clearSlotLookup ()
+    {
+        synchronized (this.syncMapUpdate)
+        {
+            this.slotLookup = null;
         }
-        return -1;
     }
 
 
@@ -577,6 +616,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         synchronized (this.syncMapUpdate)
         {
             this.keyMap = null;
+            this.slotLookup = null;
         }
         this.notifyObservers (SLOT_CHANGE);
     }
@@ -705,23 +745,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public void exportTo (final File exportFile) throws IOException
     {
-        final Properties props = new Properties ();
-        for (int i = 0; i < this.commandSlots.length; i++)
-        {
-            final String slotName = "SLOT" + i + "_";
-            final CommandSlot slot = this.commandSlots[i];
-            props.put (slotName + "TYPE", Integer.toString (slot.getType ()));
-            props.put (slotName + "NUMBER", Integer.toString (slot.getNumber ()));
-            props.put (slotName + "MIDI_CHANNEL", Integer.toString (slot.getMidiChannel ()));
-            props.put (slotName + "KNOB_MODE", Integer.toString (slot.getKnobMode ()));
-            props.put (slotName + "COMMAND", slot.getCommand ().getName ());
-            props.put (slotName + "SEND_VALUE", Boolean.toString (slot.isSendValue ()));
-            props.put (slotName + "SEND_VALUE_WHEN_RECEIVED", Boolean.toString (slot.isSendValueWhenReceived ()));
-        }
-        try (final Writer writer = new FileWriter (exportFile))
-        {
-            props.store (writer, "Generic Flexi");
-        }
+        FlexiMappingFile.write (exportFile, this.commandSlots);
     }
 
 
@@ -733,46 +757,58 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public void importFrom (final File importFile) throws IOException
     {
+        final CommandSlot [] slots;
         try
         {
-            final Properties props = new Properties ();
-            try (final Reader reader = new FileReader (importFile))
-            {
-                props.load (reader);
-            }
-
-            for (int i = 0; i < this.commandSlots.length; i++)
-            {
-                final String slotName = "SLOT" + i + "_";
-                final CommandSlot slot = this.commandSlots[i];
-
-                final FlexiCommand command = FlexiCommand.lookupByName (props.getProperty (slotName + "COMMAND"));
-                int type = Integer.parseInt (props.getProperty (slotName + "TYPE"));
-
-                // For backwards compatibility
-                if (command == FlexiCommand.OFF)
-                    type = CommandSlot.TYPE_OFF;
-
-                slot.setType (type);
-                slot.setNumber (Integer.parseInt (props.getProperty (slotName + "NUMBER")));
-                slot.setMidiChannel (Integer.parseInt (props.getProperty (slotName + "MIDI_CHANNEL")));
-                slot.setKnobMode (Integer.parseInt (props.getProperty (slotName + "KNOB_MODE")));
-                slot.setCommand (command);
-                slot.setSendValue (Boolean.parseBoolean (props.getProperty (slotName + "SEND_VALUE")));
-                slot.setSendValueWhenReceived (Boolean.parseBoolean (props.getProperty (slotName + "SEND_VALUE_WHEN_RECEIVED")));
-            }
+            slots = FlexiMappingFile.read (importFile, this.commandSlots.length);
         }
-        catch (final IOException | NumberFormatException ex)
+        catch (final IOException ex)
         {
             this.host.error ("Could not import from file.", ex);
             this.host.showNotification ("Could not import from file. Check Script Console for detailed error.");
             return;
         }
 
-        this.clearNoteMap ();
+        this.setCommandSlots (slots);
+    }
+
+
+    /**
+     * Replaces the settings of all command slots in one go. Only the changed slots are updated and
+     * the observers are notified only once. Nothing happens if no slot has changed (e.g. the same
+     * file is loaded again).
+     *
+     * @param slots The new slot settings
+     */
+    public void setCommandSlots (final CommandSlot [] slots)
+    {
+        boolean hasChanged = false;
+        boolean hasSelectedChanged = false;
+        for (int i = 0; i < this.commandSlots.length && i < slots.length; i++)
+        {
+            if (this.commandSlots[i].hasSameSettings (slots[i]))
+                continue;
+            this.commandSlots[i].set (slots[i]);
+            hasChanged = true;
+            if (i == this.seleIndexctedSlot)
+                hasSelectedChanged = true;
+        }
+        if (!hasChanged)
+            return;
+
+        this.beginSettingsTransaction ();
+        try
+        {
+            this.clearNoteMap ();
 
-        this.slotSelectionSetting.set ("1");
-        this.selectSlot ("1");
+            // Only the selected slot is displayed in the settings
+            if (hasSelectedChanged)
+                this.selectSlot (Integer.toString (this.seleIndexctedSlot + 1));
+        }
+        finally
+        {
+            this.endSettingsTransaction ();
+        }
     }
 
 
@@ -821,6 +857,17 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     }
 
 
+    /**
+     * Get the selected actions of all assignable functions.
+     *
+     * @return The action IDs
+     */
+    public String [] getAssignableActions ()
+    {
+        return this.assignableFunctionActions;
+    }
+
+
     private void selectSlot (final String value)
     {
         this.seleIndexctedSlot = Integer.parseInt (value) - 1;
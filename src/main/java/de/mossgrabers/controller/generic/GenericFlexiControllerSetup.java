@@ -27,6 +27,7 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.valuechanger.AccelerationCurve;
 import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.controller.valuechanger.Relative2ValueChanger;
@@ -89,6 +90,8 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
 
         this.colorManager = new ColorManager ();
         this.valueChanger = new DefaultValueChanger (128, 1);
+        // Used for the relative knob mode 1, which sends Two's Complement values
+        this.knobAccelerationCurve = AccelerationCurve.TWOS_COMPLEMENT;
         this.configuration = new GenericFlexiConfiguration (host, this.valueChanger, factory.getArpeggiatorModes ());
     }
 
@@ -206,7 +209,7 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
             input = midiAccess.createInput ("Generic Flexi", filters.toArray (new String [filters.size ()]));
         }
 
-        final GenericFlexiControlSurface surface = new GenericFlexiControlSurface (this.host, this.configuration, this.colorManager, output, input);
+        final GenericFlexiControlSurface surface = new GenericFlexiControlSurface (this.host, this.configuration, this.colorManager, output, input, this.valueChanger, this.relative2ValueChanger, this.relative3ValueChanger);
         this.surfaces.add (surface);
 
         this.registerHandlers (surface);
@@ -264,6 +267,7 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
     public void startup ()
     {
         this.configuration.clearNoteMap ();
+        this.checkActions (this.configuration.getAssignableActions ());
 
         final GenericFlexiControlSurface surface = this.getSurface ();
         surface.getModeManager ().setActive (Modes.TRACK);
@@ -285,6 +289,18 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void updateKnobAcceleration ()
+    {
+        final boolean isActive = this.configuration.isKnobAccelerationActive ();
+        this.relative2ValueChanger.setAccelerationCurve (isActive ? AccelerationCurve.SIGNED_BIT : AccelerationCurve.NONE);
+        this.relative3ValueChanger.setAccelerationCurve (isActive ? AccelerationCurve.OFFSET_BINARY : AccelerationCurve.NONE);
+
+        super.updateKnobAcceleration ();
+    }
+
+
     /**
      * Registers the different generic flexi modules (handlers).
      *
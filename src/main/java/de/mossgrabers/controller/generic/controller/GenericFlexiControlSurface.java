@@ -5,10 +5,14 @@
 package de.mossgrabers.controller.generic.controller;
 
 import de.mossgrabers.controller.generic.CommandSlot;
+import de.mossgrabers.controller.generic.FlexiMappingFile;
 import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
+import de.mossgrabers.controller.generic.flexihandler.AbstractHandler;
 import de.mossgrabers.controller.generic.flexihandler.IFlexiCommandHandler;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.controller.valuechanger.TickRateTracker;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
@@ -36,15 +40,24 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     private static final FileFilter []                    FILE_FILTERS    =
     {
         new FileFilter ("Configuration", "properties"),
+        new FileFilter ("Packed configuration", "flexi"),
         new FileFilter ("All files", "*")
     };
 
-    private final int []                                  valueCache      = new int [GenericFlexiConfiguration.NUM_SLOTS];
-    private final Map<FlexiCommand, IFlexiCommandHandler> handlers        = new EnumMap<> (FlexiCommand.class);
+    /** The time in milliseconds after the last received value before the values are read back. */
+    private static final int                              VALUE_UPDATE_DELAY     = 400;
+
+    private final int []                                  valueCache             = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final boolean []                              updatedSlots           = new boolean [GenericFlexiConfiguration.NUM_SLOTS];
+    private final Map<FlexiCommand, IFlexiCommandHandler> handlers               = new EnumMap<> (FlexiCommand.class);
+    private final TickRateTracker []                      tickRateTrackers       = new TickRateTracker [GenericFlexiConfiguration.NUM_SLOTS];
+    private final IValueChanger []                        relativeValueChangers;
     private NativeFileDialogs                             dialogs;
 
-    private boolean                                       isShiftPressed  = false;
-    private boolean                                       isUpdatingValue = false;
+    private boolean                                       isShiftPressed         = false;
+    private boolean                                       isUpdatingValue        = false;
+    private boolean                                       isValueUpdateScheduled = false;
+    private long                                          lastValueUpdate        = 0;
 
 
     /**
@@ -55,11 +68,23 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
      * @param configuration The configuration
      * @param output The midi output
      * @param input The midi input
+     * @param valueChanger The value changer for the relative knob mode 1
+     * @param relative2ValueChanger The value changer for the relative knob mode 2
+     * @param relative3ValueChanger The value changer for the relative knob mode 3
      */
-    public GenericFlexiControlSurface (final IHost host, final GenericFlexiConfiguration configuration, final ColorManager colorManager, final IMidiOutput output, final IMidiInput input)
+    public GenericFlexiControlSurface (final IHost host, final GenericFlexiConfiguration configuration, final ColorManager colorManager, final IMidiOutput output, final IMidiInput input, final IValueChanger valueChanger, final IValueChanger relative2ValueChanger, final IValueChanger relative3ValueChanger)
     {
         super (host, configuration, colorManager, output, input, null, 10, 10);
 
+        // The index is the knob mode
+        this.relativeValueChangers = new IValueChanger []
+        {
+            null,
+            valueChanger,
+            relative2ValueChanger,
+            relative3ValueChanger
+        };
+
         try
         {
             this.dialogs = NativeFileDialogsFactory.create (null);
@@ -75,6 +100,9 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_LOAD, this::loadAndSelectFile);
 
         this.input.setSysexCallback (this::handleSysEx);
+
+        // Only the latest value of absolute knobs and faders needs to be handled
+        this.enableMidiInputQueue (this::canCoalesce);
     }
 
 
@@ -286,8 +314,8 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
 
         try
         {
-            // Ensure to end with .properties
-            if (!filename.endsWith (".properties"))
+            // Ensure to end with .properties or the ending of the packed format
+            if (!filename.endsWith (".properties") && !filename.endsWith (FlexiMappingFile.PACKED_ENDING))
             {
                 filename = filename + ".properties";
                 this.configuration.setFilename (filename);
@@ -366,12 +394,86 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
             return;
 
         this.isUpdatingValue = true;
-        this.handlers.get (command).handle (command, commandSlot.getKnobMode (), value);
+        final int knobMode = commandSlot.getKnobMode ();
+        this.handlers.get (command).handle (command, knobMode, this.accelerate (slotIndex, knobMode, value));
+
+        this.updatedSlots[slotIndex] = true;
+        this.lastValueUpdate = System.currentTimeMillis ();
+        if (!this.isValueUpdateScheduled)
+        {
+            this.isValueUpdateScheduled = true;
+            this.host.scheduleTask (this::updateValueCache, VALUE_UPDATE_DELAY);
+        }
+    }
+
+
+    /**
+     * Accelerate the value of a relative knob depending on how fast it is turned.
+     *
+     * @param slotIndex The slot index where the command is stored
+     * @param knobMode The knob mode of the slot
+     * @param value The received value
+     * @return The accelerated value, absolute values are returned unchanged
+     */
+    private int accelerate (final int slotIndex, final int knobMode, final int value)
+    {
+        if (AbstractHandler.isAbsolute (knobMode) || knobMode >= this.relativeValueChangers.length)
+            return value;
+
+        if (this.tickRateTrackers[slotIndex] == null)
+            this.tickRateTrackers[slotIndex] = new TickRateTracker (null);
+        return this.relativeValueChangers[knobMode].accelerate (value, this.tickRateTrackers[slotIndex]);
+    }
+
+
+    /**
+     * Reads back the values of all updated command slots as soon as no new value was received for
+     * some time.
+     */
+    private void updateValueCache ()
+    {
+        final long delay = this.lastValueUpdate + VALUE_UPDATE_DELAY - System.currentTimeMillis ();
+        if (delay > 0)
+        {
+            this.host.scheduleTask (this::updateValueCache, delay);
+            return;
+        }
+
+        this.isValueUpdateScheduled = false;
+        final CommandSlot [] slots = this.configuration.getCommandSlots ();
+        for (int i = 0; i < this.updatedSlots.length; i++)
+        {
+            if (!this.updatedSlots[i])
+                continue;
+            this.updatedSlots[i] = false;
+            final FlexiCommand command = slots[i].getCommand ();
+            if (command != FlexiCommand.OFF)
+                this.valueCache[i] = this.getCommandValue (command);
+        }
+        this.isUpdatingValue = false;
+    }
+
 
-        this.host.scheduleTask ( () -> {
-            this.valueCache[slotIndex] = this.getCommandValue (command);
-            this.isUpdatingValue = false;
-        }, 400);
+    /**
+     * Check if a received message can be coalesced with a newer one. This is the case for CC
+     * messages which are mapped to a continuous command with the absolute knob mode. Relative
+     * and toggled values must not be coalesced since every change counts. Unmapped CCs are not
+     * coalesced either, their meaning is unknown.
+     *
+     * @param status The MIDI status byte
+     * @param data1 The MIDI data byte 1
+     * @return True if only the latest value needs to be handled
+     */
+    private boolean canCoalesce (final int status, final int data1)
+    {
+        if ((status & 0xF0) != 0xB0)
+            return false;
+        final int slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, data1, status & 0xF);
+        if (slotIndex < 0)
+            return false;
+        final CommandSlot commandSlot = this.configuration.getCommandSlots ()[slotIndex];
+        final FlexiCommand command = commandSlot.getCommand ();
+        return command != FlexiCommand.OFF && !command.isTrigger () && AbstractHandler.isAbsoluteValue (commandSlot.getKnobMode ());
     }
 
 
@@ -85,6 +85,19 @@ public abstract class AbstractHandler implements IFlexiCommandHandler
     }
 
 
+    /**
+     * Return if the given knob mode sends absolute values which do not depend on the previously
+     * received ones (unlike relative and toggle modes).
+     *
+     * @param knobMode The knob mode to test
+     * @return True if it is the absolute mode
+     */
+    public static boolean isAbsoluteValue (final int knobMode)
+    {
+        return knobMode == KNOB_MODE_ABSOLUTE;
+    }
+
+
     /**
      * Test if a button is pressed. Can only true for absolute modes.
      *
@@ -60,6 +60,8 @@ import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.VuMeterResolution;
+import de.mossgrabers.framework.daw.VuMeterService.Side;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -73,6 +75,7 @@ import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
 import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.ObservedValue;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.ControlOnlyView;
 import de.mossgrabers.framework.view.Views;
@@ -90,13 +93,15 @@ import java.util.function.IntSupplier;
 public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurface, HUIConfiguration>
 {
     /** State for button LED on. */
-    public static final int HUI_BUTTON_STATE_ON  = 127;
+    public static final int   HUI_BUTTON_STATE_ON  = 127;
     /** State for button LED off. */
-    public static final int HUI_BUTTON_STATE_OFF = 0;
+    public static final int   HUI_BUTTON_STATE_OFF = 0;
 
-    private final int []    vuValuesL            = new int [8];
-    private final int []    vuValuesR            = new int [8];
-    private final int []    faderValues          = new int [36];
+    /** The number of VU meter values. */
+    private static final int  VU_STEPS             = 12;
+
+    private final int []      faderValues          = new int [36];
+    private VuMeterResolution vuMeters;
 
 
     /**
@@ -111,8 +116,6 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
     {
         super (factory, host, globalSettings, documentSettings);
 
-        Arrays.fill (this.vuValuesL, -1);
-        Arrays.fill (this.vuValuesR, -1);
         Arrays.fill (this.faderValues, -1);
 
         this.colorManager = new ColorManager ();
@@ -153,9 +156,16 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
         ms.setNumDeviceLayers (0);
         ms.setNumDrumPadLayers (0);
         ms.setNumMarkers (8);
+        ms.ignoreValue (ObservedValue.COLORS);
+        ms.ignoreValue (ObservedValue.MODULATED_VALUES);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
 
         this.model.getTrackBank ().setIndication (true);
+
+        // Slots 0-7 are the left meters, 8-15 the right ones
+        this.vuMeters = this.model.getVuMeterService ().registerResolution (VU_STEPS, 16);
+        // The meters fall by themselves if the level is not sent again
+        this.vuMeters.enableHardwareDecay ();
     }
 
 
@@ -650,7 +660,6 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
 
     private void updateVUandFaders ()
     {
-        final double upperBound = this.valueChanger.getUpperBound ();
         final boolean enableVUMeters = this.configuration.isEnableVUMeters ();
         final boolean hasMotorFaders = this.configuration.hasMotorFaders ();
 
@@ -665,20 +674,12 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
             // Update VU LEDs of channel
             if (enableVUMeters)
             {
-                final int vuLeft = track.getVuLeft ();
-                if (vuLeft != this.vuValuesL[channel])
-                {
-                    this.vuValuesL[channel] = vuLeft;
-                    final int scaledValue = (int) Math.floor (vuLeft * 12 / upperBound);
-                    output.sendPolyphonicAftertouch (channel, scaledValue);
-                }
-                final int vuRight = track.getVuRight ();
-                if (vuRight != this.vuValuesR[channel])
-                {
-                    this.vuValuesR[channel] = vuRight;
-                    final int scaledValue = (int) Math.floor (vuRight * 12 / upperBound);
-                    output.sendPolyphonicAftertouch (0x10 + channel, scaledValue);
-                }
+                final int vuLeft = this.vuMeters.getChangedValue (channel, track, Side.LEFT);
+                if (vuLeft != VuMeterResolution.UNCHANGED)
+                    output.sendPolyphonicAftertouch (channel, vuLeft);
+                final int vuRight = this.vuMeters.getChangedValue (8 + channel, track, Side.RIGHT);
+                if (vuRight != VuMeterResolution.UNCHANGED)
+                    output.sendPolyphonicAftertouch (0x10 + channel, vuRight);
             }
 
             // Update motor fader of channel
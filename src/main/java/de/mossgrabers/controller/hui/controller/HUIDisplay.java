@@ -5,6 +5,7 @@
 package de.mossgrabers.controller.hui.controller;
 
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
+import de.mossgrabers.framework.controller.display.TextDisplayGrid;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
@@ -24,7 +25,14 @@ public class HUIDisplay extends AbstractTextDisplay
 {
     private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
 
-    private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    /** The maximum time in milliseconds until a line is sent to the display. */
+    private static final int         MAX_LATENCY          = 100;
+    private static final int         NUM_CHARACTERS       = 36;
+    private static final int         CELL_LENGTH          = 4;
+
+    private final LatestTaskExecutor executor             = new LatestTaskExecutor (MAX_LATENCY);
+    /** Each cell is sent with its own message anyway, therefore spans are never merged. */
+    private final TextDisplayGrid    grid                 = new TextDisplayGrid (1, NUM_CHARACTERS, 0);
 
 
     /**
@@ -36,7 +44,7 @@ public class HUIDisplay extends AbstractTextDisplay
      */
     public HUIDisplay (final IHost host, final IMidiOutput output)
     {
-        super (host, output, 1 /* No of rows */, 9 /* No of cells */, 36);
+        super (host, output, 1 /* No of rows */, 9 /* No of cells */, NUM_CHARACTERS);
     }
 
 
@@ -49,7 +57,7 @@ public class HUIDisplay extends AbstractTextDisplay
         this.executor.execute ( () -> {
             try
             {
-                this.sendDisplayLine (text);
+                this.grid.update (row, text, this::writeSpan);
             }
             catch (final RuntimeException ex)
             {
@@ -59,21 +67,32 @@ public class HUIDisplay extends AbstractTextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        this.grid.invalidate ();
+        super.forceFlush ();
+    }
+
+
     /**
-     * Send a line to the display.
+     * Send the cells of the display which contain the changed characters.
      *
-     * @param text The text to send
+     * @param row The row
+     * @param offset The position of the first changed character
+     * @param characters The characters of the row
+     * @param length The number of changed characters
      */
-    private void sendDisplayLine (final String text)
+    private void writeSpan (final int row, final int offset, final char [] characters, final int length)
     {
-        final String t = text;
-
-        final int [] array = new int [5];
-        for (int cell = 0; cell < this.noOfCells; cell++)
+        final int [] array = new int [1 + CELL_LENGTH];
+        final int lastCell = (offset + length - 1) / CELL_LENGTH;
+        for (int cell = offset / CELL_LENGTH; cell <= lastCell; cell++)
         {
             array[0] = cell;
-            for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
+            for (int i = 0; i < CELL_LENGTH; i++)
+                array[1 + i] = characters[cell * CELL_LENGTH + i];
             this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
         }
     }
@@ -93,7 +112,24 @@ public class HUIDisplay extends AbstractTextDisplay
         }
         catch (final InterruptedException ex)
         {
-            this.host.error ("HUI display send executor did not end in 10 seconds. Interrupted.", ex);
+            this.host.error ("HUI display send executor did not end in 5 seconds. Interrupted.", ex);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void awaitPendingOutput ()
+    {
+        try
+        {
+            if (!this.executor.awaitIdle (5, TimeUnit.SECONDS))
+                this.host.error ("HUI display send executor did not finish in 5 seconds.");
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error ("HUI display send executor did not finish. Interrupted.", ex);
+            Thread.currentThread ().interrupt ();
         }
     }
 }
\ No newline at end of file
@@ -68,6 +68,7 @@ public class Kontrol1Configuration extends AbstractConfiguration
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateEnableVUMetersSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+        this.activateKnobAccelerationSetting (globalSettings);
     }
 
 
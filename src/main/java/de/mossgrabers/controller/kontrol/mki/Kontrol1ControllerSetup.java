@@ -40,6 +40,7 @@ import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.OutputID;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.AccelerationCurve;
 import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITransport;
@@ -80,6 +81,7 @@ public class Kontrol1ControllerSetup extends AbstractControllerSetup<Kontrol1Con
         super (factory, host, globalSettings, documentSettings);
         this.modelIndex = modelIndex;
         this.valueChanger = new DefaultValueChanger (1024, 10);
+        this.knobAccelerationCurve = AccelerationCurve.TWOS_COMPLEMENT;
         this.colorManager = new Kontrol1ColorManager ();
         this.configuration = new Kontrol1Configuration (host, this.valueChanger, factory.getArpeggiatorModes ());
     }
@@ -6,6 +6,7 @@ package de.mossgrabers.controller.kontrol.mki.controller;
 
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.usb.HidReportCoalescer;
 import de.mossgrabers.framework.usb.IHidDevice;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
@@ -407,6 +408,9 @@ public class Kontrol1UsbDevice
     private static final int                   SIZE_DISPLAY              = 248;
     private static final int                   SIZE_BUTTON_LEDS          = 25;
 
+    /** The minimum time between two LED updates in milliseconds. */
+    private static final int                   MIN_LED_UPDATE_INTERVAL   = 20;
+
     private final int                          sizeKeyLEDs;
     private final IMemoryBlock                 displayBlock;
     private final IMemoryBlock                 ledBlock;
@@ -419,6 +423,7 @@ public class Kontrol1UsbDevice
     private final IHost                        host;
     private IUsbDevice                         usbDevice;
     private IHidDevice                         hidDevice;
+    private HidReportCoalescer                 ledReports;
 
     private UIChangeCallback                   callback;
 
@@ -483,7 +488,10 @@ public class Kontrol1UsbDevice
             this.usbDevice = host.getUsbDevice (0);
             this.hidDevice = this.usbDevice.getHidDevice ();
             if (this.hidDevice != null)
+            {
                 this.hidDevice.setCallback ( (reportID, data, received) -> this.processHIDMessage (reportID, data));
+                this.ledReports = new HidReportCoalescer (host, this.hidDevice, MIN_LED_UPDATE_INTERVAL);
+            }
         }
         catch (final UsbException ex)
         {
@@ -719,6 +727,8 @@ public class Kontrol1UsbDevice
      */
     public void shutdown ()
     {
+        if (this.ledReports != null)
+            this.ledReports.close ();
         this.hidDevice = null;
     }
 
@@ -755,7 +765,7 @@ public class Kontrol1UsbDevice
             ledBuffer.clear ();
             ledBuffer.put (this.buttonStates);
             padBuffer (ledBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
+            this.ledReports.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
         }
     }
 
@@ -801,7 +811,7 @@ public class Kontrol1UsbDevice
             keyLedBuffer.clear ();
             keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
             padBuffer (keyLedBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
+            this.ledReports.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
         }
     }
 
@@ -75,6 +75,7 @@ public class KontrolProtocolConfiguration extends AbstractConfiguration
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+        this.activateKnobAccelerationSetting (globalSettings);
     }
 
 
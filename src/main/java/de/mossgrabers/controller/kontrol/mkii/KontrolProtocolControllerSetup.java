@@ -36,6 +36,7 @@ import de.mossgrabers.framework.controller.ContinuousID;
 import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.AccelerationCurve;
 import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITransport;
@@ -90,6 +91,7 @@ public class KontrolProtocolControllerSetup extends AbstractControllerSetup<Kont
         this.version = version;
         this.colorManager = new KontrolProtocolColorManager ();
         this.valueChanger = new DefaultValueChanger (1024, 4);
+        this.knobAccelerationCurve = AccelerationCurve.TWOS_COMPLEMENT;
         this.configuration = new KontrolProtocolConfiguration (host, this.valueChanger, factory.getArpeggiatorModes ());
     }
 
@@ -737,6 +737,17 @@ public class MCUConfiguration extends AbstractConfiguration
     }
 
 
+    /**
+     * Get the selected actions of all assignable functions.
+     *
+     * @return The action IDs
+     */
+    public String [] getAssignableActions ()
+    {
+        return this.assignableFunctionActions;
+    }
+
+
     /**
      * Returns true if touching the channel fader should select the track.
      *
@@ -82,6 +82,8 @@ import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.VuMeterResolution;
+import de.mossgrabers.framework.daw.VuMeterService.Side;
 import de.mossgrabers.framework.daw.constants.AutomationMode;
 import de.mossgrabers.framework.daw.data.ICursorDevice;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
@@ -96,6 +98,7 @@ import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.mode.MasterVolumeMode;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.ObservedValue;
 import de.mossgrabers.framework.view.ControlOnlyView;
 import de.mossgrabers.framework.view.Views;
 
@@ -141,11 +144,15 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
     private static final Set<Modes> VALUE_MODES      = EnumSet.of (Modes.VOLUME, Modes.PAN, Modes.TRACK, Modes.SEND1, Modes.SEND2, Modes.SEND3, Modes.SEND4, Modes.SEND5, Modes.SEND6, Modes.SEND7, Modes.SEND8, Modes.DEVICE_PARAMS);
 
-    private final int []            masterVuValues   = new int [2];
+    /** The number of VU meter values: 12 segments and off. */
+    private static final int        VU_STEPS         = 13;
+    /** The VU slots of the 36 channels are followed by the left and right master VU. */
+    private static final int        VU_SLOT_MASTER   = 36;
+
     private int                     masterFaderValue = -1;
-    private final int []            vuValues         = new int [36];
     private final int []            faderValues      = new int [36];
     private final int               numMCUDevices;
+    private VuMeterResolution       vuMeters;
 
 
     /**
@@ -163,9 +170,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         this.numMCUDevices = numMCUDevices;
 
-        Arrays.fill (this.vuValues, -1);
         Arrays.fill (this.faderValues, -1);
-        Arrays.fill (this.masterVuValues, -1);
 
         this.colorManager = new MCUColorManager ();
         this.valueChanger = new DefaultValueChanger (16241 + 1, 10);
@@ -205,6 +210,8 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         final ModelSetup ms = new ModelSetup ();
 
         ms.enableDrumDevice (false);
+        ms.ignoreValue (ObservedValue.COLORS);
+        ms.ignoreValue (ObservedValue.MODULATED_VALUES);
 
         final int numMackieDevices = this.numMCUDevices;
         if (this.configuration.shouldPinFXTracksToLastController ())
@@ -232,6 +239,10 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         final ITrackBank trackBank = this.model.getTrackBank ();
         trackBank.setIndication (true);
         trackBank.addSelectionObserver ( (index, isSelected) -> this.handleTrackChange (isSelected));
+
+        this.vuMeters = this.model.getVuMeterService ().registerResolution (VU_STEPS, VU_SLOT_MASTER + 2);
+        // The meters fall by themselves if the level is not sent again
+        this.vuMeters.enableHardwareDecay ();
     }
 
 
@@ -673,6 +684,8 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     @Override
     public void startup ()
     {
+        this.checkActions (this.configuration.getAssignableActions ());
+
         for (int index = 0; index < this.numMCUDevices; index++)
         {
             final MCUControlSurface surface = this.getSurface (index);
@@ -721,8 +734,6 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         if (!this.configuration.isEnableVUMeters ())
             return;
 
-        final double upperBound = this.valueChanger.getUpperBound ();
-
         final ITrackBank tb = this.model.getCurrentTrackBank ();
         final boolean shouldPinFXTracksToLastController = this.configuration.shouldPinFXTracksToLastController ();
 
@@ -739,13 +750,9 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
                 final int channel = extenderOffset + i;
                 final ITrack track = trackBank.getItem (channel);
 
-                final int vu = track.getVu ();
-                if (vu != this.vuValues[channel])
-                {
-                    this.vuValues[channel] = vu;
-                    final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                    output.sendChannelAftertouch (0x10 * i + scaledValue, 0);
-                }
+                final int vu = this.vuMeters.getChangedValue (channel, track, Side.MONO);
+                if (vu != VuMeterResolution.UNCHANGED)
+                    output.sendChannelAftertouch (0x10 * i + vu, 0);
             }
 
             // Stereo VU of master channel
@@ -753,21 +760,13 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             {
                 final IMasterTrack masterTrack = this.model.getMasterTrack ();
 
-                int vu = masterTrack.getVuLeft ();
-                if (vu != this.masterVuValues[0])
-                {
-                    this.masterVuValues[0] = vu;
-                    final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                    output.sendChannelAftertouch (1, scaledValue, 0);
-                }
+                int vu = this.vuMeters.getChangedValue (VU_SLOT_MASTER, masterTrack, Side.LEFT);
+                if (vu != VuMeterResolution.UNCHANGED)
+                    output.sendChannelAftertouch (1, vu, 0);
 
-                vu = masterTrack.getVuRight ();
-                if (vu != this.masterVuValues[1])
-                {
-                    this.masterVuValues[1] = vu;
-                    final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                    output.sendChannelAftertouch (1, 0x10 + scaledValue, 0);
-                }
+                vu = this.vuMeters.getChangedValue (VU_SLOT_MASTER + 1, masterTrack, Side.RIGHT);
+                if (vu != VuMeterResolution.UNCHANGED)
+                    output.sendChannelAftertouch (1, 0x10 + vu, 0);
             }
         }
     }
@@ -6,6 +6,7 @@ package de.mossgrabers.controller.mcu.controller;
 
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
+import de.mossgrabers.framework.controller.display.TextDisplayGrid;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
@@ -25,11 +26,18 @@ public class MCUDisplay extends AbstractTextDisplay
     private static final String         SYSEX_DISPLAY_HEADER1_EXTENDER = "F0 00 00 66 15 12 ";
     private static final String         SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13 ";
 
+    /** The maximum time in milliseconds until a line is sent to the display. */
+    private static final int            MAX_LATENCY                    = 100;
+    /** The number of bytes of a display message without the characters (header, offset, end). */
+    private static final int            SYSEX_OVERHEAD                 = 8;
+    private static final int            NUM_CHARACTERS                 = 56;
+
     private final boolean               isFirstDisplay;
     private final boolean               isExtender;
     private final boolean               hasMaster;
 
     private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
+    private final TextDisplayGrid       grid                           = new TextDisplayGrid (2, NUM_CHARACTERS, SYSEX_OVERHEAD);
 
 
     /**
@@ -44,14 +52,14 @@ public class MCUDisplay extends AbstractTextDisplay
      */
     public MCUDisplay (final IHost host, final IMidiOutput output, final boolean isFirst, final boolean isMCUExtender, final boolean hasMaster)
     {
-        super (host, output, 2 /* No of rows */, !isFirst && hasMaster ? 9 : 8 /* No of cells */, 56);
+        super (host, output, 2 /* No of rows */, !isFirst && hasMaster ? 9 : 8 /* No of cells */, NUM_CHARACTERS);
 
         this.isFirstDisplay = isFirst;
         this.hasMaster = hasMaster;
         this.isExtender = isMCUExtender;
 
         for (int i = 0; i < 4; i++)
-            this.executors[i] = new LatestTaskExecutor ();
+            this.executors[i] = new LatestTaskExecutor (MAX_LATENCY);
     }
 
 
@@ -98,11 +106,7 @@ public class MCUDisplay extends AbstractTextDisplay
         executor.execute ( () -> {
             try
             {
-                final int length = text.length ();
-                final int [] array = new int [length];
-                for (int i = 0; i < length; i++)
-                    array[i] = text.charAt (i);
-                this.output.sendSysex (new StringBuilder (this.getHeader ()).append (row == 0 ? "00 " : "38 ").append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                this.grid.update (row, text, this::writeSpan);
             }
             catch (final RuntimeException ex)
             {
@@ -112,6 +116,34 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        this.grid.invalidate ();
+        super.forceFlush ();
+    }
+
+
+    /**
+     * Send the changed characters of a row. The offset byte of the message addresses the position
+     * of the first character, the 2nd row starts at 0x38.
+     *
+     * @param row The row
+     * @param offset The position of the first character in the row
+     * @param characters The characters of the row
+     * @param length The number of characters to send
+     */
+    private void writeSpan (final int row, final int offset, final char [] characters, final int length)
+    {
+        final int [] array = new int [length];
+        for (int i = 0; i < length; i++)
+            array[i] = characters[offset + i];
+        final int position = (row == 0 ? 0 : 0x38) + offset;
+        this.output.sendSysex (new StringBuilder (this.getHeader ()).append (StringUtils.toHexStr (position)).append (' ').append (StringUtils.toHexStr (array)).append ("F7").toString ());
+    }
+
+
     private String getHeader ()
     {
         if (this.isFirstDisplay)
@@ -136,7 +168,27 @@ public class MCUDisplay extends AbstractTextDisplay
             }
             catch (final InterruptedException ex)
             {
-                this.host.error ("USB display send executor did not end in 10 seconds. Interrupted.", ex);
+                this.host.error ("MCU display send executor did not end in 5 seconds. Interrupted.", ex);
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void awaitPendingOutput ()
+    {
+        for (int i = 0; i < 4; i++)
+        {
+            try
+            {
+                if (!this.executors[i].awaitIdle (5, TimeUnit.SECONDS))
+                    this.host.error ("MCU display send executor did not finish in 5 seconds.");
+            }
+            catch (final InterruptedException ex)
+            {
+                this.host.error ("MCU display send executor did not finish. Interrupted.", ex);
+                Thread.currentThread ().interrupt ();
             }
         }
     }
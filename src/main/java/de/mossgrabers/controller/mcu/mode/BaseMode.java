@@ -66,12 +66,12 @@ public abstract class BaseMode extends AbstractMode<MCUControlSurface, MCUConfig
 
     /** {@inheritDoc} */
     @Override
-    protected void bindControls ()
+    protected void bindControls (final int firstIndex, final int count)
     {
         if (!this.isActive || this.defaultParameterProvider == null)
             return;
 
-        super.bindControls ();
+        super.bindControls (firstIndex, count);
 
         final IParameterProvider parameterProvider;
         if (this.surface.getConfiguration ().useFadersAsKnobs ())
@@ -79,7 +79,8 @@ public abstract class BaseMode extends AbstractMode<MCUControlSurface, MCUConfig
         else
             parameterProvider = ((AbstractMode<?, ?>) this.surface.getModeManager ().get (Modes.VOLUME)).getParameterProvider ();
 
-        for (int i = 0; i < this.controls.size (); i++)
+        final int end = Math.min (this.controls.size (), firstIndex + count);
+        for (int i = Math.max (0, firstIndex); i < end; i++)
             this.surface.getContinuous (ContinuousID.get (ContinuousID.FADER1, i)).bind (parameterProvider.get (i));
     }
 
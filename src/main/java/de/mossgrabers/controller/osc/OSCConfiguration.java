@@ -53,11 +53,21 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         "High (16384)"
     };
 
+    private static final String [] TRANSPORT_OPTIONS         =
+    {
+        "DAW",
+        "Built-in (UDP)"
+    };
+
     private int                    receivePort               = 8000;
     private String                 sendHost                  = DEFAULT_SERVER;
     private int                    sendPort                  = 9000;
+    private String                 additionalSendHosts       = "";
+    private boolean                useBuiltInTransport       = false;
     private ValueResolution        valueResolution           = ValueResolution.LOW;
     private int                    bankPageSize              = 8;
+    private int                    maxBundleSize             = 8192;
+    private int                    maxSendRate               = 512;
     private String []              assignableFunctionActions = new String [8];
 
 
@@ -96,6 +106,18 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        final IEnumSetting transportSetting = globalSettings.getEnumSetting ("OSC implementation (requires restart)", CATEGORY_SETUP, TRANSPORT_OPTIONS, TRANSPORT_OPTIONS[0]);
+        this.useBuiltInTransport = TRANSPORT_OPTIONS[1].equals (transportSetting.get ());
+
+        final IStringSetting additionalSendHostsSetting = globalSettings.getStringSetting ("Additional hosts to send to, e.g. 192.168.1.5:9000, ... (built-in only, requires restart)", CATEGORY_SETUP, 200, "");
+        this.additionalSendHosts = additionalSendHostsSetting.get ();
+
+        final IIntegerSetting maxBundleSizeSetting = globalSettings.getRangeSetting ("Max. bundle size (requires restart)", CATEGORY_SETUP, 512, 65507, 1, "Bytes", 8192);
+        this.maxBundleSize = maxBundleSizeSetting.get ().intValue ();
+
+        final IIntegerSetting maxSendRateSetting = globalSettings.getRangeSetting ("Max. send rate (requires restart)", CATEGORY_SETUP, 16, 10000, 1, "KB/s", 512);
+        this.maxSendRate = maxSendRateSetting.get ().intValue ();
+
         ///////////////////////////
         // Protocol
 
@@ -185,6 +207,51 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get further hosts to which the OSC messages are sent as well. Only supported by the built-in
+     * implementation.
+     *
+     * @return Comma separated list of host:port
+     */
+    public String getAdditionalSendHosts ()
+    {
+        return this.additionalSendHosts;
+    }
+
+
+    /**
+     * Should the built-in OSC implementation be used instead of the one of the DAW?
+     *
+     * @return True to use the built-in implementation
+     */
+    public boolean useBuiltInTransport ()
+    {
+        return this.useBuiltInTransport;
+    }
+
+
+    /**
+     * Get the maximum size of an OSC bundle. Should not be larger than the MTU of the network.
+     *
+     * @return The size in bytes
+     */
+    public int getMaxBundleSize ()
+    {
+        return this.maxBundleSize;
+    }
+
+
+    /**
+     * Get the maximum number of bytes to send per second.
+     *
+     * @return The rate in kilobytes per second
+     */
+    public int getMaxSendRate ()
+    {
+        return this.maxSendRate;
+    }
+
+
     /**
      * Get the selected value resolution.
      *
@@ -217,4 +284,15 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     {
         return this.assignableFunctionActions[index];
     }
+
+
+    /**
+     * Get the selected actions of all assignable functions.
+     *
+     * @return The action IDs
+     */
+    public String [] getAssignableActions ()
+    {
+        return this.assignableFunctionActions;
+    }
 }
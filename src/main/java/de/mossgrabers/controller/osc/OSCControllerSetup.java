@@ -32,14 +32,22 @@ import de.mossgrabers.framework.daw.constants.DeviceID;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.osc.DatagramOpenSoundControlClient;
+import de.mossgrabers.framework.osc.DatagramOpenSoundControlServer;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.osc.OpenSoundControlSender;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
+import de.mossgrabers.framework.utils.LatencyHistogram;
+import de.mossgrabers.framework.utils.PerformanceMetrics;
+import de.mossgrabers.framework.utils.PerformanceMetrics.Counter;
+import de.mossgrabers.framework.utils.PerformanceMetrics.Timer;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 
 /**
@@ -49,9 +57,11 @@ import java.util.List;
  */
 public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<OSCConfiguration>, OSCConfiguration>
 {
-    private OSCWriter               writer;
-    private KeyManager              keyManager;
-    private IOpenSoundControlServer oscServer;
+    private OSCWriter                      writer;
+    private KeyManager                     keyManager;
+    private IOpenSoundControlServer        oscServer;
+    private OpenSoundControlSender         oscSender;
+    private DatagramOpenSoundControlClient datagramClient;
 
 
     /**
@@ -76,7 +86,58 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     @Override
     public void flush ()
     {
+        final PerformanceMetrics metrics = this.getSurface ().getMetrics ();
+        final long start = metrics.start ();
         this.writer.flush (false);
+        metrics.stop (Timer.OSC_FLUSH, start);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        super.exit ();
+
+        if (this.oscSender != null)
+            this.oscSender.shutdown ();
+
+        if (this.oscServer instanceof DatagramOpenSoundControlServer)
+            ((DatagramOpenSoundControlServer) this.oscServer).close ();
+        if (this.datagramClient != null)
+        {
+            try
+            {
+                this.datagramClient.close ();
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not close OSC socket.", ex);
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void logPerformanceMetrics (final PerformanceMetrics metrics)
+    {
+        super.logPerformanceMetrics (metrics);
+
+        // Additionally send the metrics to the OSC client, they are sent with the next flush
+        for (final Timer timer: Timer.values ())
+        {
+            final LatencyHistogram histogram = metrics.getTimer (timer);
+            if (histogram.getCount () == 0)
+                continue;
+            final String address = "/metrics/" + timer.name ().toLowerCase (Locale.US) + "/";
+            this.writer.sendOSC (address + "count", (int) histogram.getCount (), true);
+            this.writer.sendOSC (address + "mean", histogram.getMean () / 1000.0, true);
+            this.writer.sendOSC (address + "p99", histogram.getValueAtPercentile (99) / 1000.0, true);
+            this.writer.sendOSC (address + "max", histogram.getMax () / 1000.0, true);
+        }
+        for (final Counter counter: Counter.values ())
+            this.writer.sendOSC ("/metrics/" + counter.name ().toLowerCase (Locale.US), (int) metrics.getCounter (counter), true);
     }
 
 
@@ -182,8 +243,9 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         final String sendHost = this.configuration.getSendHost ();
         final int sendPort = this.configuration.getSendPort ();
         this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
-        this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
+        final IOpenSoundControlClient oscClient = this.configuration.useBuiltInTransport () ? this.createDatagramClient (sendHost, sendPort) : this.host.connectToOSCServer (sendHost, sendPort);
+        this.oscSender = new OpenSoundControlSender (this.host, oscClient, this.configuration.getMaxBundleSize (), this.configuration.getMaxSendRate () * 1024);
+        this.writer = new OSCWriter (this.host, this.model, this.oscSender, this.configuration);
 
         // Receive OSC messages
         final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
@@ -208,7 +270,53 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
             parser.registerModule (module);
         });
 
-        this.oscServer = this.host.createOSCServer (parser);
+        this.oscServer = this.configuration.useBuiltInTransport () ? new DatagramOpenSoundControlServer (this.host, parser) : this.host.createOSCServer (parser);
+    }
+
+
+    /**
+     * Create the built-in OSC client, which sends to the configured host and all additional hosts.
+     * Falls back to the client of the DAW if the socket cannot be opened.
+     *
+     * @param sendHost The host to send to
+     * @param sendPort The port to send to
+     * @return The client
+     */
+    private IOpenSoundControlClient createDatagramClient (final String sendHost, final int sendPort)
+    {
+        try
+        {
+            this.datagramClient = new DatagramOpenSoundControlClient ();
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not open OSC socket, using the DAW implementation.", ex);
+            return this.host.connectToOSCServer (sendHost, sendPort);
+        }
+
+        this.datagramClient.addDestination (sendHost, sendPort);
+        for (final String destination: this.configuration.getAdditionalSendHosts ().split (","))
+        {
+            final String hostAndPort = destination.trim ();
+            if (hostAndPort.isEmpty ())
+                continue;
+            final int pos = hostAndPort.lastIndexOf (':');
+            if (pos > 0)
+            {
+                try
+                {
+                    this.datagramClient.addDestination (hostAndPort.substring (0, pos), Integer.parseInt (hostAndPort.substring (pos + 1)));
+                    this.host.println ("Additionally sending to OSC server " + hostAndPort);
+                    continue;
+                }
+                catch (final IllegalArgumentException ex)
+                {
+                    // Wrong port, fall through
+                }
+            }
+            this.host.error ("Additional OSC host must be given as host:port but is: " + hostAndPort);
+        }
+        return this.datagramClient;
     }
 
 
@@ -216,7 +324,9 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     @Override
     public void startup ()
     {
+        this.checkActions (this.configuration.getAssignableActions ());
+
         // Initial flush of the whole DAW state
-        this.host.scheduleTask ( () -> this.writer.flush (true), 1000);
+        this.writer.flush (true);
     }
 }
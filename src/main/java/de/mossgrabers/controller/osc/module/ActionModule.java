@@ -8,11 +8,15 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.framework.daw.ActionMacro;
+import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Map;
 
 
 /**
@@ -22,7 +26,10 @@ import java.util.LinkedList;
  */
 public class ActionModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private static final int               MAX_CACHED_MACROS = 64;
+
+    private final OSCConfiguration         configuration;
+    private final Map<String, ActionMacro> macros            = new HashMap<> ();
 
 
     /**
@@ -60,6 +67,13 @@ public class ActionModule extends AbstractModule
             throw new UnknownCommandException (command);
 
         final String subCommand = getSubCommand (path);
+        if ("macro".equals (subCommand))
+        {
+            final IApplication application = this.model.getApplication ();
+            application.invokeActionMacro (this.getMacro (application, toString (value)));
+            return;
+        }
+
         try
         {
             final int actionNo = Math.min (7, Math.max (0, Integer.parseInt (subCommand) - 1));
@@ -72,4 +86,37 @@ public class ActionModule extends AbstractModule
             throw new UnknownCommandException (subCommand);
         }
     }
+
+
+    /**
+     * Get the macro for a definition. The macros are only resolved once, as long as they stay in
+     * the cache.
+     *
+     * @param application The application which resolves the actions
+     * @param definition The definition of the macro
+     * @return The macro
+     * @throws IllegalParameterException The definition is not valid
+     */
+    private ActionMacro getMacro (final IApplication application, final String definition) throws IllegalParameterException
+    {
+        final ActionMacro cachedMacro = this.macros.get (definition);
+        if (cachedMacro != null)
+            return cachedMacro;
+
+        final ActionMacro macro;
+        try
+        {
+            macro = application.createActionMacro (definition);
+        }
+        catch (final IllegalArgumentException ex)
+        {
+            throw new IllegalParameterException (ex.getMessage ());
+        }
+
+        // The definitions are sent by the remote, therefore limit the number of cached macros
+        if (this.macros.size () >= MAX_CACHED_MACROS)
+            this.macros.clear ();
+        this.macros.put (definition, macro);
+        return macro;
+    }
 }
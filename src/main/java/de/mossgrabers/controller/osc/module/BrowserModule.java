@@ -111,7 +111,9 @@ public class BrowserModule extends AbstractModule
                 if (!browser.isActive ())
                     return;
                 final String direction = path.isEmpty () ? "+" : path.removeFirst ();
-                if ("+".equals (direction))
+                if ("filter".equals (direction))
+                    browser.selectMatchingResult (toString (value));
+                else if ("+".equals (direction))
                     browser.selectNextResult ();
                 else
                     browser.selectPreviousResult ();
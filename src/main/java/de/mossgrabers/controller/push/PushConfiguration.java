@@ -346,6 +346,7 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
         this.activateStopAutomationOnKnobReleaseSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
         this.activateKnobSpeedSetting (globalSettings);
+        this.activateKnobAccelerationSetting (globalSettings);
 
         this.activateUserPageNamesSetting (documentSettings);
 
@@ -120,6 +120,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwFader;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.AccelerationCurve;
 import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.INoteClip;
@@ -141,6 +142,7 @@ import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.mode.MasterVolumeMode;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.utils.PerformanceMetrics;
 import de.mossgrabers.framework.view.AbstractSequencerView;
 import de.mossgrabers.framework.view.TransposeView;
 import de.mossgrabers.framework.view.Views;
@@ -173,6 +175,7 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         this.isPush2 = isPush2;
         this.colorManager = new PushColorManager (isPush2);
         this.valueChanger = new DefaultValueChanger (1024, 10);
+        this.knobAccelerationCurve = AccelerationCurve.TWOS_COMPLEMENT;
         this.configuration = new PushConfiguration (host, this.valueChanger, factory.getArpeggiatorModes (), isPush2);
     }
 
@@ -245,6 +248,17 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void logPerformanceMetrics (final PerformanceMetrics metrics)
+    {
+        super.logPerformanceMetrics (metrics);
+
+        if (this.isPush2)
+            this.host.println (((Push2Display) this.getSurface ().getGraphicsDisplay ()).getUsbStatistics ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void createModes ()
@@ -442,6 +456,8 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         viewManager.register (Views.SCENE_PLAY, new ScenePlayView (surface, this.model, this.sceneBank64));
 
         viewManager.register (Views.DRUM64, new Drum64View (surface, this.model));
+
+        this.enableDemandDrivenObservers ();
     }
 
 
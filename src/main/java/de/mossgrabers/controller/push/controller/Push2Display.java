@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.utils.PerformanceMetrics.Counter;
 
 
 /**
@@ -61,11 +62,24 @@ public class Push2Display extends AbstractGraphicDisplay
     }
 
 
+    /**
+     * Get the statistics of the frames sent to the USB display.
+     *
+     * @return The statistics as a text
+     */
+    public String getUsbStatistics ()
+    {
+        return this.usbDisplay.getStatistics ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void send (final IBitmap image)
     {
-        if (this.usbDisplay != null)
-            this.usbDisplay.send (image);
+        if (this.usbDisplay == null)
+            return;
+        this.usbDisplay.send (image);
+        this.metrics.add (Counter.USB_BYTES_OUT, this.usbDisplay.getTransferSize ());
     }
 }
\ No newline at end of file
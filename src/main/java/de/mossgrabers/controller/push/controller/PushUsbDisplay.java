@@ -5,16 +5,11 @@
 package de.mossgrabers.controller.push.controller;
 
 import de.mossgrabers.framework.daw.IHost;
-import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
-
-import java.nio.ByteBuffer;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import de.mossgrabers.framework.usb.UsbFrameSender;
 
 
 /**
@@ -29,6 +24,9 @@ public class PushUsbDisplay
 
     private static final int               TIMEOUT          = 1000;
 
+    /** Triple buffering: one frame in transfer, one waiting and one being filled. */
+    private static final int               NUM_BUFFERS      = 3;
+
     private static final byte []           DISPLAY_HEADER   =
     {
         (byte) 0xef,
@@ -51,14 +49,19 @@ public class PushUsbDisplay
 
     private IUsbDevice                     usbDevice;
     private IUsbEndpoint                   usbEndpoint;
-    private final IHost                    host;
-    private final IMemoryBlock             headerBlock;
-    private final IMemoryBlock             imageBlock;
+    private final UsbFrameSender           frameSender;
     private final byte []                  byteStore        = new byte [DATA_SZ];
 
-    private Object                         sendLock         = new Object ();
-    private Object                         bufferUpdateLock = new Object ();
-    private final ScheduledExecutorService sendExecutor     = Executors.newSingleThreadScheduledExecutor ();
+
+    /**
+     * Get the number of bytes which are transferred for one image (including the header).
+     *
+     * @return The number of bytes
+     */
+    public int getTransferSize ()
+    {
+        return DISPLAY_HEADER.length + DATA_SZ;
+    }
 
 
     /**
@@ -68,8 +71,6 @@ public class PushUsbDisplay
      */
     public PushUsbDisplay (final IHost host)
     {
-        this.host = host;
-
         try
         {
             this.usbDevice = host.getUsbDevice (0);
@@ -82,106 +83,94 @@ public class PushUsbDisplay
             host.error ("Could not open USB output.");
         }
 
-        this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
-        this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+        this.frameSender = this.usbEndpoint == null ? null : new UsbFrameSender (host, this.usbEndpoint, DISPLAY_HEADER, DATA_SZ, NUM_BUFFERS, TIMEOUT);
     }
 
 
     /**
-     * Send the buffered image to the screen.
+     * Send the buffered image to the screen. The USB transfer runs asynchronously. If the device
+     * is still busy with the previous image, only the latest image is sent afterwards.
      *
      * @param image An image of size 960 x 160 pixel
      */
     public void send (final IBitmap image)
     {
-        // Copy to the buffer
-        synchronized (this.bufferUpdateLock)
-        {
-            image.encode ( (imageBuffer, width, height) -> {
-
-                int counter = 0;
-                final int padding = (DATA_SZ - height * width * 2) / height;
+        if (this.frameSender == null)
+            return;
 
-                for (int y = 0; y < height; y++)
-                {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-
-                        this.byteStore[counter] = (byte) (pixel & 0x00FF);
-                        this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
-
-                        counter += 2;
-                    }
-
-                    for (int x = 0; x < padding; x++)
-                    {
-                        this.byteStore[counter] = (byte) 0x00;
-                        counter++;
-                    }
-                }
+        this.frameSender.send (buffer -> {
 
-                imageBuffer.rewind ();
-            });
-        }
+            // Convert into the re-used store first, since a bulk copy into the (native) buffer is
+            // much faster than putting the single bytes
+            synchronized (this.byteStore)
+            {
+                this.encode (image);
+                buffer.put (this.byteStore);
+            }
 
-        synchronized (this.sendLock)
-        {
-            if (!this.sendExecutor.isShutdown ())
-                this.sendExecutor.submit (this::sendData);
-        }
+        });
     }
 
 
-    private void sendData ()
+    private void encode (final IBitmap image)
     {
-        // Copy the data from the buffer to the USB block
-        synchronized (this.bufferUpdateLock)
-        {
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
-            buffer.clear ();
-            for (int i = 0; i < DATA_SZ; i++)
-                buffer.put (this.byteStore[i]);
-        }
+        image.encode ( (imageBuffer, width, height) -> {
 
-        // Send the data
-        synchronized (this.sendLock)
-        {
-            if (this.usbDevice == null || this.usbEndpoint == null)
-                return;
+            int counter = 0;
+            final int padding = (DATA_SZ - height * width * 2) / height;
 
-            this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
-        }
+            for (int y = 0; y < height; y++)
+            {
+                for (int x = 0; x < width; x++)
+                {
+                    final int blue = imageBuffer.get ();
+                    final int green = imageBuffer.get ();
+                    final int red = imageBuffer.get ();
+                    imageBuffer.get (); // Drop unused Alpha
+
+                    final int pixel = sPixelFromRGB (red, green, blue);
+
+                    this.byteStore[counter] = (byte) (pixel & 0x00FF);
+                    this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
+
+                    counter += 2;
+                }
+
+                for (int x = 0; x < padding; x++)
+                {
+                    this.byteStore[counter] = (byte) 0x00;
+                    counter++;
+                }
+            }
+
+            imageBuffer.rewind ();
+        });
     }
 
 
     /**
-     * Stops all transfers to the device. Nulls the device.
+     * Stops all transfers to the device. Waits for the last image to be sent. Nulls the device.
      */
     public void shutdown ()
     {
-        synchronized (this.sendLock)
-        {
-            this.usbDevice = null;
-            this.usbEndpoint = null;
+        if (this.frameSender != null)
+            this.frameSender.shutdown ();
 
-            this.sendExecutor.shutdown ();
-            try
-            {
-                this.sendExecutor.awaitTermination (5, TimeUnit.SECONDS);
-            }
-            catch (final InterruptedException ex)
-            {
-                this.host.error ("USB Send executor did not end in 10 seconds. Interrupted.", ex);
-            }
-        }
+        this.usbDevice = null;
+        this.usbEndpoint = null;
+    }
+
+
+    /**
+     * Get the statistics of the sent frames.
+     *
+     * @return The statistics as a text
+     */
+    public String getStatistics ()
+    {
+        if (this.frameSender == null)
+            return "No USB connection.";
+        return String.format ("Sent frames: %d, dropped frames: %d, failed frames: %d, latency avg: %.2f ms, max: %.2f ms", Long.valueOf (this.frameSender.getNumSentFrames ()), Long.valueOf (this.frameSender.getNumDroppedFrames ()), Long.valueOf (this.frameSender.getNumFailedFrames ()), Double.valueOf (this.frameSender.getAverageLatency ()), Double.valueOf (this.frameSender.getMaxLatency ()));
     }
 
 
@@ -16,9 +16,12 @@ import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
 import de.mossgrabers.framework.featuregroup.AbstractMode;
+import de.mossgrabers.framework.observer.ObservedFeature;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.EnumSet;
+
 
 /**
  * Mode for navigating the browser.
@@ -45,6 +48,8 @@ public class DeviceBrowserMode extends BaseMode
     {
         super ("Browser", surface, model);
 
+        this.observedFeatures = EnumSet.noneOf (ObservedFeature.class);
+
         this.selectionMode = SELECTION_OFF;
         this.filterColumn = -1;
     }
@@ -427,10 +432,7 @@ public class DeviceBrowserMode extends BaseMode
             }
         }
         else
-        {
-            for (int i = 0; i < count; i++)
-                browser.selectNextResult ();
-        }
+            this.moveResultSelection (browser, count);
     }
 
 
@@ -451,8 +453,31 @@ public class DeviceBrowserMode extends BaseMode
             }
         }
         else
+            this.moveResultSelection (browser, -count);
+    }
+
+
+    /**
+     * Move the result selection. Larger steps jump directly to the result instead of selecting
+     * one after the other.
+     *
+     * @param browser The browser
+     * @param steps The number of steps, negative to move backwards
+     */
+    private void moveResultSelection (final IBrowser browser, final int steps)
+    {
+        final int position = browser.getSelectedResultPosition ();
+        if (Math.abs (steps) > 1 && position >= 0)
+        {
+            browser.selectResult (position + steps);
+            return;
+        }
+
+        for (int i = 0; i < Math.abs (steps); i++)
         {
-            for (int j = 0; j < count; j++)
+            if (steps > 0)
+                browser.selectNextResult ();
+            else
                 browser.selectPreviousResult ();
         }
     }
@@ -26,10 +26,13 @@ import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.ObservedFeature;
 import de.mossgrabers.framework.parameterprovider.BankParameterProvider;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.EnumSet;
+
 
 /**
  * Mode for editing device remote control parameters.
@@ -64,6 +67,8 @@ public class DeviceParamsMode extends BaseMode
     {
         super ("Parameters", surface, model, model.getCursorDevice ().getParameterBank ());
 
+        this.observedFeatures = EnumSet.of (ObservedFeature.DEVICE_PAGES);
+
         this.setParameters (new BankParameterProvider (this.model.getCursorDevice ().getParameterBank ()));
 
         this.setShowDevices (true);
@@ -47,6 +47,7 @@ import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.ObservedValue;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.view.Views;
 
@@ -124,6 +125,9 @@ public class SLControllerSetup extends AbstractControllerSetup<SLControlSurface,
         final ModelSetup ms = new ModelSetup ();
         ms.setHasFullFlatTrackList (true);
         ms.setNumSends (6);
+        ms.ignoreValue (ObservedValue.COLORS);
+        ms.ignoreValue (ObservedValue.MODULATED_VALUES);
+        ms.ignoreValue (ObservedValue.VU_METERS);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
     }
 
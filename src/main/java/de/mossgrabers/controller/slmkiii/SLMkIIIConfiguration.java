@@ -58,6 +58,7 @@ public class SLMkIIIConfiguration extends AbstractConfiguration
         this.activateExcludeDeactivatedItemsSetting (globalSettings);
         this.activateBehaviourOnStopSetting (globalSettings);
         this.activateNewClipLengthSetting (globalSettings);
+        this.activateKnobAccelerationSetting (globalSettings);
 
         final IEnumSetting enableFadersSetting = globalSettings.getEnumSetting ("Enable Faders", CATEGORY_WORKFLOW, ON_OFF_OPTIONS, ON_OFF_OPTIONS[1]);
         enableFadersSetting.addValueObserver (value -> {
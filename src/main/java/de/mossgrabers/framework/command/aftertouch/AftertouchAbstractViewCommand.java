@@ -10,8 +10,6 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.featuregroup.AbstractView;
 
-import java.util.List;
-
 
 /**
  * Command to handle the aftertouch on a view.
@@ -81,9 +79,8 @@ public class AftertouchAbstractViewCommand<S extends IControlSurface<C>, C exten
         final Configuration config = this.surface.getConfiguration ();
         if (config.getConvertAftertouch () == -2)
         {
-            final List<Integer> keys = this.view.getKeyManager ().getPressedKeys ();
-            for (final Integer key: keys)
-                this.onPolyAftertouch (key.intValue (), value);
+            for (final int key: this.view.getKeyManager ().getPressedKeys ())
+                this.onPolyAftertouch (key, value);
         }
         else
             this.onPolyAftertouch (0, value);
@@ -23,6 +23,7 @@ import de.mossgrabers.framework.view.Views;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -111,6 +112,14 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer      RECORD_BUTTON_FUNCTION            = Integer.valueOf (36);
     /** Setting for different record button functions in combination with shift. */
     public static final Integer      SHIFTED_RECORD_BUTTON_FUNCTION    = Integer.valueOf (37);
+    /** Setting for the interval of the performance metrics summary. */
+    public static final Integer      PERFORMANCE_METRICS               = Integer.valueOf (38);
+    /** Setting for recording a MIDI trace. */
+    public static final Integer      MIDI_TRACE                        = Integer.valueOf (39);
+    /** Replay the recorded MIDI trace. */
+    public static final Integer      MIDI_TRACE_REPLAY                 = Integer.valueOf (40);
+    /** Setting for the acceleration of relative knobs. */
+    public static final Integer      KNOB_ACCELERATION                 = Integer.valueOf (41);
 
     // Implementation IDs start at 50
 
@@ -302,6 +311,26 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    private static final String []                    METRICS_OPTIONS             =
+    {
+        "Off",
+        "Every 10 seconds",
+        "Every 60 seconds"
+    };
+
+    private static final int []                       METRICS_INTERVALS           =
+    {
+        0,
+        10,
+        60
+    };
+
+    private static final String []                    MIDI_TRACE_OPTIONS          =
+    {
+        "Off",
+        "Record"
+    };
+
     private static final String []                    RECORD_OPTIONS              =
     {
         "Record arranger",
@@ -334,6 +363,8 @@ public abstract class AbstractConfiguration implements Configuration
     private final Map<Integer, Set<ISettingObserver>> observers                   = new HashMap<> ();
     protected final Set<Integer>                      dontNotifyAll               = new HashSet<> ();
     protected final Set<Integer>                      isSettingActive             = new HashSet<> ();
+    private final Set<Integer>                        pendingNotifications        = new LinkedHashSet<> ();
+    private int                                       transactionDepth            = 0;
     protected IValueChanger                           valueChanger;
 
     private String                                    scale                       = "Major";
@@ -370,6 +401,7 @@ public abstract class AbstractConfiguration implements Configuration
     };
     private int                                       knobSpeedDefault            = 0;
     private int                                       knobSpeedSlow               = -40;
+    private boolean                                   knobAcceleration            = true;
 
     private boolean                                   noteRepeatActive            = false;
     private Resolution                                noteRepeatPeriod            = Resolution.RES_1_8;
@@ -388,6 +420,8 @@ public abstract class AbstractConfiguration implements Configuration
 
     private RecordFunction                            recordButtonFunction        = RecordFunction.RECORD_ARRANGER;
     private RecordFunction                            shiftedRecordButtonFunction = RecordFunction.NEW_CLIP;
+    private int                                       performanceMetricsInterval  = 0;
+    private boolean                                   isMidiTraceRecording        = false;
 
 
     /**
@@ -427,6 +461,37 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void beginSettingsTransaction ()
+    {
+        this.transactionDepth++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void endSettingsTransaction ()
+    {
+        if (this.transactionDepth == 0)
+            return;
+        this.transactionDepth--;
+        if (this.transactionDepth > 0 || this.pendingNotifications.isEmpty ())
+            return;
+
+        // Collect first to call observers which are registered for several settings only once
+        final Set<ISettingObserver> toNotify = new LinkedHashSet<> ();
+        for (final Integer settingID: this.pendingNotifications)
+        {
+            final Set<ISettingObserver> set = this.observers.get (settingID);
+            if (set != null)
+                toNotify.addAll (set);
+        }
+        this.pendingNotifications.clear ();
+        toNotify.forEach (ISettingObserver::hasChanged);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean canSettingBeObserved (final Integer settingID)
@@ -746,6 +811,14 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isKnobAccelerationActive ()
+    {
+        return this.knobAcceleration;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isNoteRepeatActive ()
@@ -1299,6 +1372,22 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the knob acceleration setting.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateKnobAccelerationSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting knobAccelerationSetting = settingsUI.getEnumSetting ("Knob Acceleration", CATEGORY_WORKFLOW, ON_OFF_OPTIONS, ON_OFF_OPTIONS[1]);
+        knobAccelerationSetting.addValueObserver (value -> {
+            this.knobAcceleration = "On".equals (value);
+            this.notifyObservers (KNOB_ACCELERATION);
+        });
+        this.isSettingActive.add (KNOB_ACCELERATION);
+    }
+
+
     /**
      * Activate the note repeat settings.
      *
@@ -1432,25 +1521,86 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void activatePerformanceMetricsSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting performanceMetricsSetting = settingsUI.getEnumSetting ("Log performance metrics", CATEGORY_DEBUG, METRICS_OPTIONS, METRICS_OPTIONS[0]);
+        performanceMetricsSetting.addValueObserver (value -> {
+            this.performanceMetricsInterval = METRICS_INTERVALS[lookupIndex (METRICS_OPTIONS, value)];
+            this.notifyObservers (PERFORMANCE_METRICS);
+        });
+
+        this.isSettingActive.add (PERFORMANCE_METRICS);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPerformanceMetricsInterval ()
+    {
+        return this.performanceMetricsInterval;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void activateMidiTraceSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting midiTraceSetting = settingsUI.getEnumSetting ("MIDI trace", CATEGORY_DEBUG, MIDI_TRACE_OPTIONS, MIDI_TRACE_OPTIONS[0]);
+        midiTraceSetting.addValueObserver (value -> {
+            this.isMidiTraceRecording = MIDI_TRACE_OPTIONS[1].equals (value);
+            this.notifyObservers (MIDI_TRACE);
+        });
+
+        settingsUI.getSignalSetting ("MIDI trace replay", CATEGORY_DEBUG, "Replay").addSignalObserver (value -> this.notifyObservers (MIDI_TRACE_REPLAY));
+
+        this.isSettingActive.add (MIDI_TRACE);
+        this.isSettingActive.add (MIDI_TRACE_REPLAY);
+
+        // Never replay a trace left over from an earlier session when the settings are sent
+        this.dontNotifyAll.add (MIDI_TRACE_REPLAY);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMidiTraceRecording ()
+    {
+        return this.isMidiTraceRecording;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void notifyAllObservers ()
     {
         for (final Entry<Integer, Set<ISettingObserver>> entry: this.observers.entrySet ())
         {
-            if (!this.dontNotifyAll.contains (entry.getKey ()))
+            if (this.dontNotifyAll.contains (entry.getKey ()))
+                continue;
+            if (this.transactionDepth > 0)
+                this.pendingNotifications.add (entry.getKey ());
+            else
                 entry.getValue ().forEach (ISettingObserver::hasChanged);
         }
     }
 
 
     /**
-     * Notify all observers about the change of a setting.
+     * Notify all observers about the change of a setting. If a settings transaction is running the
+     * notification is delayed until the end of the transaction.
      *
      * @param settingID The ID of the setting, which has changed
      */
     protected void notifyObservers (final Integer settingID)
     {
+        if (this.transactionDepth > 0)
+        {
+            this.pendingNotifications.add (settingID);
+            return;
+        }
+
         final Set<ISettingObserver> set = this.observers.get (settingID);
         if (set != null)
             set.forEach (ISettingObserver::hasChanged);
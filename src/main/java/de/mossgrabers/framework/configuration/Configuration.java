@@ -39,6 +39,21 @@ public interface Configuration
     void clearSettingObservers ();
 
 
+    /**
+     * Starts a settings transaction. Until the matching call to {@link #endSettingsTransaction()}
+     * all setting change notifications are collected instead of being sent. Transactions can be
+     * nested, the notifications are delivered when the outermost transaction ends.
+     */
+    void beginSettingsTransaction ();
+
+
+    /**
+     * Ends a settings transaction. If this was the outermost transaction, each observer of the
+     * settings which changed during the transaction is notified exactly once.
+     */
+    void endSettingsTransaction ();
+
+
     /**
      * Check if the setting with the given ID is active and can be observed.
      *
@@ -226,6 +241,40 @@ public interface Configuration
     void init (ISettingsUI globalSettings, ISettingsUI documentSettings);
 
 
+    /**
+     * Activate the setting for logging the performance metrics. Called by the controller setup
+     * after the other settings have been initialized.
+     *
+     * @param settingsUI The settings
+     */
+    void activatePerformanceMetricsSetting (ISettingsUI settingsUI);
+
+
+    /**
+     * Get the interval in which a summary of the performance metrics is logged.
+     *
+     * @return The interval in seconds, 0 if logging is off
+     */
+    int getPerformanceMetricsInterval ();
+
+
+    /**
+     * Activate the settings for recording and replaying a trace of the MIDI messages. Called by the
+     * controller setup after the other settings have been initialized.
+     *
+     * @param settingsUI The settings
+     */
+    void activateMidiTraceSetting (ISettingsUI settingsUI);
+
+
+    /**
+     * Should the MIDI messages be recorded?
+     *
+     * @return True if recording is enabled
+     */
+    boolean isMidiTraceRecording ();
+
+
     /**
      * Set the VU meters enabled state.
      *
@@ -298,6 +347,14 @@ public interface Configuration
     int getKnobSensitivitySlow ();
 
 
+    /**
+     * Is the acceleration of relative knobs enabled?
+     *
+     * @return True if enabled
+     */
+    boolean isKnobAccelerationActive ();
+
+
     /**
      * Get all supported Arpeggiator modes.
      *
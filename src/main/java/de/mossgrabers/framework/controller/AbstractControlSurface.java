@@ -28,11 +28,15 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.MidiInputQueue;
 import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.PerformanceMetrics;
+import de.mossgrabers.framework.utils.PerformanceMetrics.Counter;
+import de.mossgrabers.framework.utils.PerformanceMetrics.Timer;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -93,6 +97,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     private boolean                                 knobSensitivityIsSlow    = false;
     private final List<ISensitivityCallback>        knobSensitivityObservers = new ArrayList<> ();
 
+    protected final PerformanceMetrics              metrics;
+    private MidiInputQueue                          midiInputQueue           = null;
+
 
     /**
      * Constructor.
@@ -159,10 +166,14 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
         this.dummyDisplay = new DummyDisplay (host);
 
+        this.metrics = new PerformanceMetrics (this.getClass ().getSimpleName () + " " + (surfaceID + 1));
+
         this.output = output;
+        if (this.output != null)
+            this.output.setMetrics (this.metrics);
         this.input = input;
         if (this.input != null)
-            this.input.setMidiCallback (this::handleMidi);
+            this.input.setMidiCallback (this::receiveMidi);
 
         this.createPads ();
         this.createLightGuide ();
@@ -328,6 +339,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         final IBitmap bitmap = display.getImage ();
         display.setHardwareDisplay (this.surfaceFactory.createGraphicsDisplay (this.surfaceID, OutputID.DISPLAY1, bitmap));
+        display.setMetrics (this.metrics);
         this.graphicsDisplays.add (display);
     }
 
@@ -707,9 +719,17 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
         try
         {
+            long start = this.metrics.start ();
             this.updateViewControls ();
+            this.metrics.stop (Timer.FLUSH_VIEW_CONTROLS, start);
+
+            start = this.metrics.start ();
             this.updateGrid ();
+            this.metrics.stop (Timer.FLUSH_GRID, start);
+
+            start = this.metrics.start ();
             this.flushHardware ();
+            this.metrics.stop (Timer.FLUSH_HARDWARE, start);
         }
         catch (final RuntimeException ex)
         {
@@ -729,6 +749,32 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void flushSynchronously ()
+    {
+        if (this.midiInputQueue != null)
+            this.midiInputQueue.drain ();
+
+        synchronized (this.updateCounterLock)
+        {
+            this.updateCounter = 1;
+        }
+        this.flushHandler ();
+
+        this.textDisplays.forEach (IDisplay::awaitPendingOutput);
+        this.graphicsDisplays.forEach (IDisplay::awaitPendingOutput);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public PerformanceMetrics getMetrics ()
+    {
+        return this.metrics;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void clearCache ()
@@ -761,6 +807,51 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Queue the received MIDI messages and handle them in batches instead of handling each one
+     * directly in the MIDI callback.
+     *
+     * @param filter Decides which messages can be coalesced (only the latest value is handled),
+     *            null to coalesce nothing
+     */
+    protected void enableMidiInputQueue (final MidiInputQueue.ICoalesceFilter filter)
+    {
+        this.midiInputQueue = new MidiInputQueue (this.host, this::handleMidiMeasured, filter);
+    }
+
+
+    /**
+     * Handle received midi data directly or add it to the input queue if enabled.
+     *
+     * @param status The midi status byte
+     * @param data1 The midi data byte 1
+     * @param data2 The midi data byte 2
+     */
+    private void receiveMidi (final int status, final int data1, final int data2)
+    {
+        if (this.midiInputQueue == null)
+            this.handleMidiMeasured (status, data1, data2);
+        else
+            this.midiInputQueue.handleMidi (status, data1, data2);
+    }
+
+
+    /**
+     * Handle received midi data and measure the required time.
+     *
+     * @param status The midi status byte
+     * @param data1 The midi data byte 1
+     * @param data2 The midi data byte 2
+     */
+    private void handleMidiMeasured (final int status, final int data1, final int data2)
+    {
+        final long start = this.metrics.start ();
+        this.handleMidi (status, data1, data2);
+        this.metrics.stop (Timer.HANDLE_MIDI, start);
+        this.metrics.add (Counter.MIDI_MESSAGES_IN, 1);
+    }
+
+
     /**
      * Handle received midi data.
      *
@@ -1029,7 +1120,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
      */
     protected void flushHardware ()
     {
+        final long start = this.metrics.start ();
         this.textDisplays.forEach (ITextDisplay::flush);
+        this.metrics.stop (Timer.DISPLAY_SEND, start);
         this.surfaceFactory.flush ();
         this.continuous.values ().forEach (IHwContinuousControl::update);
     }
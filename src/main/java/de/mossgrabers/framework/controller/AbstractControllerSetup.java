@@ -17,14 +17,19 @@ import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.controller.hardware.IHwContinuousControl;
 import de.mossgrabers.framework.controller.hardware.IHwFader;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
+import de.mossgrabers.framework.controller.valuechanger.AccelerationCurve;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.constants.Capability;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.INoteRepeat;
+import de.mossgrabers.framework.daw.midi.MidiTrace;
+import de.mossgrabers.framework.daw.midi.MidiTraceReplayer;
+import de.mossgrabers.framework.featuregroup.FeatureSubscriptionManager;
 import de.mossgrabers.framework.featuregroup.IMode;
 import de.mossgrabers.framework.featuregroup.IView;
 import de.mossgrabers.framework.featuregroup.ModeManager;
@@ -34,10 +39,13 @@ import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.ConsoleLogger;
 import de.mossgrabers.framework.utils.IntConsumerSupplier;
+import de.mossgrabers.framework.utils.PerformanceMetrics;
 import de.mossgrabers.framework.utils.TestCallback;
 import de.mossgrabers.framework.utils.TestFramework;
 import de.mossgrabers.framework.view.Views;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BooleanSupplier;
@@ -54,18 +62,23 @@ import java.util.function.IntSupplier;
  */
 public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C extends Configuration> implements IControllerSetup<S, C>
 {
-    protected final List<S>       surfaces    = new ArrayList<> ();
-    protected final IHost         host;
-    protected final ISettingsUI   globalSettings;
-    protected final ISettingsUI   documentSettings;
-    protected final ISetupFactory factory;
+    protected final List<S>          surfaces              = new ArrayList<> ();
+    protected final IHost            host;
+    protected final ISettingsUI      globalSettings;
+    protected final ISettingsUI      documentSettings;
+    protected final ISetupFactory    factory;
+    protected final StartupSequencer startupSequencer;
 
-    protected Scales              scales;
-    protected IModel              model;
-    protected C                   configuration;
-    protected ColorManager        colorManager;
-    protected IValueChanger       valueChanger;
-    protected Modes               currentMode = null;
+    protected Scales                 scales;
+    protected IModel                 model;
+    protected C                      configuration;
+    protected ColorManager           colorManager;
+    protected IValueChanger          valueChanger;
+    protected Modes                  currentMode           = null;
+    protected AccelerationCurve      knobAccelerationCurve = AccelerationCurve.NONE;
+
+    private int                      metricsGeneration     = 0;
+    private final List<MidiTrace>    midiTraces            = new ArrayList<> ();
 
 
     /**
@@ -82,6 +95,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.host = host;
         this.globalSettings = globalSettings;
         this.documentSettings = documentSettings;
+        this.startupSequencer = new StartupSequencer (host);
 
         ConsoleLogger.init (host);
     }
@@ -131,20 +145,77 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void init ()
     {
-        this.initConfiguration ();
-        this.createScales ();
-        this.createModel ();
-        this.createSurface ();
-        this.createModes ();
-        this.createObservers ();
-        this.createViews ();
-        this.registerTriggerCommands ();
-        this.registerContinuousCommands ();
-        this.layoutControls ();
-        if (this.model != null)
-            this.model.ensureClip ();
+        // The settings values are delivered during the initialization, therefore the many
+        // change notifications are collected and sent only once at the end
+        this.configuration.beginSettingsTransaction ();
+        try
+        {
+            this.startupSequencer.beginPhase ();
+            this.initConfiguration ();
+            this.createScales ();
+            this.startupSequencer.endPhase ("initConfiguration");
+            this.createModel ();
+            this.startupSequencer.endPhase ("createModel");
+            this.createSurface ();
+            this.startupSequencer.endPhase ("createSurface");
+            this.createModes ();
+            this.startupSequencer.endPhase ("createModes");
+            this.createObservers ();
+            this.createViews ();
+            this.startupSequencer.endPhase ("createViews");
+            this.registerTriggerCommands ();
+            this.registerContinuousCommands ();
+            this.layoutControls ();
+            if (this.model != null)
+                this.model.ensureClip ();
+            this.startupSequencer.endPhase ("binding");
+
+            this.configuration.notifyAllObservers ();
+            this.startupSequencer.endPhase ("notifySettings");
+        }
+        finally
+        {
+            this.configuration.endSettingsTransaction ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void startupWhenReady (final Runnable callback)
+    {
+        this.startupSequencer.startWhenReady (this::isReady, () -> {
+            this.startup ();
+            callback.run ();
+        });
+    }
+
 
-        this.configuration.notifyAllObservers ();
+    /**
+     * Checks if the model has received the first values from the DAW, which are required to
+     * startup the controller.
+     *
+     * @return True if ready
+     */
+    protected boolean isReady ()
+    {
+        return this.model == null || this.model.isReady ();
+    }
+
+
+    /**
+     * Resolves the action IDs configured by the user, which reports the ones that are not
+     * available already on startup instead of on the first use.
+     *
+     * @param actionIDs The action IDs, empty ones are ignored
+     */
+    protected void checkActions (final String... actionIDs)
+    {
+        for (final String actionID: actionIDs)
+        {
+            if (actionID != null && !actionID.isEmpty ())
+                this.model.getApplication ().resolveAction (actionID);
+        }
     }
 
 
@@ -163,6 +234,10 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void flush ()
     {
+        // Apply the coalesced knob changes before the surfaces read the values
+        this.valueChanger.flushKnobChanges ();
+        this.model.getVuMeterService ().nextFrame ();
+
         for (final S surface: this.surfaces)
             surface.flush ();
     }
@@ -299,6 +374,153 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     protected void initConfiguration ()
     {
         this.configuration.init (this.globalSettings, this.documentSettings);
+
+        this.configuration.activatePerformanceMetricsSetting (this.globalSettings);
+        this.configuration.addSettingObserver (AbstractConfiguration.PERFORMANCE_METRICS, this::updatePerformanceMetrics);
+
+        this.configuration.activateMidiTraceSetting (this.globalSettings);
+        this.configuration.addSettingObserver (AbstractConfiguration.MIDI_TRACE, this::updateMidiTrace);
+        this.configuration.addSettingObserver (AbstractConfiguration.MIDI_TRACE_REPLAY, this::replayMidiTrace);
+    }
+
+
+    /**
+     * En-/disable the performance metrics of all surfaces and (re-)start the periodic logging. The
+     * report of the observer budget is logged once when enabled.
+     */
+    private void updatePerformanceMetrics ()
+    {
+        final int interval = this.configuration.getPerformanceMetricsInterval ();
+        final boolean isEnabled = interval > 0;
+        for (final S surface: this.surfaces)
+            surface.getMetrics ().setEnabled (isEnabled);
+
+        // Stops a running logging loop
+        this.metricsGeneration++;
+        if (!isEnabled)
+            return;
+        if (this.model != null)
+            this.host.println (this.model.getHost ().getObserverBudget ().getReport ());
+        this.schedulePerformanceMetricsLogging (this.metricsGeneration, interval * 1000L);
+    }
+
+
+    private void schedulePerformanceMetricsLogging (final int generation, final long interval)
+    {
+        this.host.scheduleTask ( () -> {
+
+            if (generation != this.metricsGeneration)
+                return;
+            for (final S surface: this.surfaces)
+            {
+                final PerformanceMetrics metrics = surface.getMetrics ();
+                this.logPerformanceMetrics (metrics);
+                metrics.reset ();
+            }
+            this.schedulePerformanceMetricsLogging (generation, interval);
+
+        }, interval);
+    }
+
+
+    /**
+     * Start or stop recording the MIDI messages of all surfaces. When stopped, the traces are
+     * stored in the temporary folder.
+     */
+    private void updateMidiTrace ()
+    {
+        final boolean isRecording = this.configuration.isMidiTraceRecording ();
+        if (isRecording == !this.midiTraces.isEmpty ())
+            return;
+
+        if (isRecording)
+        {
+            for (final S surface: this.surfaces)
+            {
+                final MidiTrace trace = new MidiTrace ();
+                this.setMidiTrace (surface, trace);
+                this.midiTraces.add (trace);
+            }
+            this.host.println ("Recording MIDI trace...");
+            return;
+        }
+
+        for (int i = 0; i < this.surfaces.size (); i++)
+        {
+            this.setMidiTrace (this.surfaces.get (i), null);
+            final MidiTrace trace = this.midiTraces.get (i);
+            final File file = this.getMidiTraceFile (i);
+            try
+            {
+                trace.save (file);
+                this.host.println (String.format ("MIDI trace with %d events (%d bytes) stored in %s", Integer.valueOf (trace.getNumEvents ()), Integer.valueOf (trace.getSize ()), file.getAbsolutePath ()));
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not store MIDI trace.", ex);
+            }
+        }
+        this.midiTraces.clear ();
+    }
+
+
+    /**
+     * Replay the stored MIDI traces of all surfaces and log the results.
+     */
+    private void replayMidiTrace ()
+    {
+        if (!this.midiTraces.isEmpty ())
+        {
+            this.host.println ("Stop recording the MIDI trace before replaying it.");
+            return;
+        }
+
+        for (int i = 0; i < this.surfaces.size (); i++)
+        {
+            final S surface = this.surfaces.get (i);
+            final File file = this.getMidiTraceFile (i);
+            if (!file.exists () || surface.getMidiInput () == null || surface.getMidiOutput () == null)
+                continue;
+            try
+            {
+                final MidiTrace trace = MidiTrace.load (file);
+                final MidiTraceReplayer replayer = new MidiTraceReplayer (surface.getMidiInput (), surface.getMidiOutput (), surface::flushSynchronously);
+                this.host.println (replayer.replay (trace));
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not load MIDI trace.", ex);
+            }
+        }
+    }
+
+
+    private void setMidiTrace (final S surface, final MidiTrace trace)
+    {
+        final IMidiInput input = surface.getMidiInput ();
+        if (input != null)
+            input.setTrace (trace);
+        final IMidiOutput output = surface.getMidiOutput ();
+        if (output != null)
+            output.setTrace (trace);
+    }
+
+
+    private File getMidiTraceFile (final int surfaceIndex)
+    {
+        return new File (System.getProperty ("java.io.tmpdir"), this.getClass ().getSimpleName () + "-" + (surfaceIndex + 1) + ".mtrace");
+    }
+
+
+    /**
+     * Log the performance metrics of a surface. Called periodically if the metrics are enabled.
+     * The metrics are reset afterwards.
+     *
+     * @param metrics The metrics of a surface
+     */
+    protected void logPerformanceMetrics (final PerformanceMetrics metrics)
+    {
+        this.host.println (metrics.getSummary ());
     }
 
 
@@ -341,6 +563,21 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Only observe the parts of the model which are required by the active modes and views of all
+     * surfaces. Call after all modes and views are registered.
+     */
+    protected void enableDemandDrivenObservers ()
+    {
+        final FeatureSubscriptionManager subscriptionManager = new FeatureSubscriptionManager (this.model);
+        for (final S surface: this.surfaces)
+        {
+            subscriptionManager.register (surface.getModeManager ());
+            subscriptionManager.register (surface.getViewManager ());
+        }
+    }
+
+
     /**
      * Create the listeners.
      */
@@ -353,6 +590,9 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
 
             this.surfaces.forEach (surface -> surface.addKnobSensitivityObserver (this::updateRelativeKnobSensitivity));
         }
+
+        if (this.configuration.canSettingBeObserved (AbstractConfiguration.KNOB_ACCELERATION))
+            this.configuration.addSettingObserver (AbstractConfiguration.KNOB_ACCELERATION, this::updateKnobAcceleration);
     }
 
 
@@ -1342,4 +1582,14 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
 
         });
     }
+
+
+    /**
+     * Enables or disables the acceleration curve of the relative knobs from the configuration
+     * setting.
+     */
+    protected void updateKnobAcceleration ()
+    {
+        this.valueChanger.setAccelerationCurve (this.configuration.isKnobAccelerationActive () ? this.knobAccelerationCurve : AccelerationCurve.NONE);
+    }
 }
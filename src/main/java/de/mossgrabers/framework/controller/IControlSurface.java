@@ -25,6 +25,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.featuregroup.ModeManager;
 import de.mossgrabers.framework.featuregroup.ViewManager;
+import de.mossgrabers.framework.utils.PerformanceMetrics;
 
 import java.util.Collection;
 import java.util.List;
@@ -496,6 +497,22 @@ public interface IControlSurface<C extends Configuration>
     void clearCache ();
 
 
+    /**
+     * Get the performance metrics of the surface.
+     *
+     * @return The metrics
+     */
+    PerformanceMetrics getMetrics ();
+
+
+    /**
+     * Handles all queued received messages, updates the device immediately instead of scheduling
+     * it and blocks until the displays have sent all pending content. Used for replaying MIDI
+     * traces, which must not depend on the timing of scheduled tasks.
+     */
+    void flushSynchronously ();
+
+
     /**
      * Overwrite for shutdown cleanups.
      */
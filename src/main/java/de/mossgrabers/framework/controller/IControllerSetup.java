@@ -33,6 +33,14 @@ public interface IControllerSetup<S extends IControlSurface<C>, C extends Config
     void startup ();
 
 
+    /**
+     * Calls {@link #startup()} as soon as the model has received the first values from the DAW.
+     *
+     * @param callback Called after the startup has finished
+     */
+    void startupWhenReady (Runnable callback);
+
+
     /**
      * Execute necessary shutdown functions.
      */
@@ -0,0 +1,132 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+
+/**
+ * Measures the duration of the startup phases of a controller and starts it as soon as the model
+ * has received the first values from the DAW. If the values do not arrive, the controller is
+ * started anyway after a maximum waiting time.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StartupSequencer
+{
+    /** The interval in milliseconds in which the readiness is checked. */
+    private static final int        POLL_INTERVAL = 20;
+    /** The maximum time in milliseconds to wait for the DAW. */
+    private static final int        MAX_WAIT_TIME = 1000;
+
+    private final IHost             host;
+    private final Map<String, Long> phases        = new LinkedHashMap<> ();
+    private long                    phaseStart;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public StartupSequencer (final IHost host)
+    {
+        this.host = host;
+        this.phaseStart = System.nanoTime ();
+    }
+
+
+    /**
+     * Start measuring the next phase.
+     */
+    public void beginPhase ()
+    {
+        this.phaseStart = System.nanoTime ();
+    }
+
+
+    /**
+     * Stop measuring the current phase and start the next one. If a phase with the same name was
+     * already measured, the times are added.
+     *
+     * @param name The name of the phase
+     */
+    public void endPhase (final String name)
+    {
+        final long now = System.nanoTime ();
+        this.phases.merge (name, Long.valueOf (now - this.phaseStart), Long::sum);
+        this.phaseStart = now;
+    }
+
+
+    /**
+     * Calls the startup as soon as the readiness check succeeds or the maximum waiting time has
+     * passed. The timings of all phases are logged afterwards.
+     *
+     * @param isReady Checks if all required values have been received from the DAW
+     * @param startup The startup to execute
+     */
+    public void startWhenReady (final BooleanSupplier isReady, final Runnable startup)
+    {
+        this.beginPhase ();
+        this.poll (isReady, startup, System.nanoTime () + MAX_WAIT_TIME * 1000000L);
+    }
+
+
+    /**
+     * Get the durations of all measured phases in the order in which they were measured.
+     *
+     * @return The names of the phases and their durations in nanoseconds
+     */
+    public Map<String, Long> getPhases ()
+    {
+        return Collections.unmodifiableMap (this.phases);
+    }
+
+
+    /**
+     * Format the durations of all measured phases.
+     *
+     * @return The summary
+     */
+    public String getSummary ()
+    {
+        final StringBuilder sb = new StringBuilder ("Startup phases:");
+        long total = 0;
+        for (final Map.Entry<String, Long> e: this.phases.entrySet ())
+        {
+            final long duration = e.getValue ().longValue ();
+            total += duration;
+            sb.append (String.format (Locale.US, " %s %.1f ms,", e.getKey (), Double.valueOf (duration / 1000000.0)));
+        }
+        return sb.append (String.format (Locale.US, " total %.1f ms", Double.valueOf (total / 1000000.0))).toString ();
+    }
+
+
+    private void poll (final BooleanSupplier isReady, final Runnable startup, final long deadline)
+    {
+        final boolean ready = isReady.getAsBoolean ();
+        if (!ready && System.nanoTime () - deadline < 0)
+        {
+            this.host.scheduleTask ( () -> this.poll (isReady, startup, deadline), POLL_INTERVAL);
+            return;
+        }
+
+        this.endPhase ("waitForDAW");
+        if (!ready)
+            this.host.println ("Not all values were received from the DAW in time, starting anyway.");
+
+        startup.run ();
+        this.endPhase ("startup");
+
+        this.host.println (this.getSummary ());
+    }
+}
@@ -7,26 +7,88 @@ package de.mossgrabers.framework.controller.color;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.daw.DAWColor;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
 /**
- * Manages color indices by IDs.
+ * Manages color indices by IDs. Each color ID is interned into a dense integer handle when it is
+ * registered. The handles are the same for all devices, therefore they can be stored in constants.
+ * Each color manager maps the handles to the color indices of its device with a lookup table,
+ * which avoids hashing the color IDs when drawing.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String            BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String                BUTTON_STATE_OFF   = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String            BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String                BUTTON_STATE_ON    = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String                BUTTON_STATE_HI    = "BUTTON_STATE_HI";
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    private static final int                  UNREGISTERED       = Integer.MIN_VALUE;
+    private static final Map<String, Integer> HANDLE_BY_KEY      = new HashMap<> ();
+    private static final List<String>         KEY_BY_HANDLE      = new ArrayList<> ();
+    private static final int []               DAW_COLOR_HANDLES;
+
+    static
+    {
+        final DAWColor [] dawColors = DAWColor.values ();
+        DAW_COLOR_HANDLES = new int [dawColors.length];
+        for (int i = 0; i < dawColors.length; i++)
+            DAW_COLOR_HANDLES[i] = getColorHandle (dawColors[i].name ());
+    }
+
+    protected final Map<Integer, ColorEx>     colorByIndex       = new HashMap<> ();
+    private int []                            colorIndexByHandle = new int [0];
+
+
+    /**
+     * Get the handle of a color ID. If the ID was not used before a new handle is created.
+     *
+     * @param key The color ID
+     * @return The handle
+     */
+    public static synchronized int getColorHandle (final String key)
+    {
+        final Integer handle = HANDLE_BY_KEY.get (key);
+        if (handle != null)
+            return handle.intValue ();
+        final int newHandle = KEY_BY_HANDLE.size ();
+        KEY_BY_HANDLE.add (key);
+        HANDLE_BY_KEY.put (key, Integer.valueOf (newHandle));
+        return newHandle;
+    }
+
+
+    /**
+     * Get the handle of a DAW color.
+     *
+     * @param dawColor The DAW color
+     * @return The handle
+     */
+    public static int getColorHandle (final DAWColor dawColor)
+    {
+        return DAW_COLOR_HANDLES[dawColor.ordinal ()];
+    }
+
+
+    private static synchronized int findColorHandle (final String key)
+    {
+        final Integer handle = HANDLE_BY_KEY.get (key);
+        return handle == null ? -1 : handle.intValue ();
+    }
+
+
+    private static synchronized String getColorKey (final int handle)
+    {
+        return handle >= 0 && handle < KEY_BY_HANDLE.size () ? KEY_BY_HANDLE.get (handle) : Integer.toString (handle);
+    }
 
 
     /**
@@ -37,7 +99,8 @@ public class ColorManager
      */
     public void registerColorIndex (final String key, final int colorIndex)
     {
-        if (this.colorIndexByKey.containsKey (key))
+        final int handle = getColorHandle (key);
+        if (handle < this.colorIndexByHandle.length && this.colorIndexByHandle[handle] != UNREGISTERED)
             throw new ColorIndexException ("Color for key " + key + " is already registered!");
         this.updateColorIndex (key, colorIndex);
     }
@@ -51,7 +114,14 @@ public class ColorManager
      */
     public void updateColorIndex (final String key, final int colorIndex)
     {
-        this.colorIndexByKey.put (key, Integer.valueOf (colorIndex));
+        final int handle = getColorHandle (key);
+        if (handle >= this.colorIndexByHandle.length)
+        {
+            final int oldLength = this.colorIndexByHandle.length;
+            this.colorIndexByHandle = Arrays.copyOf (this.colorIndexByHandle, Math.max (handle + 1, 2 * oldLength));
+            Arrays.fill (this.colorIndexByHandle, oldLength, this.colorIndexByHandle.length, UNREGISTERED);
+        }
+        this.colorIndexByHandle[handle] = colorIndex;
     }
 
 
@@ -75,10 +145,25 @@ public class ColorManager
      */
     public int getColorIndex (final String key)
     {
-        final Integer colorIndex = this.colorIndexByKey.get (key);
-        if (colorIndex == null)
+        final int handle = findColorHandle (key);
+        if (handle < 0)
             throw new ColorIndexException ("Color for key " + key + " is not registered!");
-        return colorIndex.intValue ();
+        return this.getColorIndex (handle);
+    }
+
+
+    /**
+     * Get the color index which is registered with the given color handle.
+     *
+     * @param handle The handle of the color ID, see {@link #getColorHandle(String)}
+     * @return The color index
+     */
+    public int getColorIndex (final int handle)
+    {
+        final int [] lookup = this.colorIndexByHandle;
+        if (handle >= 0 && handle < lookup.length && lookup[handle] != UNREGISTERED)
+            return lookup[handle];
+        throw new ColorIndexException ("Color for key " + getColorKey (handle) + " is not registered!");
     }
 
 
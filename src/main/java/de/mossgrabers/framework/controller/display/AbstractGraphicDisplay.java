@@ -12,17 +12,21 @@ import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.daw.resource.DeviceTypes;
 import de.mossgrabers.framework.daw.resource.ResourceHandler;
 import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.DefaultGraphicsInfo;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
+import de.mossgrabers.framework.graphics.canvas.component.AbstractRetainedComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelSelectComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ClipListComponent;
 import de.mossgrabers.framework.graphics.canvas.component.IComponent;
+import de.mossgrabers.framework.graphics.canvas.component.IVuMeterComponent;
 import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
 import de.mossgrabers.framework.graphics.canvas.component.ListComponent;
 import de.mossgrabers.framework.graphics.canvas.component.MidiClipComponent;
@@ -31,16 +35,14 @@ import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
 import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
-import de.mossgrabers.framework.graphics.display.ModelInfo;
 import de.mossgrabers.framework.utils.Pair;
+import de.mossgrabers.framework.utils.PerformanceMetrics;
+import de.mossgrabers.framework.utils.PerformanceMetrics.Counter;
+import de.mossgrabers.framework.utils.PerformanceMetrics.Timer;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 
 
@@ -70,15 +72,25 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     /** Display a list. */
     public static final int                GRID_ELEMENT_LIST               = 8;
 
-    /** Timeout for displaying the notification message. */
-    private static final int               TIMEOUT                         = 2;
+    /** The kinds of changes of a column since the previous frame. */
+    private enum ColumnChange
+    {
+        NONE,
+        VU_METER,
+        ALL
+    }
+
+
+    /** Timeout for displaying the notification message in milliseconds. */
+    private static final long              TIMEOUT                         = 2000;
 
-    private final AtomicInteger            counter                         = new AtomicInteger ();
-    private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
+    private volatile long                  notificationEnd                 = 0;
+    private volatile boolean               isShutdown                      = false;
 
-    private final List<IComponent>         columns                         = new ArrayList<> (8);
     private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
-    private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
+    private List<IComponent>               columns                         = new ArrayList<> (8);
+    private List<IComponent>               renderedColumns                 = new ArrayList<> (8);
+    private String                         renderedNotification            = null;
 
     protected final IHost                  host;
     protected final IGraphicsConfiguration configuration;
@@ -86,6 +98,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     private final IBitmap                  image;
 
     private IHwGraphicsDisplay             hardwareDisplay;
+    protected PerformanceMetrics           metrics                         = new PerformanceMetrics ("Graphics Display");
 
 
     /**
@@ -106,15 +119,6 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
         this.image = host.createBitmap (dimensions.getWidth (), dimensions.getHeight ());
         this.image.setDisplayWindowTitle (windowTitle);
-
-        // Manage notification message display time
-        this.executor.scheduleAtFixedRate ( () -> {
-            int c = this.counter.get ();
-            if (c > 0)
-                c = this.counter.decrementAndGet ();
-            if (c <= 0 && this.notificationMessage.get () != null)
-                this.notificationMessage.set (null);
-        }, 1, 1, TimeUnit.SECONDS);
     }
 
 
@@ -122,7 +126,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void cancelNotification ()
     {
-        this.counter.set (0);
+        this.notificationEnd = 0;
     }
 
 
@@ -138,15 +142,15 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void shutdown ()
     {
-        this.executor.shutdown ();
-        try
-        {
-            this.executor.awaitTermination (5, TimeUnit.SECONDS);
-        }
-        catch (final InterruptedException ex)
-        {
-            this.host.error ("USB display send executor did not end in 10 seconds. Interrupted.", ex);
-        }
+        this.isShutdown = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void awaitPendingOutput ()
+    {
+        // Intentionally empty
     }
 
 
@@ -154,19 +158,35 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void send ()
     {
-        if (this.executor.isShutdown ())
+        if (this.isShutdown)
             return;
 
+        final long start = this.metrics.start ();
         try
         {
-            final ModelInfo newInfo = new ModelInfo (this.notificationMessage.get (), this.columns);
+            // Manage notification message display time
+            if (this.notificationMessage.get () != null && System.currentTimeMillis () >= this.notificationEnd)
+                this.notificationMessage.set (null);
+            final String notification = this.notificationMessage.get ();
 
             // Only render image if there is a change in the data
-            if (!this.info.equals (newInfo))
+            if (this.hasChanges (notification))
+            {
+                this.renderImage (notification);
+                this.metrics.add (Counter.DISPLAY_FRAMES, 1);
+            }
+
+            for (final IComponent component: this.columns)
             {
-                this.info = newInfo;
-                this.renderImage ();
+                if (component instanceof AbstractRetainedComponent)
+                    ((AbstractRetainedComponent) component).clearModified ();
             }
+
+            // Keep the rendered components to re-use them for the next frame
+            final List<IComponent> unused = this.renderedColumns;
+            this.renderedColumns = this.columns;
+            this.columns = unused;
+            this.renderedNotification = notification;
         }
         finally
         {
@@ -174,6 +194,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         }
 
         this.send (this.image);
+        this.metrics.stop (Timer.DISPLAY_SEND, start);
     }
 
 
@@ -189,7 +210,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void setNotificationMessage (final String message)
     {
-        this.counter.set (TIMEOUT);
+        this.notificationEnd = System.currentTimeMillis () + TIMEOUT;
         this.notificationMessage.set (message);
     }
 
@@ -232,7 +253,14 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addChannelSelectorElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final boolean isActive)
     {
-        this.addElement (new ChannelSelectComponent (type, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, isActive));
+        final ChannelSelectComponent component = this.getRetainedComponent (ChannelSelectComponent.class);
+        if (component == null)
+        {
+            this.addElement (new ChannelSelectComponent (type, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, isActive));
+            return;
+        }
+        component.update (type, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, isActive);
+        this.addElement (component);
     }
 
 
@@ -264,7 +292,15 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
                 editType = ChannelComponent.EDIT_TYPE_ALL;
                 break;
         }
-        this.addElement (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode));
+
+        final ChannelComponent component = this.getRetainedComponent (ChannelComponent.class);
+        if (component == null)
+        {
+            this.addElement (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode));
+            return;
+        }
+        component.update (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode);
+        this.addElement (component);
     }
 
 
@@ -272,7 +308,14 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addSendsElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final SendData [] sendData, final boolean isTrackMode, final boolean isSendActive, final boolean isChannelLabelActive)
     {
-        this.addElement (new SendsComponent (sendData, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, isTrackMode, isSendActive, isChannelLabelActive));
+        final SendsComponent component = this.getRetainedComponent (SendsComponent.class);
+        if (component == null)
+        {
+            this.addElement (new SendsComponent (sendData, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, isTrackMode, isSendActive, isChannelLabelActive));
+            return;
+        }
+        component.update (sendData, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, isTrackMode, isSendActive, isChannelLabelActive);
+        this.addElement (component);
     }
 
 
@@ -288,7 +331,14 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, type, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        final ParameterComponent component = this.getRetainedComponent (ParameterComponent.class);
+        if (component == null)
+        {
+            this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, type, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+            return;
+        }
+        component.update (topMenu, isTopMenuOn, bottomMenu, ChannelSelectComponent.getIcon (type), bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.SEPARATE_COLOR);
+        this.addElement (component);
     }
 
 
@@ -296,7 +346,14 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElementWithPlainMenu (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.PLAIN));
+        final ParameterComponent component = this.getRetainedComponent (ParameterComponent.class);
+        if (component == null)
+        {
+            this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.PLAIN));
+            return;
+        }
+        component.update (topMenu, isTopMenuOn, bottomMenu, null, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.PLAIN);
+        this.addElement (component);
     }
 
 
@@ -304,7 +361,14 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final String deviceName, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        final ParameterComponent component = this.getRetainedComponent (ParameterComponent.class);
+        if (component == null)
+        {
+            this.addElement (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, deviceName, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+            return;
+        }
+        component.update (topMenu, isTopMenuOn, bottomMenu, deviceName == null ? null : DeviceTypes.getIconId (deviceName), bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.SEPARATE_COLOR);
+        this.addElement (component);
     }
 
 
@@ -328,7 +392,14 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addOptionElement (final String headerTopName, final String menuTopName, final boolean isMenuTopSelected, final ColorEx menuTopColor, final String headerBottomName, final String menuBottomName, final boolean isMenuBottomSelected, final ColorEx menuBottomColor, final boolean useSmallTopMenu, final boolean isBottomHeaderSelected)
     {
-        this.addElement (new OptionsComponent (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected));
+        final OptionsComponent component = this.getRetainedComponent (OptionsComponent.class);
+        if (component == null)
+        {
+            this.addElement (new OptionsComponent (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected));
+            return;
+        }
+        component.update (headerTopName, menuTopName, isMenuTopSelected, menuTopColor, headerBottomName, menuBottomName, isMenuBottomSelected, menuBottomColor, useSmallTopMenu, isBottomHeaderSelected);
+        this.addElement (component);
     }
 
 
@@ -383,6 +454,25 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /**
+     * Get the component which was rendered in the previous frame at the column of the next added
+     * element to update it with the new values instead of creating a new one.
+     *
+     * @param componentClass The exact class of the component
+     * @param <T> The type of the component
+     * @return The component or null if the previous component at that column was of a different
+     *         class
+     */
+    private <T extends AbstractRetainedComponent> T getRetainedComponent (final Class<T> componentClass)
+    {
+        final int index = this.columns.size ();
+        if (index >= this.renderedColumns.size ())
+            return null;
+        final IComponent component = this.renderedColumns.get (index);
+        return component != null && component.getClass () == componentClass ? componentClass.cast (component) : null;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setHardwareDisplay (final IHwGraphicsDisplay display)
@@ -391,6 +481,14 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setMetrics (final PerformanceMetrics metrics)
+    {
+        this.metrics = metrics;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IHwGraphicsDisplay getHardwareDisplay ()
@@ -407,39 +505,188 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
-    private void renderImage ()
+    /**
+     * Test if anything has changed since the previous frame was rendered.
+     *
+     * @param notification The notification to display, might be null
+     * @return True if the image needs to be rendered
+     */
+    private boolean hasChanges (final String notification)
+    {
+        final int size = this.columns.size ();
+        if (!Objects.equals (notification, this.renderedNotification) || size != this.renderedColumns.size ())
+            return true;
+        for (int i = 0; i < size; i++)
+        {
+            if (this.getChange (i) != ColumnChange.NONE)
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Get the kind of change of a column since the previous frame. A retained component which was
+     * updated in place reports its changes itself, other components are compared with the
+     * previously rendered one.
+     *
+     * @param column The index of the column
+     * @return The change
+     */
+    private ColumnChange getChange (final int column)
+    {
+        final IComponent component = this.columns.get (column);
+        final IComponent renderedComponent = this.renderedColumns.get (column);
+        if (component != renderedComponent || !(component instanceof AbstractRetainedComponent))
+            return Objects.equals (component, renderedComponent) ? ColumnChange.NONE : ColumnChange.ALL;
+
+        if (((AbstractRetainedComponent) component).isModified ())
+            return ColumnChange.ALL;
+        if (component instanceof IVuMeterComponent && ((IVuMeterComponent) component).isVuMeterModified ())
+            return ColumnChange.VU_METER;
+        return ColumnChange.NONE;
+    }
+
+
+    /**
+     * Render the image. Only the columns which changed since the previous frame are drawn again. If
+     * only the VU meters of a column have changed, only the VU meters are drawn on top.
+     *
+     * @param notification The notification to display, might be null
+     */
+    private void renderImage (final String notification)
     {
         this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
-            final int width = this.dimensions.getWidth ();
-            final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
 
-            // Clear display
-            final ColorEx colorBorder = this.configuration.getColorBorder ();
-            gc.fillRectangle (0, 0, width, height, colorBorder);
+            final int size = this.columns.size ();
 
-            final List<IComponent> elements = this.info.getComponents ();
-            final int size = elements.size ();
-            if (size == 0)
+            // The notification is drawn across all columns
+            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+            if (size == 0 || size != this.renderedColumns.size () || notification != null || this.renderedNotification != null || this.hasChangedOptions ())
+            {
+                this.renderAll (graphicsInfo, notification);
                 return;
-            final int gridWidth = width / size;
-            final double paintWidth = gridWidth - separatorSize;
-            final double offsetX = separatorSize / 2.0;
+            }
 
-            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
             for (int i = 0; i < size; i++)
             {
-                final IComponent component = elements.get (i);
-                if (component != null)
-                    component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
+                switch (this.getChange (i))
+                {
+                    case VU_METER:
+                        final IVuMeterComponent vuMeterComponent = (IVuMeterComponent) this.columns.get (i);
+                        if (vuMeterComponent.canDrawVuMeterOnly ())
+                            vuMeterComponent.drawVuMeter (this.getColumnInfo (graphicsInfo, i, size));
+                        else
+                            this.renderColumn (graphicsInfo, i);
+                        break;
+
+                    case ALL:
+                        this.renderColumn (graphicsInfo, i);
+                        break;
+
+                    default:
+                        // No change
+                        break;
+                }
             }
 
-            final String notification = this.info.getNotification ();
-            if (notification == null)
-                return;
-
-            final ColorEx colorText = this.configuration.getColorText ();
-            gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
         });
     }
+
+
+    /**
+     * Render all columns and the notification.
+     *
+     * @param graphicsInfo The graphics info
+     * @param notification The notification to display, might be null
+     */
+    private void renderAll (final IGraphicsInfo graphicsInfo, final String notification)
+    {
+        final IGraphicsContext gc = graphicsInfo.getContext ();
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+
+        // Clear display
+        final ColorEx colorBorder = this.configuration.getColorBorder ();
+        gc.fillRectangle (0, 0, width, height, colorBorder);
+
+        final int size = this.columns.size ();
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent component = this.columns.get (i);
+            if (component != null)
+                component.draw (this.getColumnInfo (graphicsInfo, i, size));
+        }
+
+        if (notification == null)
+            return;
+
+        final ColorEx colorText = this.configuration.getColorText ();
+        gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
+    }
+
+
+    /**
+     * Render one column. Since the components may draw into the separators next to them, the area
+     * is extended by the separators and the neighbouring components are drawn as well but clipped
+     * to that area. Option components are always drawn since their texts may reach into the
+     * following columns.
+     *
+     * @param graphicsInfo The graphics info
+     * @param column The index of the column
+     */
+    private void renderColumn (final IGraphicsInfo graphicsInfo, final int column)
+    {
+        final IGraphicsContext gc = graphicsInfo.getContext ();
+        final int size = this.columns.size ();
+        final int width = this.dimensions.getWidth ();
+        final int gridWidth = width / size;
+        final int height = this.dimensions.getHeight ();
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+        final double left = Math.max (0, column * gridWidth - separatorSize);
+        final double right = Math.min (width, (column + 1) * gridWidth + separatorSize);
+
+        gc.setClip (left, 0, right - left, height);
+        gc.fillRectangle (left, 0, right - left, height, this.configuration.getColorBorder ());
+        for (int i = 0; i <= Math.min (size - 1, column + 1); i++)
+        {
+            final IComponent component = this.columns.get (i);
+            if (component != null && (i >= column - 1 || component instanceof OptionsComponent))
+                component.draw (this.getColumnInfo (graphicsInfo, i, size));
+        }
+        gc.resetClip ();
+    }
+
+
+    /**
+     * Test if an option component was changed, added or removed. Since its texts may reach into
+     * the following columns, the whole image needs to be rendered in that case.
+     *
+     * @return True if an option component has changed
+     */
+    private boolean hasChangedOptions ()
+    {
+        for (int i = 0; i < this.columns.size (); i++)
+        {
+            if ((this.columns.get (i) instanceof OptionsComponent || this.renderedColumns.get (i) instanceof OptionsComponent) && this.getChange (i) != ColumnChange.NONE)
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Get the graphics info with the drawing bounds of a column.
+     *
+     * @param graphicsInfo The graphics info
+     * @param column The index of the column
+     * @param numColumns The number of columns
+     * @return The graphics info for the column
+     */
+    private IGraphicsInfo getColumnInfo (final IGraphicsInfo graphicsInfo, final int column, final int numColumns)
+    {
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+        final int gridWidth = this.dimensions.getWidth () / numColumns;
+        return graphicsInfo.withBounds (column * gridWidth + separatorSize / 2.0, 0, gridWidth - separatorSize, this.dimensions.getHeight ());
+    }
 }
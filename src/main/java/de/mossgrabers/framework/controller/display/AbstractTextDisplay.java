@@ -164,9 +164,10 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         else
         {
             final int index = row * this.noOfCells;
-            this.message[row] = "";
+            final StringBuilder sb = new StringBuilder (this.noOfCharacters);
             for (int i = 0; i < this.noOfCells; i++)
-                this.message[row] += this.cells[index + i];
+                sb.append (this.cells[index + i]);
+            this.message[row] = sb.toString ();
         }
 
         return this;
@@ -256,6 +257,14 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void awaitPendingOutput ()
+    {
+        // Intentionally empty
+    }
+
+
     protected void notifyOnDisplay (final String message)
     {
         final String msg;
@@ -169,6 +169,14 @@ public class DummyDisplay implements ITextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void awaitPendingOutput ()
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getNoOfLines ()
@@ -29,4 +29,10 @@ public interface IDisplay
      * If there is any cleanup necessary.
      */
     void shutdown ();
+
+
+    /**
+     * Blocks until all content which is sent asynchronously to the device has been sent.
+     */
+    void awaitPendingOutput ();
 }
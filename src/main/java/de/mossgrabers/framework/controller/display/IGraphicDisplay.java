@@ -15,6 +15,7 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.canvas.component.IComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
 import de.mossgrabers.framework.utils.Pair;
+import de.mossgrabers.framework.utils.PerformanceMetrics;
 
 import java.util.List;
 
@@ -326,6 +327,14 @@ public interface IGraphicDisplay extends IDisplay
     void setHardwareDisplay (IHwGraphicsDisplay display);
 
 
+    /**
+     * Set the performance metrics to which the display sending is reported.
+     *
+     * @param metrics The metrics
+     */
+    void setMetrics (PerformanceMetrics metrics);
+
+
     /**
      * Get the hardware display.
      *
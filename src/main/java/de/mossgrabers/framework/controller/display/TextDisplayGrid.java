@@ -0,0 +1,150 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+/**
+ * Keeps a copy of the characters which are shown on a hardware text display. When a row is
+ * updated only the spans of characters which differ from the copy are written. Two changed spans
+ * are merged if the unchanged characters between them are not more than the overhead of an
+ * additional message, since sending them is then cheaper than sending another message.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TextDisplayGrid
+{
+    /**
+     * Interface to write a span of characters to the hardware display.
+     */
+    public interface ISpanWriter
+    {
+        /**
+         * Write a span of characters.
+         *
+         * @param row The row of the display
+         * @param offset The position of the first character in the row
+         * @param characters The characters of the row
+         * @param length The number of characters to write, starting at the offset
+         */
+        void writeSpan (int row, int offset, char [] characters, int length);
+    }
+
+
+    private final char [] [] shadow;
+    private final boolean [] isValid;
+    private final char []    text;
+    private final int []     spans;
+    private final int        overhead;
+
+
+    /**
+     * Constructor.
+     *
+     * @param noOfRows The number of rows of the display
+     * @param noOfCharacters The number of characters of a row
+     * @param overhead The number of additional bytes which are sent for each span (e.g. the header
+     *            of a system exclusive message)
+     */
+    public TextDisplayGrid (final int noOfRows, final int noOfCharacters, final int overhead)
+    {
+        this.shadow = new char [noOfRows] [noOfCharacters];
+        this.isValid = new boolean [noOfRows];
+        this.text = new char [noOfCharacters];
+        this.spans = new int [noOfCharacters + 1];
+        this.overhead = overhead;
+    }
+
+
+    /**
+     * Compares the text with the characters shown on the display and writes the changed spans.
+     * Characters which exceed the length of a row are ignored, a shorter text is padded with
+     * blanks. If the row is not valid, the whole row is written.
+     *
+     * @param row The row of the display
+     * @param rowText The new text of the row
+     * @param writer Writes the changed spans
+     * @return The number of written spans
+     */
+    public synchronized int update (final int row, final String rowText, final ISpanWriter writer)
+    {
+        final int length = this.text.length;
+        final int textLength = Math.min (length, rowText.length ());
+        rowText.getChars (0, textLength, this.text, 0);
+        for (int i = textLength; i < length; i++)
+            this.text[i] = ' ';
+
+        final char [] current = this.shadow[row];
+        final int numSpans;
+        if (this.isValid[row])
+            numSpans = this.findSpans (current);
+        else
+        {
+            this.spans[0] = 0;
+            this.spans[1] = length;
+            numSpans = 1;
+        }
+
+        System.arraycopy (this.text, 0, current, 0, length);
+        this.isValid[row] = true;
+
+        for (int i = 0; i < numSpans; i++)
+        {
+            final int start = this.spans[2 * i];
+            writer.writeSpan (row, start, current, this.spans[2 * i + 1] - start);
+        }
+        return numSpans;
+    }
+
+
+    /**
+     * Marks all rows as unknown, e.g. if the content of the hardware display might have been
+     * changed by someone else. The next update writes the full rows.
+     */
+    public synchronized void invalidate ()
+    {
+        for (int row = 0; row < this.isValid.length; row++)
+            this.isValid[row] = false;
+    }
+
+
+    /**
+     * Find the spans in which the text differs from the given characters. Stores the start and the
+     * end (exclusive) of the spans in the spans array.
+     *
+     * @param current The characters shown on the display
+     * @return The number of spans
+     */
+    private int findSpans (final char [] current)
+    {
+        int numSpans = 0;
+        int i = 0;
+        final int length = this.text.length;
+        while (i < length)
+        {
+            if (this.text[i] == current[i])
+            {
+                i++;
+                continue;
+            }
+
+            final int start = i;
+            while (i < length && this.text[i] != current[i])
+                i++;
+
+            // Merge with the previous span if sending the unchanged characters in between is
+            // cheaper than an additional message
+            if (numSpans > 0 && start - this.spans[2 * numSpans - 1] <= this.overhead)
+                this.spans[2 * numSpans - 1] = i;
+            else
+            {
+                // The spans array is large enough since spans are separated by at least one
+                // unchanged character
+                this.spans[2 * numSpans] = start;
+                this.spans[2 * numSpans + 1] = i;
+                numSpans++;
+            }
+        }
+        return numSpans;
+    }
+}
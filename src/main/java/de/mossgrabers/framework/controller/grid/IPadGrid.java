@@ -59,6 +59,32 @@ public interface IPadGrid extends ILightGuide
     void lightEx (int x, int y, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Set the lighting state of a pad. Prefer this for drawing all pads of a grid, since the color
+     * is looked up without hashing the color ID.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param colorHandle The handle of a registered color ID, see
+     *            {@link de.mossgrabers.framework.controller.color.ColorManager#getColorHandle(String)}
+     */
+    void lightExHandle (int x, int y, int colorHandle);
+
+
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param colorHandle The handle of a registered color ID, see
+     *            {@link de.mossgrabers.framework.controller.color.ColorManager#getColorHandle(String)}
+     * @param blinkColorHandle The handle of a registered color ID of the blinking color, -1 for no
+     *            blinking
+     * @param fast Blinking is fast if true
+     */
+    void lightExHandle (int x, int y, int colorHandle, int blinkColorHandle, boolean fast);
+
+
     /**
      * Plug for grids not sending notes in the range of 36-100.
      *
@@ -131,6 +131,22 @@ public class PadGridImpl implements IPadGrid
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void lightExHandle (final int x, final int y, final int colorHandle)
+    {
+        this.lightEx (x, y, this.colorManager.getColorIndex (colorHandle), -1, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightExHandle (final int x, final int y, final int colorHandle, final int blinkColorHandle, final boolean fast)
+    {
+        this.lightEx (x, y, this.colorManager.getColorIndex (colorHandle), blinkColorHandle < 0 ? -1 : this.colorManager.getColorIndex (blinkColorHandle), fast);
+    }
+
+
     /**
      * Set the lighting state of a pad.
      *
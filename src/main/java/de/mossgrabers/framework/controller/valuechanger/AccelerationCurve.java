@@ -0,0 +1,155 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.valuechanger;
+
+import java.util.Arrays;
+
+
+/**
+ * Maps the rate at which the ticks of a relative encoder arrive to a factor by which the change is
+ * multiplied. Slow movements keep the factor of 1 for fine adjustments, fast movements sweep over
+ * the whole parameter range with a few turns. The curve is stored as a table of break points
+ * between which the factor is linearly interpolated.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class AccelerationCurve
+{
+    private static final int              NUM_EXPONENTIAL_POINTS = 16;
+
+    /** No acceleration at all. */
+    public static final AccelerationCurve NONE                   = new AccelerationCurve (new double []
+    {
+        0
+    }, new double []
+    {
+        1
+    });
+
+    /** Preset for encoders which send Two's Complement values (1 tick per message). */
+    public static final AccelerationCurve TWOS_COMPLEMENT        = exponential (8, 60, 10);
+
+    /** Preset for encoders which send offset binary values (1 tick per message). */
+    public static final AccelerationCurve OFFSET_BINARY          = exponential (8, 60, 8);
+
+    /**
+     * Preset for encoders which send signed bit values (MCU) or the 2nd signed bit variant (HUI).
+     * These encoders already send larger values when turned fast, therefore the curve is more
+     * moderate.
+     */
+    public static final AccelerationCurve SIGNED_BIT             = linear (15, 60, 3);
+
+    private final double []               rates;
+    private final double []               factors;
+
+
+    /**
+     * Constructor.
+     *
+     * @param rates The tick rates of the break points in ticks per second, must be ascending
+     * @param factors The factors of the break points
+     */
+    private AccelerationCurve (final double [] rates, final double [] factors)
+    {
+        this.rates = rates;
+        this.factors = factors;
+    }
+
+
+    /**
+     * Create a curve which increases the factor linearly from 1 to the maximum factor.
+     *
+     * @param minRate Up to this tick rate (ticks per second) the factor is 1
+     * @param maxRate From this tick rate on the maximum factor is applied
+     * @param maxFactor The maximum factor
+     * @return The curve
+     */
+    public static AccelerationCurve linear (final double minRate, final double maxRate, final double maxFactor)
+    {
+        checkRange (minRate, maxRate);
+        return new AccelerationCurve (new double []
+        {
+            minRate,
+            maxRate
+        }, new double []
+        {
+            1,
+            maxFactor
+        });
+    }
+
+
+    /**
+     * Create a curve which increases the factor exponentially from 1 to the maximum factor.
+     *
+     * @param minRate Up to this tick rate (ticks per second) the factor is 1
+     * @param maxRate From this tick rate on the maximum factor is applied
+     * @param maxFactor The maximum factor
+     * @return The curve
+     */
+    public static AccelerationCurve exponential (final double minRate, final double maxRate, final double maxFactor)
+    {
+        checkRange (minRate, maxRate);
+        final double [] rates = new double [NUM_EXPONENTIAL_POINTS + 1];
+        final double [] factors = new double [NUM_EXPONENTIAL_POINTS + 1];
+        for (int i = 0; i <= NUM_EXPONENTIAL_POINTS; i++)
+        {
+            final double pos = i / (double) NUM_EXPONENTIAL_POINTS;
+            rates[i] = minRate + pos * (maxRate - minRate);
+            factors[i] = Math.pow (maxFactor, pos);
+        }
+        return new AccelerationCurve (rates, factors);
+    }
+
+
+    /**
+     * Create a curve from a table of break points. Between the break points the factor is linearly
+     * interpolated. Below the first and above the last break point the factor of the break point
+     * is used.
+     *
+     * @param rates The tick rates of the break points in ticks per second, must be ascending
+     * @param factors The factors of the break points
+     * @return The curve
+     */
+    public static AccelerationCurve table (final double [] rates, final double [] factors)
+    {
+        if (rates.length == 0 || rates.length != factors.length)
+            throw new IllegalArgumentException ("The number of rates and factors must be identical and not 0.");
+        for (int i = 1; i < rates.length; i++)
+            checkRange (rates[i - 1], rates[i]);
+        return new AccelerationCurve (Arrays.copyOf (rates, rates.length), Arrays.copyOf (factors, factors.length));
+    }
+
+
+    /**
+     * Get the factor for a tick rate.
+     *
+     * @param rate The tick rate in ticks per second
+     * @return The factor
+     */
+    public double getFactor (final double rate)
+    {
+        if (rate <= this.rates[0])
+            return this.factors[0];
+
+        final int last = this.rates.length - 1;
+        for (int i = 1; i <= last; i++)
+        {
+            if (rate < this.rates[i])
+            {
+                final double pos = (rate - this.rates[i - 1]) / (this.rates[i] - this.rates[i - 1]);
+                return this.factors[i - 1] + pos * (this.factors[i] - this.factors[i - 1]);
+            }
+        }
+        return this.factors[last];
+    }
+
+
+    private static void checkRange (final double minRate, final double maxRate)
+    {
+        if (minRate < 0 || maxRate <= minRate)
+            throw new IllegalArgumentException ("The rates must be positive and ascending.");
+    }
+}
@@ -4,6 +4,10 @@
 
 package de.mossgrabers.framework.controller.valuechanger;
 
+import java.util.ArrayList;
+import java.util.List;
+
+
 /**
  * Default implementation for changing values. The relative knob implementation is Two's Complement
  *
@@ -14,9 +18,12 @@ package de.mossgrabers.framework.controller.valuechanger;
  */
 public class DefaultValueChanger implements IValueChanger
 {
-    private int    upperBound;
-    protected int  stepSize;
-    private double sensitivity = 1.0;
+    private final List<TickRateTracker> pendingTrackers   = new ArrayList<> ();
+
+    private int                         upperBound;
+    protected int                       stepSize;
+    private double                      sensitivity       = 1.0;
+    private AccelerationCurve           accelerationCurve = AccelerationCurve.NONE;
 
 
     /**
@@ -48,6 +55,22 @@ public class DefaultValueChanger implements IValueChanger
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setAccelerationCurve (final AccelerationCurve accelerationCurve)
+    {
+        this.accelerationCurve = accelerationCurve;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public AccelerationCurve getAccelerationCurve ()
+    {
+        return this.accelerationCurve;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getUpperBound ()
@@ -80,6 +103,50 @@ public class DefaultValueChanger implements IValueChanger
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public double calcKnobChange (final int control, final TickRateTracker tracker)
+    {
+        return this.calcKnobChange (control) * this.getAccelerationFactor (tracker);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void queueKnobChange (final int control, final TickRateTracker tracker)
+    {
+        final double change = this.calcKnobChange (control, tracker);
+        if (this.accelerationCurve == AccelerationCurve.NONE)
+            tracker.applyChange (change);
+        else if (tracker.addPendingChange (change))
+            this.pendingTrackers.add (tracker);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flushKnobChanges ()
+    {
+        if (this.pendingTrackers.isEmpty ())
+            return;
+        for (final TickRateTracker tracker: this.pendingTrackers)
+            tracker.applyPendingChange ();
+        this.pendingTrackers.clear ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int accelerate (final int control, final TickRateTracker tracker)
+    {
+        final double factor = this.getAccelerationFactor (tracker);
+        if (factor == 1)
+            return control;
+        final long speed = Math.round (this.decode (control) * factor);
+        return this.encode ((int) Math.max (-63, Math.min (63, speed)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int encode (final int speed)
@@ -169,6 +236,21 @@ public class DefaultValueChanger implements IValueChanger
     }
 
 
+    /**
+     * Registers a tick of the control and calculates the acceleration factor from the current tick
+     * rate.
+     *
+     * @param tracker The tracker of the tick rate of the control
+     * @return The factor, 1 if there is no acceleration
+     */
+    private double getAccelerationFactor (final TickRateTracker tracker)
+    {
+        if (this.accelerationCurve == AccelerationCurve.NONE)
+            return 1;
+        return this.accelerationCurve.getFactor (tracker.addTick (System.nanoTime ()));
+    }
+
+
     /**
      * Set the sensitivity of the relative knob.
      *
@@ -45,6 +45,23 @@ public interface IValueChanger
     void setSensitivity (double sensitivity);
 
 
+    /**
+     * Set the curve which accelerates the changes of relative knobs depending on how fast they are
+     * turned.
+     *
+     * @param accelerationCurve The curve, use AccelerationCurve.NONE to disable the acceleration
+     */
+    void setAccelerationCurve (AccelerationCurve accelerationCurve);
+
+
+    /**
+     * Get the curve which accelerates the changes of relative knobs.
+     *
+     * @return The curve
+     */
+    AccelerationCurve getAccelerationCurve ();
+
+
     /**
      * Calculate the amount by which to change a value from the control value, depending on the step
      * size and the sensitivity.
@@ -67,6 +84,46 @@ public interface IValueChanger
     double calcKnobChange (int control, double sensitivity);
 
 
+    /**
+     * Calculate the amount by which to change a value from the control value, depending on the step
+     * size, the sensitivity and how fast the control is turned.
+     *
+     * @param control The control value, depending on the specific encoding
+     * @param tracker The tracker of the tick rate of the control
+     * @return The amount to change the value
+     */
+    double calcKnobChange (int control, TickRateTracker tracker);
+
+
+    /**
+     * Change the target of the tracker by the accelerated amount of the control value (see
+     * {@link #calcKnobChange(int, TickRateTracker)}). If an acceleration curve is set, all changes
+     * until the next call of {@link #flushKnobChanges()} are coalesced into one change, otherwise
+     * the change is applied immediately.
+     *
+     * @param control The control value, depending on the specific encoding
+     * @param tracker The tracker of the tick rate of the control
+     */
+    void queueKnobChange (int control, TickRateTracker tracker);
+
+
+    /**
+     * Apply all coalesced changes of {@link #queueKnobChange(int, TickRateTracker)}.
+     */
+    void flushKnobChanges ();
+
+
+    /**
+     * Accelerate a control value depending on how fast the control is turned. The result is
+     * encoded again with this encoding.
+     *
+     * @param control The control value, depending on the specific encoding
+     * @param tracker The tracker of the tick rate of the control
+     * @return The accelerated control value
+     */
+    int accelerate (int control, TickRateTracker tracker);
+
+
     /**
      * Returns true if the change is positive (increase).
      *
@@ -35,6 +35,6 @@ public class Relative2ValueChanger extends DefaultValueChanger
     @Override
     public int encode (final int speed)
     {
-        return speed < 0 ? 0x40 + speed : speed;
+        return speed < 0 ? 0x40 - speed : speed;
     }
 }
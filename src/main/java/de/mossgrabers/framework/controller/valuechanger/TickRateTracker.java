@@ -0,0 +1,113 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.valuechanger;
+
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * Tracks the rate at which the ticks of one relative encoder (or any other control which is
+ * changed relatively) arrive. The time stamps of the last ticks are kept in a small ring buffer.
+ * Furthermore, it collects the changes which are applied delayed as one coalesced change.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TickRateTracker
+{
+    private static final int     RING_SIZE = 16;
+    /** The ticks inside this time window (in nanoseconds) are counted for the rate. */
+    private static final long    WINDOW    = 250_000_000L;
+
+    private final DoubleConsumer target;
+    private long []              ticks;
+    private int                  position;
+    private int                  size;
+    private double               pendingChange;
+    private boolean              isPending;
+
+
+    /**
+     * Constructor.
+     *
+     * @param target Where to apply the coalesced changes, may be null if the changes are never
+     *            delayed
+     */
+    public TickRateTracker (final DoubleConsumer target)
+    {
+        this.target = target;
+    }
+
+
+    /**
+     * Add a tick and calculate the current tick rate. The rate is the number of ticks inside the
+     * time window and not the distance between the ticks, since the MIDI messages are often
+     * received in batches.
+     *
+     * @param time The time of the tick in nanoseconds (see System.nanoTime)
+     * @return The rate in ticks per second
+     */
+    public double addTick (final long time)
+    {
+        // Only allocated on first use since there are a lot of parameters which are never turned
+        if (this.ticks == null)
+            this.ticks = new long [RING_SIZE];
+
+        this.position = (this.position + 1) % RING_SIZE;
+        this.ticks[this.position] = time;
+        if (this.size < RING_SIZE)
+            this.size++;
+
+        int count = 1;
+        for (int i = 1; i < this.size; i++)
+        {
+            if (time - this.ticks[(this.position - i + RING_SIZE) % RING_SIZE] > WINDOW)
+                break;
+            count++;
+        }
+        return count * 1000000000.0 / WINDOW;
+    }
+
+
+    /**
+     * Add a change, which is applied later on.
+     *
+     * @param change The amount of the change
+     * @return True if this is the first change since the last call of {@link #applyPendingChange()}
+     */
+    public boolean addPendingChange (final double change)
+    {
+        this.pendingChange += change;
+        if (this.isPending)
+            return false;
+        this.isPending = true;
+        return true;
+    }
+
+
+    /**
+     * Apply a change to the target immediately.
+     *
+     * @param change The amount of the change
+     */
+    public void applyChange (final double change)
+    {
+        this.target.accept (change);
+    }
+
+
+    /**
+     * Apply the sum of all changes added since the last call as one change to the target.
+     */
+    public void applyPendingChange ()
+    {
+        if (!this.isPending)
+            return;
+        final double change = this.pendingChange;
+        this.pendingChange = 0;
+        this.isPending = false;
+        if (change != 0)
+            this.target.accept (change);
+    }
+}
@@ -25,6 +25,7 @@ public abstract class AbstractBrowser implements IBrowser
     protected IBrowserColumn []                 columnData;
     protected int                               selectedFilterColumn = 0;
     protected String                            infoText             = "";
+    protected final BrowserResultCache          resultCache          = new BrowserResultCache ();
 
     private final List<IValueObserver<Boolean>> activeObservers      = new ArrayList<> ();
 
@@ -210,6 +211,18 @@ public abstract class AbstractBrowser implements IBrowser
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean selectMatchingResult (final String query)
+    {
+        final int [] matches = this.resultCache.find (query, 1);
+        if (matches.length == 0)
+            return false;
+        this.selectResult (matches[0]);
+        return true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getNumResults ()
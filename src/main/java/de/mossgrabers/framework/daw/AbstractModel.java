@@ -14,11 +14,13 @@ import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ISpecificDevice;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
 import de.mossgrabers.framework.daw.data.bank.IMarkerBank;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.ISceneBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.ObservedFeature;
 import de.mossgrabers.framework.scale.Scales;
 
 import java.util.EnumMap;
@@ -41,6 +43,7 @@ public abstract class AbstractModel implements IModel
     protected final ColorManager                    colorManager;
     protected final IValueChanger                   valueChanger;
     protected final ModelSetup                      modelSetup;
+    protected final VuMeterService                  vuMeterService;
     protected final Set<IValueObserver<ITrackBank>> trackBankObservers = new HashSet<> ();
 
     protected IApplication                          application;
@@ -64,6 +67,7 @@ public abstract class AbstractModel implements IModel
     protected final Map<DeviceID, ISpecificDevice>  specificDevices    = new EnumMap<> (DeviceID.class);
 
     private int                                     lastSelection;
+    private final Set<String>                       missingValues      = new HashSet<> ();
 
 
     /**
@@ -80,6 +84,7 @@ public abstract class AbstractModel implements IModel
         this.colorManager = dataSetup.getColorManager ();
         this.valueChanger = dataSetup.getValueChanger ();
         this.scales = scales;
+        this.vuMeterService = new VuMeterService (this.valueChanger);
     }
 
 
@@ -99,6 +104,14 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public VuMeterService getVuMeterService ()
+    {
+        return this.vuMeterService;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IArranger getArranger ()
@@ -359,4 +372,78 @@ public abstract class AbstractModel implements IModel
         }
         return false;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final ObservedFeature feature, final boolean enable)
+    {
+        switch (feature)
+        {
+            case SLOTS:
+                // The slots of the cursor track stay enabled since they are used by several
+                // commands (e.g. creating a new clip)
+                enableSlotObservers (this.trackBank, enable);
+                enableSlotObservers (this.effectTrackBank, enable);
+                break;
+
+            case DEVICE_PAGES:
+                if (this.cursorDevice != null)
+                    this.cursorDevice.getParameterPageBank ().enableObservers (enable);
+                break;
+
+            case DRUM_PADS:
+                enableDrumPadObservers (this.drumDevice, enable);
+                enableDrumPadObservers (this.drumDevice64, enable);
+                break;
+
+            case CLIP_STEPS:
+                this.cursorClips.values ().forEach (clip -> clip.enableObservers (enable));
+                break;
+
+            default:
+                // Not supported
+                break;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isReady ()
+    {
+        return this.missingValues.isEmpty ();
+    }
+
+
+    /**
+     * Register a value which must be received from the DAW before the model is ready.
+     *
+     * @param name The name of the value
+     * @return Call this when the value has been received
+     */
+    protected Runnable expectValue (final String name)
+    {
+        this.missingValues.add (name);
+        return () -> this.missingValues.remove (name);
+    }
+
+
+    private static void enableSlotObservers (final ITrackBank bank, final boolean enable)
+    {
+        if (bank == null)
+            return;
+        for (int i = 0; i < bank.getPageSize (); i++)
+            bank.getItem (i).getSlotBank ().enableObservers (enable);
+    }
+
+
+    private static void enableDrumPadObservers (final IDrumDevice device, final boolean enable)
+    {
+        if (device == null)
+            return;
+        final IDrumPadBank drumPadBank = device.getDrumPadBank ();
+        if (drumPadBank != null)
+            drumPadBank.enableObservers (enable);
+    }
 }
@@ -0,0 +1,88 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+
+
+/**
+ * An ordered sequence of resolved actions (see {@link IApplication#resolveAction(String)}) with
+ * optional delays between them. Executed with {@link IApplication#invokeActionMacro(ActionMacro)}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ActionMacro
+{
+    private int [] handles      = new int [4];
+    private int [] delays       = new int [4];
+    private int    numSteps     = 0;
+    private int    pendingDelay = 0;
+
+
+    /**
+     * Add an action to the end of the macro.
+     *
+     * @param handle The handle of the resolved action
+     */
+    public void addAction (final int handle)
+    {
+        if (this.numSteps == this.handles.length)
+        {
+            this.handles = Arrays.copyOf (this.handles, 2 * this.numSteps);
+            this.delays = Arrays.copyOf (this.delays, 2 * this.numSteps);
+        }
+
+        this.handles[this.numSteps] = handle;
+        this.delays[this.numSteps] = this.pendingDelay;
+        this.numSteps++;
+        this.pendingDelay = 0;
+    }
+
+
+    /**
+     * Add a delay before the next action, which is added.
+     *
+     * @param delay The delay in milliseconds
+     */
+    public void addDelay (final int delay)
+    {
+        this.pendingDelay += Math.max (0, delay);
+    }
+
+
+    /**
+     * Get the number of actions in the macro.
+     *
+     * @return The number of actions
+     */
+    public int getNumSteps ()
+    {
+        return this.numSteps;
+    }
+
+
+    /**
+     * Get the handle of the action of a step.
+     *
+     * @param step The index of the step
+     * @return The handle of the action
+     */
+    public int getHandle (final int step)
+    {
+        return this.handles[step];
+    }
+
+
+    /**
+     * Get the delay before the action of a step is executed.
+     *
+     * @param step The index of the step
+     * @return The delay in milliseconds
+     */
+    public int getDelay (final int step)
+    {
+        return this.delays[step];
+    }
+}
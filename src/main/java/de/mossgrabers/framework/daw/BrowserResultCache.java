@@ -0,0 +1,176 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * Caches the names of the browser results by their position in the result list. Contains the names
+ * which have been received from the DAW since the result list last changed, which are usually more
+ * than the ones on the current result page. This allows to search results which are not on the
+ * current result page without waiting for the DAW. The cache must be cleared when the result list
+ * changes (e.g. a filter was changed).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BrowserResultCache
+{
+    private static final int   SCORE_PREFIX     = 3;
+    private static final int   SCORE_WORD_START = 2;
+    private static final int   SCORE_CONTAINS   = 1;
+    private static final int   SCORE_FUZZY      = 0;
+    private static final int   NO_MATCH         = -1;
+
+    private final List<String> names            = new ArrayList<> ();
+    private final List<String> searchNames      = new ArrayList<> ();
+    private int                numCached        = 0;
+
+
+    /**
+     * Store the name of a result.
+     *
+     * @param position The position of the result in the result list
+     * @param name The name of the result, null or empty to remove it
+     */
+    public void setName (final int position, final String name)
+    {
+        if (position < 0)
+            return;
+
+        final boolean remove = name == null || name.isEmpty ();
+        if (position >= this.names.size ())
+        {
+            if (remove)
+                return;
+            while (this.names.size () <= position)
+            {
+                this.names.add (null);
+                this.searchNames.add (null);
+            }
+        }
+
+        final boolean wasCached = this.names.get (position) != null;
+        if (remove)
+        {
+            this.names.set (position, null);
+            this.searchNames.set (position, null);
+            if (wasCached)
+                this.numCached--;
+            return;
+        }
+
+        this.names.set (position, name);
+        this.searchNames.set (position, name.toLowerCase (Locale.ROOT));
+        if (!wasCached)
+            this.numCached++;
+    }
+
+
+    /**
+     * Get the name of a result.
+     *
+     * @param position The position of the result in the result list
+     * @return The name or null if it has not been received yet
+     */
+    public String getName (final int position)
+    {
+        return position >= 0 && position < this.names.size () ? this.names.get (position) : null;
+    }
+
+
+    /**
+     * Get the number of cached result names.
+     *
+     * @return The number of names
+     */
+    public int getNumCached ()
+    {
+        return this.numCached;
+    }
+
+
+    /**
+     * Removes all cached names.
+     */
+    public void clear ()
+    {
+        this.names.clear ();
+        this.searchNames.clear ();
+        this.numCached = 0;
+    }
+
+
+    /**
+     * Search the cached names. The search is case insensitive. Names which start with the query
+     * are ranked first, followed by names which contain it at the start of a word, anywhere and
+     * finally names which contain all characters of the query in the same order. Results with the
+     * same rank are ordered by their position.
+     *
+     * @param query The text to search for
+     * @param maxResults The maximum number of results to return
+     * @return The positions of the matching results
+     */
+    public int [] find (final String query, final int maxResults)
+    {
+        final String search = query == null ? "" : query.trim ().toLowerCase (Locale.ROOT);
+        if (search.isEmpty () || maxResults <= 0)
+            return new int [0];
+
+        // Encode the rank and position into one value to sort without boxing
+        long [] matches = new long [Math.min (this.numCached, 64)];
+        int numMatches = 0;
+        for (int position = 0; position < this.searchNames.size (); position++)
+        {
+            final String name = this.searchNames.get (position);
+            if (name == null)
+                continue;
+            final int score = getScore (name, search);
+            if (score == NO_MATCH)
+                continue;
+            if (numMatches == matches.length)
+                matches = Arrays.copyOf (matches, Math.max (1, 2 * numMatches));
+            matches[numMatches++] = (long) (SCORE_PREFIX - score) << 32 | position;
+        }
+
+        Arrays.sort (matches, 0, numMatches);
+        final int [] result = new int [Math.min (numMatches, maxResults)];
+        for (int i = 0; i < result.length; i++)
+            result[i] = (int) matches[i];
+        return result;
+    }
+
+
+    private static int getScore (final String name, final String search)
+    {
+        int index = name.indexOf (search);
+        if (index == 0)
+            return SCORE_PREFIX;
+        if (index > 0)
+        {
+            // Prefer a match at the start of a word
+            while (index > 0)
+            {
+                if (!Character.isLetterOrDigit (name.charAt (index - 1)))
+                    return SCORE_WORD_START;
+                index = name.indexOf (search, index + 1);
+            }
+            return SCORE_CONTAINS;
+        }
+
+        int pos = 0;
+        for (int i = 0; i < search.length (); i++)
+        {
+            pos = name.indexOf (search.charAt (i), pos);
+            if (pos < 0)
+                return NO_MATCH;
+            pos++;
+        }
+        return SCORE_FUZZY;
+    }
+}
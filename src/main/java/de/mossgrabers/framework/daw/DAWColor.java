@@ -72,8 +72,10 @@ public enum DAWColor
     DAW_COLOR_LIGHT_BLUE("Light Blue", new ColorEx (0, 0.6000000238418579, 0.8509804010391235));
 
 
-    private String  name;
-    private ColorEx color;
+    private static final DAWColor [] VALUES = DAWColor.values ();
+
+    private String                   name;
+    private ColorEx                  color;
 
 
     /**
@@ -145,7 +147,7 @@ public enum DAWColor
      */
     public static String getColorIndex (final ColorEx color)
     {
-        return getColorIndex (color.toDoubleRGB ());
+        return getClosestColor (color).name ();
     }
 
 
@@ -171,10 +173,21 @@ public enum DAWColor
      */
     public static String getColorIndex (final double red, final double green, final double blue)
     {
-        final DAWColor [] values = DAWColor.values ();
+        return getClosestColor (new ColorEx (red, green, blue)).name ();
+    }
+
+
+    /**
+     * Get the DAW color which is the closest to the given color.
+     *
+     * @param color The color
+     * @return The DAW color or COLOR_OFF if none is close enough
+     */
+    public static DAWColor getClosestColor (final ColorEx color)
+    {
+        final DAWColor [] values = VALUES;
         DAWColor cid = values[0];
         double minError = 5.0;
-        final ColorEx color = new ColorEx (red, green, blue);
         for (int i = 1; i < values.length; i++)
         {
             final double error = ColorEx.calcDistance (values[i].getColor (), color);
@@ -184,6 +197,6 @@ public enum DAWColor
                 minError = error;
             }
         }
-        return cid.name ();
+        return cid;
     }
 }
@@ -274,4 +274,45 @@ public interface IApplication extends IObserverManagement
      * @param id the action identifier string, must not be `null`
      */
     void invokeAction (String id);
+
+
+    /**
+     * Resolves an action identifier into a handle, which can be invoked without looking up the
+     * action again. Identifiers of actions which are not available in the running DAW are reported
+     * as an error (only once).
+     *
+     * @param id the action identifier string, must not be `null`
+     * @return The handle or -1 if the action is not available
+     */
+    int resolveAction (String id);
+
+
+    /**
+     * Invokes a resolved action.
+     *
+     * @param handle The handle of the action, -1 is ignored
+     */
+    void invokeAction (int handle);
+
+
+    /**
+     * Creates a macro from a definition. The definition contains action identifiers and delays in
+     * milliseconds, separated by semicolons, e.g. "Zoom In;100;Zoom In". All actions are resolved
+     * when the macro is created, actions which are not available are left out.
+     *
+     * @param definition The definition of the macro
+     * @return The macro
+     * @throws IllegalArgumentException The definition ends with a delay, which would have no
+     *             effect
+     */
+    ActionMacro createActionMacro (String definition);
+
+
+    /**
+     * Invokes all actions of a macro in the order in which they were added. Actions without a delay
+     * are invoked immediately after the previous one, the others are scheduled.
+     *
+     * @param macro The macro
+     */
+    void invokeActionMacro (ActionMacro macro);
 }
\ No newline at end of file
@@ -253,6 +253,31 @@ public interface IBrowser extends IObserverManagement
     String getSelectedResult ();
 
 
+    /**
+     * Get the position of the selected result in the whole result list.
+     *
+     * @return The position or -1 if no result is selected
+     */
+    int getSelectedResultPosition ();
+
+
+    /**
+     * Select a result by its position in the whole result list.
+     *
+     * @param position The position of the result
+     */
+    void selectResult (int position);
+
+
+    /**
+     * Select the cached result which matches the given text best (type-ahead).
+     *
+     * @param query The text to search for
+     * @return True if a matching result was found
+     */
+    boolean selectMatchingResult (String query);
+
+
     /**
      * Get the number of results to display on a page.
      *
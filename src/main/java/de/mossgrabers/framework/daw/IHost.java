@@ -42,6 +42,15 @@ public interface IHost
     boolean supports (Capability capability);
 
 
+    /**
+     * Get the budget which counts the observers of the model and decides which optional values are
+     * observed.
+     *
+     * @return The budget
+     */
+    ObserverBudget getObserverBudget ();
+
+
     /**
      * Schedules the given task for execution after the given delay.
      *
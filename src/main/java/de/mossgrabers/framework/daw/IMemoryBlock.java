@@ -20,4 +20,13 @@ public interface IMemoryBlock
      * @return The byte buffer
      */
     ByteBuffer createByteBuffer ();
+
+
+    /**
+     * Get the Java array which backs this memory block. This allows to read the data without
+     * copying it.
+     *
+     * @return The backing array or null if the memory block is not backed by an accessible array
+     */
+    byte [] getBackingArray ();
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.ISceneBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.ObservedFeature;
 import de.mossgrabers.framework.scale.Scales;
 
 
@@ -45,6 +46,14 @@ public interface IModel
     IValueChanger getValueChanger ();
 
 
+    /**
+     * Get the service which applies the ballistics to the VU meters.
+     *
+     * @return The VU meter service
+     */
+    VuMeterService getVuMeterService ();
+
+
     /**
      * Get the project.
      *
@@ -330,6 +339,24 @@ public interface IModel
     void ensureClip ();
 
 
+    /**
+     * Dis-/Enable the observers of a part of the model. They are enabled by default.
+     *
+     * @param feature The part of the model
+     * @param enable True to enable
+     */
+    void enableObservers (ObservedFeature feature, boolean enable);
+
+
+    /**
+     * Returns true if the first values of the most important parts of the model have been
+     * received from the DAW.
+     *
+     * @return True if ready
+     */
+    boolean isReady ();
+
+
     /**
      * Returns true if there is a selected audio clip which can be split.
      *
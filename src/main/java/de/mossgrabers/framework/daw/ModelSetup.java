@@ -5,9 +5,12 @@
 package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.daw.constants.DeviceID;
+import de.mossgrabers.framework.observer.ObservedValue;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -17,32 +20,33 @@ import java.util.List;
  */
 public class ModelSetup
 {
-    private boolean              hasFlatTrackList       = true;
-    private boolean              hasFullFlatTrackList   = false;
+    private boolean                  hasFlatTrackList       = true;
+    private boolean                  hasFullFlatTrackList   = false;
 
-    private int                  numTracks              = 8;
-    private int                  numFxTracks            = -1;
-    private int                  numScenes              = 8;
-    private int                  numSends               = 8;
+    private int                      numTracks              = 8;
+    private int                      numFxTracks            = -1;
+    private int                      numScenes              = 8;
+    private int                      numSends               = 8;
 
-    private boolean              wantsDrumDevice        = true;
-    private boolean              wantsDrum64Device      = false;
+    private boolean                  wantsDrumDevice        = true;
+    private boolean                  wantsDrum64Device      = false;
 
-    private int                  numDevicesInBank       = 8;
-    private int                  numDeviceLayers        = 8;
+    private int                      numDevicesInBank       = 8;
+    private int                      numDeviceLayers        = 8;
 
-    private int                  numParamPages          = 8;
-    private int                  numParams              = 8;
-    private int                  numDrumPadLayers       = 16;
+    private int                      numParamPages          = 8;
+    private int                      numParams              = 8;
+    private int                      numDrumPadLayers       = 16;
 
-    private int                  numFilterColumnEntries = 16;
-    private int                  numResults             = 16;
+    private int                      numFilterColumnEntries = 16;
+    private int                      numResults             = 16;
 
-    private int                  numMarkers             = 0;
-    private int                  numUserPageSize        = 8;
-    private int                  numUserPages           = 8;
+    private int                      numMarkers             = 0;
+    private int                      numUserPageSize        = 8;
+    private int                      numUserPages           = 8;
 
-    private final List<DeviceID> deviceIDs              = new ArrayList<> ();
+    private final List<DeviceID>     deviceIDs              = new ArrayList<> ();
+    private final Set<ObservedValue> ignoredValues          = EnumSet.noneOf (ObservedValue.class);
 
 
     /**
@@ -463,6 +467,30 @@ public class ModelSetup
     }
 
 
+    /**
+     * Do not observe the given values, e.g. the colors on a controller without colored LEDs or
+     * display.
+     *
+     * @param value The values to ignore
+     */
+    public void ignoreValue (final ObservedValue value)
+    {
+        this.ignoredValues.add (value);
+    }
+
+
+    /**
+     * Check if values of the given type should be observed.
+     *
+     * @param value The type of the values
+     * @return True if observed, which is the default
+     */
+    public boolean isObserved (final ObservedValue value)
+    {
+        return !this.ignoredValues.contains (value);
+    }
+
+
     /**
      * Get the device IDs of additional devices to monitor.
      *
@@ -0,0 +1,114 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.observer.ObservedValue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Counts the bank slots and observers which are registered while the model is created. Also
+ * decides, based on the model setup, which optional values are observed at all.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ObserverBudget
+{
+    private final ModelSetup          modelSetup;
+    private final Map<String, int []> groups = new LinkedHashMap<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param modelSetup The setup of the model which contains the ignored values
+     */
+    public ObserverBudget (final ModelSetup modelSetup)
+    {
+        this.modelSetup = modelSetup;
+    }
+
+
+    /**
+     * Check if values of the given type should be observed.
+     *
+     * @param value The type of the values
+     * @return True if they should be observed
+     */
+    public boolean isObserved (final ObservedValue value)
+    {
+        return this.modelSetup.isObserved (value);
+    }
+
+
+    /**
+     * Add bank slots to a group.
+     *
+     * @param group The name of the group
+     * @param numSlots The number of slots to add
+     */
+    public void addBankSlots (final String group, final int numSlots)
+    {
+        this.getGroup (group)[0] += numSlots;
+    }
+
+
+    /**
+     * Add observers to a group.
+     *
+     * @param group The name of the group
+     * @param numObservers The number of observers to add
+     */
+    public void addObservers (final String group, final int numObservers)
+    {
+        this.getGroup (group)[1] += numObservers;
+    }
+
+
+    /**
+     * Get the number of all registered observers.
+     *
+     * @return The number of observers
+     */
+    public int getNumObservers ()
+    {
+        int sum = 0;
+        for (final int [] counts: this.groups.values ())
+            sum += counts[1];
+        return sum;
+    }
+
+
+    /**
+     * Format a report of all groups.
+     *
+     * @return The report
+     */
+    public String getReport ()
+    {
+        final StringBuilder sb = new StringBuilder ("Model observers: ").append (this.getNumObservers ());
+        for (final Map.Entry<String, int []> e: this.groups.entrySet ())
+        {
+            final int [] counts = e.getValue ();
+            sb.append (String.format ("%n  %-20s %5d observers", e.getKey (), Integer.valueOf (counts[1])));
+            if (counts[0] > 0)
+                sb.append (String.format (", %4d bank slots", Integer.valueOf (counts[0])));
+        }
+        for (final ObservedValue value: ObservedValue.values ())
+        {
+            if (!this.isObserved (value))
+                sb.append (String.format ("%n  %s are not observed.", value));
+        }
+        return sb.toString ();
+    }
+
+
+    private int [] getGroup (final String group)
+    {
+        return this.groups.computeIfAbsent (group, key -> new int [2]);
+    }
+}
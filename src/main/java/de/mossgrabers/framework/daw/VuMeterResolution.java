@@ -0,0 +1,107 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.daw.VuMeterService.Side;
+import de.mossgrabers.framework.daw.data.IChannel;
+
+import java.util.Arrays;
+
+
+/**
+ * The VU meter resolution of a surface. Quantizes the levels of the VU meter service to the steps
+ * the surface can display and remembers the last reported value of each meter slot of the surface.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterResolution
+{
+    /** Returned if the quantized value of a meter has not changed. */
+    public static final int      UNCHANGED        = -1;
+
+    /** Interval in milliseconds in which meters which decay in the hardware are sent again. */
+    private static final long    REFRESH_INTERVAL = 250;
+
+    private final VuMeterService service;
+    private final int            numSteps;
+    private final int []         values;
+    private final long []        sendTimes;
+    private boolean              hasHardwareDecay = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param service The VU meter service
+     * @param numSteps The number of different values the surface can display
+     * @param numSlots The number of meters the surface displays
+     */
+    VuMeterResolution (final VuMeterService service, final int numSteps, final int numSlots)
+    {
+        this.service = service;
+        this.numSteps = numSteps;
+        this.values = new int [numSlots];
+        this.sendTimes = new long [numSlots];
+
+        this.invalidate ();
+    }
+
+
+    /**
+     * Call for surfaces of which the meters fall by themselves in the hardware unless the level is
+     * sent again. The ballistics of the service are not applied, since the release would add to
+     * the decay of the hardware, and unchanged values which are not zero are reported again every
+     * 250ms to keep the meters up.
+     */
+    public void enableHardwareDecay ()
+    {
+        this.hasHardwareDecay = true;
+    }
+
+
+    /**
+     * Get the quantized value of a VU meter.
+     *
+     * @param channel The channel
+     * @param side The side of the meter
+     * @return The value in the range of [0..numSteps-1]
+     */
+    public int getValue (final IChannel channel, final Side side)
+    {
+        final double level = this.hasHardwareDecay ? this.service.getRawLevel (channel, side) : this.service.getLevel (channel, side);
+        return Math.min (this.numSteps - 1, (int) (level * this.numSteps));
+    }
+
+
+    /**
+     * Get the quantized value of a VU meter if it is different from the last value reported for the
+     * slot. If the meters decay in the hardware, a value which is not zero is also reported if it
+     * was not reported in the refresh interval.
+     *
+     * @param slot The index of the meter on the surface
+     * @param channel The channel
+     * @param side The side of the meter
+     * @return The value in the range of [0..numSteps-1] or UNCHANGED
+     */
+    public int getChangedValue (final int slot, final IChannel channel, final Side side)
+    {
+        final int value = this.getValue (channel, side);
+        final long now = this.hasHardwareDecay ? System.currentTimeMillis () : 0;
+        if (value == this.values[slot] && (!this.hasHardwareDecay || value == 0 || now - this.sendTimes[slot] < REFRESH_INTERVAL))
+            return UNCHANGED;
+        this.values[slot] = value;
+        this.sendTimes[slot] = now;
+        return value;
+    }
+
+
+    /**
+     * Forget all reported values, e.g. to send all meters again after the device was reset.
+     */
+    public void invalidate ()
+    {
+        Arrays.fill (this.values, UNCHANGED);
+    }
+}
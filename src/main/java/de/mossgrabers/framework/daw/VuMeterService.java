@@ -0,0 +1,199 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
+import de.mossgrabers.framework.daw.data.IChannel;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * Applies the ballistics (attack, release and peak hold) to the VU meters of the channels. The
+ * ballistics are calculated only once per flush for each channel, no matter how many surfaces
+ * display the meter. Surfaces register their meter resolution (see
+ * {@link #registerResolution(int, int)}) to get the quantized values and to be notified only if
+ * the quantized value has changed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterService
+{
+    /** The side of a VU meter. */
+    public enum Side
+    {
+        /** The average of the left and right channel. */
+        MONO,
+        /** The left channel. */
+        LEFT,
+        /** The right channel. */
+        RIGHT
+    }
+
+
+    private static final Side []            SIDES       = Side.values ();
+
+    private final IValueChanger             valueChanger;
+    private final Map<IChannel, MeterState> states      = new IdentityHashMap<> ();
+
+    private double                          attackTime  = 0;
+    private double                          releaseTime = 300;
+    private long                            holdTime    = 0;
+    private long                            frame       = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     */
+    public VuMeterService (final IValueChanger valueChanger)
+    {
+        this.valueChanger = valueChanger;
+    }
+
+
+    /**
+     * Configure the ballistics.
+     *
+     * @param attackTime The time constant for rising values in milliseconds, 0 follows rising
+     *            values immediately
+     * @param releaseTime The time constant for falling values in milliseconds, 0 follows falling
+     *            values immediately
+     * @param holdTime The time in milliseconds for which a peak is held, 0 to disable
+     */
+    public void setBallistics (final double attackTime, final double releaseTime, final long holdTime)
+    {
+        this.attackTime = Math.max (0, attackTime);
+        this.releaseTime = Math.max (0, releaseTime);
+        this.holdTime = Math.max (0, holdTime);
+    }
+
+
+    /**
+     * Register a meter resolution of a surface.
+     *
+     * @param numSteps The number of different values the surface can display (e.g. 13 for 12
+     *            segments and off)
+     * @param numSlots The number of meters the surface displays
+     * @return The resolution through which to get the quantized values
+     */
+    public VuMeterResolution registerResolution (final int numSteps, final int numSlots)
+    {
+        return new VuMeterResolution (this, numSteps, numSlots);
+    }
+
+
+    /**
+     * Starts a new frame. Must be called once per flush before the meters are read.
+     */
+    public void nextFrame ()
+    {
+        this.frame++;
+    }
+
+
+    /**
+     * Get the level of a VU meter after applying the ballistics. A held peak is included.
+     *
+     * @param channel The channel
+     * @param side The side of the meter
+     * @return The level in the range of [0..1]
+     */
+    public double getLevel (final IChannel channel, final Side side)
+    {
+        final MeterState state = this.states.computeIfAbsent (channel, c -> new MeterState ());
+        if (state.frame != this.frame)
+            this.update (channel, state);
+        return state.values[side.ordinal ()];
+    }
+
+
+    /**
+     * Calculates the ballistics of all sides of a channel.
+     *
+     * @param channel The channel
+     * @param state The state of the meter of the channel
+     */
+    private void update (final IChannel channel, final MeterState state)
+    {
+        final long now = System.currentTimeMillis ();
+        final double elapsed = state.frame < 0 ? 0 : now - state.time;
+        state.frame = this.frame;
+        state.time = now;
+
+        final double attack = getCoefficient (elapsed, this.attackTime);
+        final double release = getCoefficient (elapsed, this.releaseTime);
+        for (final Side side: SIDES)
+        {
+            final int index = side.ordinal ();
+            final double target = this.getRawLevel (channel, side);
+            final double level = state.levels[index];
+            state.levels[index] = level + (target - level) * (target > level ? attack : release);
+
+            if (state.levels[index] >= state.peaks[index] || now - state.peakTimes[index] >= this.holdTime)
+            {
+                state.peaks[index] = state.levels[index];
+                state.peakTimes[index] = now;
+            }
+            state.values[index] = Math.max (state.levels[index], state.peaks[index]);
+        }
+    }
+
+
+    /**
+     * Get the level of a VU meter without the ballistics. Used by surfaces of which the meters fall
+     * by themselves in the hardware.
+     *
+     * @param channel The channel
+     * @param side The side of the meter
+     * @return The level in the range of [0..1]
+     */
+    public double getRawLevel (final IChannel channel, final Side side)
+    {
+        final int value;
+        switch (side)
+        {
+            case LEFT:
+                value = channel.getVuLeft ();
+                break;
+            case RIGHT:
+                value = channel.getVuRight ();
+                break;
+            default:
+                value = channel.getVu ();
+                break;
+        }
+        return Math.min (1.0, Math.max (0, value / (this.valueChanger.getUpperBound () - 1.0)));
+    }
+
+
+    /**
+     * Calculate the factor by which a level approaches its target in the elapsed time.
+     *
+     * @param elapsed The elapsed time in milliseconds
+     * @param timeConstant The time constant in milliseconds
+     * @return The factor in the range of [0..1]
+     */
+    private static double getCoefficient (final double elapsed, final double timeConstant)
+    {
+        if (timeConstant <= 0)
+            return 1;
+        return 1 - Math.exp (-elapsed / timeConstant);
+    }
+
+
+    /** The ballistics state of the meters of one channel. */
+    private static class MeterState
+    {
+        private final double [] levels    = new double [SIDES.length];
+        private final double [] peaks     = new double [SIDES.length];
+        private final long []   peakTimes = new long [SIDES.length];
+        private final double [] values    = new double [SIDES.length];
+        private long            frame     = -1;
+        private long            time;
+    }
+}
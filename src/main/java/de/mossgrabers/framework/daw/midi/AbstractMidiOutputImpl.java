@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import de.mossgrabers.framework.utils.PerformanceMetrics;
+
+
 /**
  * An abstract implementation for a midi output
  *
@@ -11,6 +14,35 @@ package de.mossgrabers.framework.daw.midi;
  */
 public abstract class AbstractMidiOutputImpl implements IMidiOutput
 {
+    protected PerformanceMetrics metrics = new PerformanceMetrics ("MIDI Output");
+    protected volatile MidiTrace trace;
+    protected volatile MidiTrace captureTrace;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMetrics (final PerformanceMetrics metrics)
+    {
+        this.metrics = metrics;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setTrace (final MidiTrace trace)
+    {
+        this.trace = trace;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCaptureTrace (final MidiTrace trace)
+    {
+        this.captureTrace = trace;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendCC (final int cc, final int value)
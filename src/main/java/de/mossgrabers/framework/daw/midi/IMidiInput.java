@@ -163,4 +163,32 @@ public interface IMidiInput
      * @param control The MIDI command (CC, Note, ...)
      */
     void bindTouch (IHwFader fader, BindType type, int channel, int control);
+
+
+    /**
+     * Set a trace to which all messages are recorded, which are handed to the MIDI and system
+     * exclusive callbacks.
+     *
+     * @param trace The trace, null to stop recording
+     */
+    void setTrace (MidiTrace trace);
+
+
+    /**
+     * Hand a short MIDI message to the MIDI callback as if it was received from the device.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    void replayMidi (int status, int data1, int data2);
+
+
+    /**
+     * Hand a system exclusive message to the system exclusive callback as if it was received from
+     * the device.
+     *
+     * @param data The sysex formatted in hex
+     */
+    void replaySysex (String data);
 }
\ No newline at end of file
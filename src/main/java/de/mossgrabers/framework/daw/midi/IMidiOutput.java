@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.daw.midi;
 
+import de.mossgrabers.framework.utils.PerformanceMetrics;
+
+
 /**
  * Interface to a midi output
  *
@@ -141,4 +144,28 @@ public interface IMidiOutput
      * @param data The data to send, formatted as a hex string, e.g. F0 7E 7F 06 01 F7
      */
     void sendSysex (String data);
+
+
+    /**
+     * Set the performance metrics to which the number of sent bytes is reported.
+     *
+     * @param metrics The metrics
+     */
+    void setMetrics (PerformanceMetrics metrics);
+
+
+    /**
+     * Set a trace to which all sent messages are recorded.
+     *
+     * @param trace The trace, null to stop recording
+     */
+    void setTrace (MidiTrace trace);
+
+
+    /**
+     * Record all messages in the given trace instead of sending them to the device.
+     *
+     * @param trace The trace in which to capture the messages, null to send to the device again
+     */
+    void setCaptureTrace (MidiTrace trace);
 }
\ No newline at end of file
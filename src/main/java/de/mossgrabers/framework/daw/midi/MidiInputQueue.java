@@ -0,0 +1,171 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Decouples the receiving of MIDI short messages from their handling. The received messages are
+ * stored in a lock-free ring buffer (one producer, one consumer) and handled in one batch by a task
+ * which is scheduled once for all messages received in the meantime. Messages which only transport
+ * the latest state of a control (e.g. the value of an absolute knob) can be coalesced, in that case
+ * only the last one of a batch is handled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiInputQueue implements MidiShortCallback
+{
+    /**
+     * Decides which messages can be coalesced.
+     */
+    public interface ICoalesceFilter
+    {
+        /**
+         * Check if only the latest value of a message needs to be handled if it was received
+         * several times before the queue is drained.
+         *
+         * @param status The MIDI status byte
+         * @param data1 The MIDI data byte 1
+         * @return True if the message can be coalesced
+         */
+        boolean canCoalesce (int status, int data1);
+    }
+
+
+    private static final int        CAPACITY         = 1024;
+    private static final int        MASK             = CAPACITY - 1;
+
+    private final IHost             host;
+    private final MidiShortCallback handler;
+    private final ICoalesceFilter   filter;
+
+    private final int []            events           = new int [CAPACITY];
+    private final AtomicLong        head             = new AtomicLong ();
+    private final AtomicLong        tail             = new AtomicLong ();
+    private final AtomicBoolean     isDrainScheduled = new AtomicBoolean ();
+    private final AtomicLong        numDropped       = new AtomicLong ();
+
+    // Only used while draining
+    private final int []            batch            = new int [CAPACITY];
+    private final boolean []        isCoalescable    = new boolean [CAPACITY];
+    private final int []            lastIndex        = new int [128 * 128];
+    private long                    numCoalesced     = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the handling of the queued messages
+     * @param handler The handler to which the messages are forwarded
+     * @param filter Decides which messages can be coalesced, null to coalesce nothing
+     */
+    public MidiInputQueue (final IHost host, final MidiShortCallback handler, final ICoalesceFilter filter)
+    {
+        this.host = host;
+        this.handler = handler;
+        this.filter = filter;
+    }
+
+
+    /**
+     * Adds a received message to the queue. Must only be called from one thread. If the queue is
+     * full, the message is dropped.
+     *
+     * @param status The MIDI status byte
+     * @param data1 The MIDI data byte 1
+     * @param data2 The MIDI data byte 2
+     */
+    @Override
+    public void handleMidi (final int status, final int data1, final int data2)
+    {
+        final long h = this.head.get ();
+        if (h - this.tail.get () >= CAPACITY)
+            this.numDropped.incrementAndGet ();
+        else
+        {
+            this.events[(int) (h & MASK)] = (status & 0xFF) << 16 | (data1 & 0x7F) << 8 | data2 & 0x7F;
+            this.head.lazySet (h + 1);
+        }
+
+        if (this.isDrainScheduled.compareAndSet (false, true))
+            this.host.scheduleTask (this::drain, 0);
+    }
+
+
+    /**
+     * Handles all queued messages. Must only be called from one thread.
+     */
+    public void drain ()
+    {
+        // Reset first, messages added from now on schedule a new drain
+        this.isDrainScheduled.set (false);
+
+        final long t = this.tail.get ();
+        final long h = this.head.get ();
+        final int count = (int) (h - t);
+        for (int i = 0; i < count; i++)
+            this.batch[i] = this.events[(int) (t + i & MASK)];
+        this.tail.lazySet (h);
+
+        // Find the last occurrence of all messages which can be coalesced, the filter is only
+        // called once per message
+        for (int i = 0; i < count; i++)
+        {
+            final int event = this.batch[i];
+            this.isCoalescable[i] = this.filter != null && this.filter.canCoalesce (event >> 16, event >> 8 & 0x7F);
+            if (this.isCoalescable[i])
+                this.lastIndex[getKey (event)] = i;
+        }
+
+        for (int i = 0; i < count; i++)
+        {
+            final int event = this.batch[i];
+            final int status = event >> 16;
+            final int data1 = event >> 8 & 0x7F;
+            if (this.isCoalescable[i] && this.lastIndex[getKey (event)] != i)
+            {
+                this.numCoalesced++;
+                continue;
+            }
+            this.handler.handleMidi (status, data1, event & 0x7F);
+        }
+
+        final long dropped = this.numDropped.getAndSet (0);
+        if (dropped > 0)
+            this.host.error (dropped + " MIDI messages were dropped since the input queue was full.");
+    }
+
+
+    /**
+     * Get the number of messages which were not handled since a newer one with the same status
+     * and data byte 1 was in the same batch.
+     *
+     * @return The number of messages
+     */
+    public long getNumCoalesced ()
+    {
+        return this.numCoalesced;
+    }
+
+
+    /**
+     * Get the key of a message for coalescing: the lower 7 bits of the status byte and data byte 1.
+     *
+     * @param event The packed message
+     * @return The key
+     */
+    private static int getKey (final int event)
+    {
+        final int status = event >> 16;
+        final int code = status & 0xF0;
+        // Data byte 1 of channel aftertouch and pitchbend is part of the value
+        final int data1 = code == 0xD0 || code == 0xE0 ? 0 : event >> 8 & 0x7F;
+        return (status & 0x7F) << 7 | data1;
+    }
+}
@@ -0,0 +1,356 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Records the MIDI messages which are received from and sent to a device. The events are stored in
+ * a compact binary format: the time since the previous event in microseconds and the length of
+ * system exclusive messages are encoded as variable length integers, short messages take 3 bytes.
+ * Recording is thread-safe, since output messages are also sent from other threads than the one
+ * of the DAW.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiTrace
+{
+    /** A short MIDI message received from the device. */
+    public static final int   TYPE_MIDI_IN   = 0;
+    /** A system exclusive message received from the device. */
+    public static final int   TYPE_SYSEX_IN  = 1;
+    /** A short MIDI message sent to the device. */
+    public static final int   TYPE_MIDI_OUT  = 2;
+    /** A system exclusive message sent to the device. */
+    public static final int   TYPE_SYSEX_OUT = 3;
+
+    private static final int  MAGIC          = 0x4D545243;
+    private static final int  VERSION        = 1;
+
+    private byte []           data           = new byte [4096];
+    private int               length         = 0;
+    private int               numEvents      = 0;
+    private long              startTime      = -1;
+    private long              lastTime;
+
+
+    /**
+     * Record a short MIDI message.
+     *
+     * @param isInput True if the message was received, false if it was sent
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public synchronized void recordMidi (final boolean isInput, final int status, final int data1, final int data2)
+    {
+        this.addHeader (isInput ? TYPE_MIDI_IN : TYPE_MIDI_OUT);
+        this.ensureCapacity (3);
+        this.data[this.length++] = (byte) status;
+        this.data[this.length++] = (byte) data1;
+        this.data[this.length++] = (byte) data2;
+    }
+
+
+    /**
+     * Record a system exclusive message.
+     *
+     * @param isInput True if the message was received, false if it was sent
+     * @param hexData The bytes of the message formatted in hex, spaces are ignored
+     */
+    public void recordSysex (final boolean isInput, final String hexData)
+    {
+        this.recordSysex (isInput, fromHex (hexData));
+    }
+
+
+    /**
+     * Record a system exclusive message.
+     *
+     * @param isInput True if the message was received, false if it was sent
+     * @param sysex The bytes of the message
+     */
+    public synchronized void recordSysex (final boolean isInput, final byte [] sysex)
+    {
+        this.addHeader (isInput ? TYPE_SYSEX_IN : TYPE_SYSEX_OUT);
+        this.writeVarInt (sysex.length);
+        this.ensureCapacity (sysex.length);
+        System.arraycopy (sysex, 0, this.data, this.length, sysex.length);
+        this.length += sysex.length;
+    }
+
+
+    /**
+     * Get the number of recorded events.
+     *
+     * @return The number of events
+     */
+    public synchronized int getNumEvents ()
+    {
+        return this.numEvents;
+    }
+
+
+    /**
+     * Get the number of bytes of the recorded events.
+     *
+     * @return The number of bytes
+     */
+    public synchronized int getSize ()
+    {
+        return this.length;
+    }
+
+
+    /**
+     * Decode the recorded events.
+     *
+     * @return The events in the order in which they were recorded
+     */
+    public synchronized List<Event> getEvents ()
+    {
+        final List<Event> events = new ArrayList<> (this.numEvents);
+        final int [] position =
+        {
+            0
+        };
+        long time = 0;
+        while (position[0] < this.length)
+        {
+            time += this.readVarInt (position) * 1000L;
+            final int type = this.data[position[0]++];
+            final int size = type == TYPE_MIDI_IN || type == TYPE_MIDI_OUT ? 3 : (int) this.readVarInt (position);
+            events.add (new Event (time, type, Arrays.copyOfRange (this.data, position[0], position[0] + size)));
+            position[0] += size;
+        }
+        return events;
+    }
+
+
+    /**
+     * Store the trace in a file.
+     *
+     * @param file The file
+     * @throws IOException Could not write the file
+     */
+    public void save (final File file) throws IOException
+    {
+        try (final OutputStream stream = Files.newOutputStream (file.toPath ()); final DataOutputStream out = new DataOutputStream (stream))
+        {
+            synchronized (this)
+            {
+                out.writeInt (MAGIC);
+                out.writeInt (VERSION);
+                out.writeInt (this.numEvents);
+                out.writeInt (this.length);
+                out.write (this.data, 0, this.length);
+            }
+        }
+    }
+
+
+    /**
+     * Load a trace from a file.
+     *
+     * @param file The file
+     * @return The loaded trace
+     * @throws IOException Could not read the file or it is not a MIDI trace
+     */
+    public static MidiTrace load (final File file) throws IOException
+    {
+        try (final InputStream stream = Files.newInputStream (file.toPath ()); final DataInputStream in = new DataInputStream (stream))
+        {
+            if (in.readInt () != MAGIC)
+                throw new IOException ("Not a MIDI trace file.");
+            final int version = in.readInt ();
+            if (version != VERSION)
+                throw new IOException ("Unsupported MIDI trace version: " + version);
+
+            final MidiTrace trace = new MidiTrace ();
+            trace.numEvents = in.readInt ();
+            trace.length = in.readInt ();
+            if (trace.numEvents < 0 || trace.length < 0)
+                throw new IOException ("Corrupted MIDI trace file.");
+            trace.data = new byte [trace.length];
+            in.readFully (trace.data);
+            return trace;
+        }
+    }
+
+
+    private void addHeader (final int type)
+    {
+        final long now = System.nanoTime ();
+        if (this.startTime < 0)
+        {
+            this.startTime = now;
+            this.lastTime = now;
+        }
+
+        // Subtract the rounded times since the start to not sum up rounding errors
+        final long delta = (now - this.startTime) / 1000 - (this.lastTime - this.startTime) / 1000;
+        this.lastTime = now;
+
+        this.writeVarInt (delta);
+        this.ensureCapacity (1);
+        this.data[this.length++] = (byte) type;
+        this.numEvents++;
+    }
+
+
+    private void writeVarInt (final long value)
+    {
+        this.ensureCapacity (10);
+        long v = value;
+        while (v >= 0x80)
+        {
+            this.data[this.length++] = (byte) (v & 0x7F | 0x80);
+            v >>>= 7;
+        }
+        this.data[this.length++] = (byte) v;
+    }
+
+
+    private long readVarInt (final int [] position)
+    {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do
+        {
+            b = this.data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+
+    private void ensureCapacity (final int size)
+    {
+        if (this.length + size > this.data.length)
+            this.data = Arrays.copyOf (this.data, Math.max (this.data.length * 2, this.length + size));
+    }
+
+
+    /**
+     * Convert a hex formatted text into bytes. Whitespace is ignored.
+     *
+     * @param hexData The hex text
+     * @return The bytes
+     */
+    private static byte [] fromHex (final String hexData)
+    {
+        final byte [] result = new byte [hexData.length () / 2];
+        int count = 0;
+        int high = -1;
+        for (int i = 0; i < hexData.length (); i++)
+        {
+            final int digit = Character.digit (hexData.charAt (i), 16);
+            if (digit < 0)
+                continue;
+            if (high < 0)
+                high = digit;
+            else
+            {
+                result[count++] = (byte) (high << 4 | digit);
+                high = -1;
+            }
+        }
+        return Arrays.copyOf (result, count);
+    }
+
+
+    /** A recorded event. */
+    public static class Event
+    {
+        private final long    time;
+        private final int     type;
+        private final byte [] bytes;
+
+
+        /**
+         * Constructor.
+         *
+         * @param time The time since the start of the recording in nanoseconds
+         * @param type The type of the event, one of the TYPE constants
+         * @param bytes The bytes of the MIDI message
+         */
+        public Event (final long time, final int type, final byte [] bytes)
+        {
+            this.time = time;
+            this.type = type;
+            this.bytes = bytes;
+        }
+
+
+        /**
+         * Get the time since the start of the recording.
+         *
+         * @return The time in nanoseconds (with a resolution of microseconds)
+         */
+        public long getTime ()
+        {
+            return this.time;
+        }
+
+
+        /**
+         * Get the type of the event.
+         *
+         * @return One of the TYPE constants
+         */
+        public int getType ()
+        {
+            return this.type;
+        }
+
+
+        /**
+         * Is it a message received from the device?
+         *
+         * @return True if received
+         */
+        public boolean isInput ()
+        {
+            return this.type == TYPE_MIDI_IN || this.type == TYPE_SYSEX_IN;
+        }
+
+
+        /**
+         * Get the bytes of the MIDI message.
+         *
+         * @return The bytes
+         */
+        public byte [] getBytes ()
+        {
+            return this.bytes;
+        }
+
+
+        /**
+         * Format the bytes of the message as hex text without spaces.
+         *
+         * @return The text
+         */
+        public String toHex ()
+        {
+            final StringBuilder sb = new StringBuilder (this.bytes.length * 2);
+            for (final byte b: this.bytes)
+                sb.append (Character.forDigit (b >> 4 & 0x0F, 16)).append (Character.forDigit (b & 0x0F, 16));
+            return sb.toString ();
+        }
+    }
+}
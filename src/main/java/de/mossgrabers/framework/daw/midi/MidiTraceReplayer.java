@@ -0,0 +1,243 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.utils.LatencyHistogram;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * Feeds the received messages of a recorded MIDI trace back into the MIDI input of a surface. The
+ * surface is flushed synchronously after each message. The messages which the surface sends during
+ * the replay are captured instead of being sent to the device and compared with the recorded ones.
+ * Measures the time and the allocated memory for handling each received message. The messages are
+ * replayed as fast as possible and not with the recorded timing, to get the same result independent
+ * of the recording situation.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiTraceReplayer
+{
+    private static final int      NUM_SLOWEST_EVENTS = 5;
+
+    private final IMidiInput      input;
+    private final IMidiOutput     output;
+    private final Runnable        flush;
+    private final AllocationMeter allocationMeter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param input The input into which to feed the received messages
+     * @param output The output to which the surface sends
+     * @param flush Handles all queued messages, flushes the surface and waits until all
+     *            asynchronously sent messages have been sent
+     */
+    public MidiTraceReplayer (final IMidiInput input, final IMidiOutput output, final Runnable flush)
+    {
+        this.input = input;
+        this.output = output;
+        this.flush = flush;
+
+        this.allocationMeter = AllocationMeter.create ();
+    }
+
+
+    /**
+     * Replay the received messages of a trace. Must be called from the thread of the DAW.
+     *
+     * @param recorded The recorded trace
+     * @return A report about the timing, the allocations and the differences of the sent messages
+     */
+    public String replay (final MidiTrace recorded)
+    {
+        final List<MidiTrace.Event> events = recorded.getEvents ();
+        final List<MidiTrace.Event> expected = new ArrayList<> ();
+        final List<Measurement> measurements = new ArrayList<> ();
+        final LatencyHistogram latencies = new LatencyHistogram ();
+        long sumAllocated = 0;
+
+        final MidiTrace replayed = new MidiTrace ();
+        this.output.setCaptureTrace (replayed);
+        try
+        {
+            for (int i = 0; i < events.size (); i++)
+            {
+                final MidiTrace.Event event = events.get (i);
+                if (!event.isInput ())
+                {
+                    expected.add (event);
+                    continue;
+                }
+
+                final long allocatedBefore = this.getAllocatedBytes ();
+                final long start = System.nanoTime ();
+
+                if (event.getType () == MidiTrace.TYPE_MIDI_IN)
+                {
+                    final byte [] bytes = event.getBytes ();
+                    this.input.replayMidi (bytes[0] & 0xFF, bytes[1], bytes[2]);
+                }
+                else
+                    this.input.replaySysex (event.toHex ());
+                this.flush.run ();
+
+                final long duration = System.nanoTime () - start;
+                final long allocated = allocatedBefore < 0 ? -1 : this.getAllocatedBytes () - allocatedBefore;
+                latencies.record (duration);
+                if (allocated > 0)
+                    sumAllocated += allocated;
+                measurements.add (new Measurement (i, event, duration, allocated));
+            }
+        }
+        finally
+        {
+            this.output.setCaptureTrace (null);
+        }
+
+        final StringBuilder sb = new StringBuilder ();
+        final int count = measurements.size ();
+        sb.append (String.format (Locale.US, "Replayed %d received messages: mean=%.1f us, p50=%.1f us, p99=%.1f us, max=%.1f us", Integer.valueOf (count), Double.valueOf (latencies.getMean () / 1000.0), Double.valueOf (latencies.getValueAtPercentile (50) / 1000.0), Double.valueOf (latencies.getValueAtPercentile (99) / 1000.0), Double.valueOf (latencies.getMax () / 1000.0)));
+        if (this.allocationMeter == null)
+            sb.append (String.format ("%n  Allocations cannot be measured on this JVM."));
+        else
+            sb.append (String.format (Locale.US, "%n  Allocated %d bytes (%.0f per message)", Long.valueOf (sumAllocated), Double.valueOf (count == 0 ? 0 : sumAllocated / (double) count)));
+
+        measurements.sort ( (m1, m2) -> Long.compare (m2.duration, m1.duration));
+        for (int i = 0; i < Math.min (NUM_SLOWEST_EVENTS, count); i++)
+        {
+            final Measurement m = measurements.get (i);
+            sb.append (String.format (Locale.US, "%n  #%d %s: %.1f us, %d bytes", Integer.valueOf (m.index), m.event.toHex (), Double.valueOf (m.duration / 1000.0), Long.valueOf (m.allocated)));
+        }
+
+        compare (expected, replayed.getEvents (), sb);
+        return sb.toString ();
+    }
+
+
+    /**
+     * Compare the sent messages byte by byte.
+     *
+     * @param expected The messages sent during recording
+     * @param actual The messages sent during the replay
+     * @param sb Where to append the result
+     */
+    private static void compare (final List<MidiTrace.Event> expected, final List<MidiTrace.Event> actual, final StringBuilder sb)
+    {
+        final int size = Math.min (expected.size (), actual.size ());
+        int numEqual = 0;
+        int firstDifference = -1;
+        for (int i = 0; i < size; i++)
+        {
+            if (Arrays.equals (expected.get (i).getBytes (), actual.get (i).getBytes ()))
+                numEqual++;
+            else if (firstDifference < 0)
+                firstDifference = i;
+        }
+        if (firstDifference < 0 && expected.size () != actual.size ())
+            firstDifference = size;
+
+        sb.append (String.format ("%n  Sent messages: %d recorded, %d replayed, %d identical", Integer.valueOf (expected.size ()), Integer.valueOf (actual.size ()), Integer.valueOf (numEqual)));
+        if (firstDifference < 0)
+            return;
+        sb.append (String.format ("%n  First difference at sent message %d: expected %s, got %s", Integer.valueOf (firstDifference), firstDifference < expected.size () ? expected.get (firstDifference).toHex () : "nothing", firstDifference < actual.size () ? actual.get (firstDifference).toHex () : "nothing"));
+    }
+
+
+    private long getAllocatedBytes ()
+    {
+        return this.allocationMeter == null ? -1 : this.allocationMeter.getAllocatedBytes ();
+    }
+
+
+    /**
+     * Measures the memory allocated by the current thread. Uses the HotSpot specific extension of
+     * the thread management bean, which is not available on all JVMs.
+     */
+    private static class AllocationMeter
+    {
+        private final com.sun.management.ThreadMXBean bean;
+
+
+        /**
+         * Constructor.
+         *
+         * @param bean The HotSpot thread management bean
+         */
+        private AllocationMeter (final com.sun.management.ThreadMXBean bean)
+        {
+            this.bean = bean;
+        }
+
+
+        /**
+         * Create a meter if the JVM supports measuring the allocated memory.
+         *
+         * @return The meter or null if not supported
+         */
+        public static AllocationMeter create ()
+        {
+            try
+            {
+                final Object bean = ManagementFactory.getThreadMXBean ();
+                if (bean instanceof com.sun.management.ThreadMXBean)
+                {
+                    final com.sun.management.ThreadMXBean hotSpotBean = (com.sun.management.ThreadMXBean) bean;
+                    if (hotSpotBean.isThreadAllocatedMemorySupported () && hotSpotBean.isThreadAllocatedMemoryEnabled ())
+                        return new AllocationMeter (hotSpotBean);
+                }
+            }
+            catch (final LinkageError | UnsupportedOperationException | SecurityException ex)
+            {
+                // The management classes are not available, fall through
+            }
+            return null;
+        }
+
+
+        /**
+         * Get the number of bytes allocated by the current thread so far.
+         *
+         * @return The number of bytes
+         */
+        public long getAllocatedBytes ()
+        {
+            return this.bean.getThreadAllocatedBytes (Thread.currentThread ().getId ());
+        }
+    }
+
+
+    /** The measured values of a replayed message. */
+    private static class Measurement
+    {
+        private final int             index;
+        private final MidiTrace.Event event;
+        private final long            duration;
+        private final long            allocated;
+
+
+        /**
+         * Constructor.
+         *
+         * @param index The index of the event in the trace
+         * @param event The event
+         * @param duration The time for handling the event in nanoseconds
+         * @param allocated The number of allocated bytes, -1 if unknown
+         */
+        public Measurement (final int index, final MidiTrace.Event event, final long duration, final long allocated)
+        {
+            this.index = index;
+            this.event = event;
+            this.duration = duration;
+            this.allocated = allocated;
+        }
+    }
+}
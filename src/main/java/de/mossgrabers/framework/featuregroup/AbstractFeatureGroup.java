@@ -10,6 +10,10 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.observer.ObservedFeature;
+
+import java.util.EnumSet;
+import java.util.Set;
 
 
 /**
@@ -34,6 +38,9 @@ public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C exten
     protected final ColorManager   colorManager;
     protected final MVHelper<S, C> mvHelper;
 
+    /** All parts unless a feature group declares less. */
+    protected Set<ObservedFeature> observedFeatures = EnumSet.allOf (ObservedFeature.class);
+
 
     /**
      * Constructor.
@@ -69,6 +76,14 @@ public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C exten
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ObservedFeature> getObservedFeatures ()
+    {
+        return this.observedFeatures;
+    }
+
+
     /**
      * Get the color ID for a button, which is controlled by the feature group.
      *
@@ -241,6 +241,14 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void parametersAdjusted (final int firstIndex, final int count)
+    {
+        this.bindControls (firstIndex, count);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay ()
@@ -502,12 +510,25 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
      * Update the binding to the parameter bank controlled by this mode.
      */
     protected void bindControls ()
+    {
+        this.bindControls (0, this.controls.size ());
+    }
+
+
+    /**
+     * Bind a range of the controls to the parameters of the active parameter provider.
+     *
+     * @param firstIndex The index of the first control to bind
+     * @param count The number of controls to bind starting at the first index
+     */
+    protected void bindControls (final int firstIndex, final int count)
     {
         if (!this.isActive || this.defaultParameterProvider == null)
             return;
 
         final IParameterProvider parameterProvider = this.getParameterProvider ();
-        for (int i = 0; i < this.controls.size (); i++)
+        final int end = Math.min (this.controls.size (), firstIndex + count);
+        for (int i = Math.max (0, firstIndex); i < end; i++)
             this.surface.getContinuous (this.controls.get (i)).bind (parameterProvider.get (i));
     }
 
@@ -0,0 +1,81 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.featuregroup;
+
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.observer.ObservedFeature;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * Enables only the observers of the parts of the model which are required by the active feature
+ * groups (modes and views) of all registered managers. All parts are observed initially.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FeatureSubscriptionManager
+{
+    private final IModel                          model;
+    private final List<FeatureGroupManager<?, ?>> managers         = new ArrayList<> ();
+    private final Set<ObservedFeature>           observedFeatures = EnumSet.allOf (ObservedFeature.class);
+
+
+    /**
+     * Constructor.
+     *
+     * @param model The model
+     */
+    public FeatureSubscriptionManager (final IModel model)
+    {
+        this.model = model;
+    }
+
+
+    /**
+     * Register a feature group manager. The subscriptions are updated each time its active feature
+     * group changes.
+     *
+     * @param manager The manager
+     * @param <E> The type of the feature group IDs
+     */
+    public <E extends Enum<E>> void register (final FeatureGroupManager<E, ? extends IFeatureGroup> manager)
+    {
+        this.managers.add (manager);
+        manager.addChangeListener ( (previousID, activeID) -> this.update ());
+    }
+
+
+    /**
+     * Enable the observers of all parts which are required by at least one of the active feature
+     * groups and disable all others.
+     */
+    public void update ()
+    {
+        final Set<ObservedFeature> requiredFeatures = EnumSet.noneOf (ObservedFeature.class);
+        for (final FeatureGroupManager<?, ?> manager: this.managers)
+        {
+            final IFeatureGroup featureGroup = manager.getActive ();
+            if (featureGroup != null)
+                requiredFeatures.addAll (featureGroup.getObservedFeatures ());
+        }
+
+        for (final ObservedFeature feature: ObservedFeature.values ())
+        {
+            final boolean enable = requiredFeatures.contains (feature);
+            if (enable == this.observedFeatures.contains (feature))
+                continue;
+
+            if (enable)
+                this.observedFeatures.add (feature);
+            else
+                this.observedFeatures.remove (feature);
+            this.model.enableObservers (feature, enable);
+        }
+    }
+}
@@ -5,6 +5,9 @@
 package de.mossgrabers.framework.featuregroup;
 
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.observer.ObservedFeature;
+
+import java.util.Set;
 
 
 /**
@@ -42,4 +45,13 @@ public interface IFeatureGroup
      * @return A color index
      */
     int getButtonColor (ButtonID buttonID);
+
+
+    /**
+     * Get the parts of the model which the feature group reads. If demand driven observers are
+     * enabled, parts which are not required by any active feature group are not observed.
+     *
+     * @return The required parts
+     */
+    Set<ObservedFeature> getObservedFeatures ();
 }
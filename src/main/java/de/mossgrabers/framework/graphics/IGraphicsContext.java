@@ -221,4 +221,21 @@ public interface IGraphicsContext
      * @return The text height or -1 if the minimum height of 10 does not fit into the width
      */
     double calculateFontSize (String text, double maxHeight, double maxWidth, double minimumFontSize);
+
+
+    /**
+     * Restrict all further drawing to the given rectangle until the clip is reset.
+     *
+     * @param left The left bound of the clip rectangle
+     * @param top The top bound of the clip rectangle
+     * @param width The width of the clip rectangle
+     * @param height The height of the clip rectangle
+     */
+    void setClip (double left, double top, double width, double height);
+
+
+    /**
+     * Remove the clip rectangle set with {@link #setClip(double, double, double, double)}.
+     */
+    void resetClip ();
 }
@@ -0,0 +1,111 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.canvas.component;
+
+import java.util.Objects;
+
+
+/**
+ * Base class for components which are kept between the updates of a display and only get their
+ * values updated. The component tracks if any of its values has changed since it was drawn the
+ * last time.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class AbstractRetainedComponent implements IComponent
+{
+    private boolean isModified = true;
+
+
+    /**
+     * Has the component been modified since it was drawn the last time? A new component is always
+     * modified.
+     *
+     * @return True if modified
+     */
+    public boolean isModified ()
+    {
+        return this.isModified;
+    }
+
+
+    /**
+     * Resets the modification state. Call after the component was drawn.
+     */
+    public void clearModified ()
+    {
+        this.isModified = false;
+    }
+
+
+    /**
+     * Flag the component as modified.
+     */
+    protected void setModified ()
+    {
+        this.isModified = true;
+    }
+
+
+    /**
+     * Flags the component as modified if the new value differs from the old one.
+     *
+     * @param oldValue The current value
+     * @param newValue The new value
+     * @return The new value
+     */
+    protected boolean updateValue (final boolean oldValue, final boolean newValue)
+    {
+        if (oldValue != newValue)
+            this.isModified = true;
+        return newValue;
+    }
+
+
+    /**
+     * Flags the component as modified if the new value differs from the old one.
+     *
+     * @param oldValue The current value
+     * @param newValue The new value
+     * @return The new value
+     */
+    protected int updateValue (final int oldValue, final int newValue)
+    {
+        if (oldValue != newValue)
+            this.isModified = true;
+        return newValue;
+    }
+
+
+    /**
+     * Flags the component as modified if the new value differs from the old one.
+     *
+     * @param oldValue The current value
+     * @param newValue The new value
+     * @return The new value
+     */
+    protected double updateValue (final double oldValue, final double newValue)
+    {
+        if (Double.doubleToLongBits (oldValue) != Double.doubleToLongBits (newValue))
+            this.isModified = true;
+        return newValue;
+    }
+
+
+    /**
+     * Flags the component as modified if the new value differs from the old one.
+     *
+     * @param <T> The type of the value
+     * @param oldValue The current value
+     * @param newValue The new value
+     * @return The new value
+     */
+    protected <T> T updateValue (final T oldValue, final T newValue)
+    {
+        if (!Objects.equals (oldValue, newValue))
+            this.isModified = true;
+        return newValue;
+    }
+}
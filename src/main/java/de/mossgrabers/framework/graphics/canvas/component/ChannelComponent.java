@@ -8,6 +8,8 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.daw.resource.ResourceHandler;
 import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.DefaultBounds;
+import de.mossgrabers.framework.graphics.IBounds;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
@@ -20,7 +22,7 @@ import de.mossgrabers.framework.graphics.IImage;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class ChannelComponent extends ChannelSelectComponent
+public class ChannelComponent extends ChannelSelectComponent implements IVuMeterComponent
 {
     /** Edit volume. */
     public static final int   EDIT_TYPE_VOLUME     = 0;
@@ -31,22 +33,24 @@ public class ChannelComponent extends ChannelSelectComponent
     /** Edit all settings. */
     public static final int   EDIT_TYPE_ALL        = 3;
 
-    private final double      editType;
-    private final double      volumeValue;
-    private final double      modulatedVolumeValue;
-    private final String      volumeText;
-    private final double      panValue;
-    private final double      modulatedPanValue;
-    private final String      panText;
-    private final double      vuValueLeft;
-    private final double      vuValueRight;
-    private final boolean     isMute;
-    private final boolean     isSolo;
-    private final boolean     isArm;
-    private final double      crossfadeMode;
+    private double            editType;
+    private double            volumeValue;
+    private double            modulatedVolumeValue;
+    private String            volumeText;
+    private double            panValue;
+    private double            modulatedPanValue;
+    private String            panText;
+    private double            vuValueLeft;
+    private double            vuValueRight;
+    private boolean           isMute;
+    private boolean           isSolo;
+    private boolean           isArm;
+    private double            crossfadeMode;
 
-    private final boolean     isActive;
-    private final ChannelType type;
+    private boolean           isActive;
+    private ChannelType       type;
+
+    private boolean           isVuMeterModified    = true;
 
 
     /**
@@ -96,6 +100,58 @@ public class ChannelComponent extends ChannelSelectComponent
     }
 
 
+    /**
+     * Update all values. A change of the VU values is tracked separately from the other values.
+     *
+     * @param editType What to edit, 0 = Volume, 1 = Pan, 2 = Crossfade Mode
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param type The type of the track
+     * @param volumeValue The value of the volume
+     * @param modulatedVolumeValue The modulated value of the volume, -1 if not modulated
+     * @param volumeText The textual form of the volumes value
+     * @param panValue The value of the panorama
+     * @param modulatedPanValue The modulated value of the panorama, -1 if not modulated
+     * @param panText The textual form of the panorama
+     * @param vuValueLeft The value of the VU of the left channel
+     * @param vuValueRight The value of the VU of the right channel
+     * @param isMute True if muted
+     * @param isSolo True if soloed
+     * @param isArm True if recording is armed
+     * @param isActive True if channel is activated
+     * @param crossfadeMode The crossfader mode: 0 = A, 1 = AB, B = 2, -1 turns it off
+     */
+    public void update (final double editType, final String menuName, final boolean isMenuSelected, final String name, final ColorEx color, final boolean isSelected, final ChannelType type, final double volumeValue, final double modulatedVolumeValue, final String volumeText, final double panValue, final double modulatedPanValue, final String panText, final double vuValueLeft, final double vuValueRight, final boolean isMute, final boolean isSolo, final boolean isArm, final boolean isActive, final double crossfadeMode)
+    {
+        this.update (type, menuName, isMenuSelected, name, color, isSelected, isActive);
+
+        this.type = this.updateValue (this.type, type);
+        this.isActive = this.updateValue (this.isActive, isActive);
+
+        this.editType = this.updateValue (this.editType, editType);
+        this.volumeValue = this.updateValue (this.volumeValue, volumeValue);
+        this.modulatedVolumeValue = this.updateValue (this.modulatedVolumeValue, modulatedVolumeValue);
+        this.volumeText = this.updateValue (this.volumeText, volumeText);
+        this.panValue = this.updateValue (this.panValue, panValue);
+        this.modulatedPanValue = this.updateValue (this.modulatedPanValue, modulatedPanValue);
+        this.panText = this.updateValue (this.panText, panText);
+        this.isMute = this.updateValue (this.isMute, isMute);
+        this.isSolo = this.updateValue (this.isSolo, isSolo);
+        this.isArm = this.updateValue (this.isArm, isArm);
+        this.crossfadeMode = this.updateValue (this.crossfadeMode, crossfadeMode);
+
+        if (Double.doubleToLongBits (this.vuValueLeft) != Double.doubleToLongBits (vuValueLeft) || Double.doubleToLongBits (this.vuValueRight) != Double.doubleToLongBits (vuValueRight))
+        {
+            this.vuValueLeft = vuValueLeft;
+            this.vuValueRight = vuValueRight;
+            this.isVuMeterModified = true;
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
@@ -225,15 +281,7 @@ public class ChannelComponent extends ChannelSelectComponent
         }
 
         // VU
-        final double vuHeightLeft = this.vuValueLeft >= maxValue - 1 ? faderInnerHeight : faderInnerHeight * this.vuValueLeft / maxValue;
-        final double vuHeightRight = this.vuValueRight >= maxValue - 1 ? faderInnerHeight : faderInnerHeight * this.vuValueRight / maxValue;
-        final double vuOffsetLeft = faderInnerHeight - vuHeightLeft;
-        final double vuOffsetRight = faderInnerHeight - vuHeightRight;
-        final double vuWidth = faderOffset - separatorSize;
-        gc.fillRectangle (vuX, faderTop + separatorSize, vuWidth + 1, faderInnerHeight, backgroundDarker);
-        final ColorEx colorVu = this.modifyIfOff (configuration.getColorVu ());
-        gc.fillRectangle (vuX, faderTop + separatorSize + vuOffsetLeft, vuWidth / 2, vuHeightLeft, colorVu);
-        gc.fillRectangle (vuX + vuWidth / 2, faderTop + separatorSize + vuOffsetRight, vuWidth / 2, vuHeightRight, colorVu);
+        this.drawVuMeter (gc, configuration, maxValue, new DefaultBounds (vuX, faderTop + separatorSize, faderOffset - separatorSize, faderInnerHeight));
 
         double buttonTop = faderTop;
 
@@ -270,6 +318,97 @@ public class ChannelComponent extends ChannelSelectComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void drawVuMeter (final IGraphicsInfo info)
+    {
+        final IGraphicsDimensions dimensions = info.getDimensions ();
+        final double left = info.getBounds ().getLeft ();
+        final double width = info.getBounds ().getWidth ();
+        final double height = info.getBounds ().getHeight ();
+
+        final double separatorSize = dimensions.getSeparatorSize ();
+        final double unit = dimensions.getUnit ();
+        final double halfUnit = dimensions.getHalfUnit ();
+
+        // Needs to be identical to the layout calculation in draw
+        final int trackRowHeight = (int) (1.6 * unit);
+        final double trackRowTop = height - trackRowHeight - unit - separatorSize;
+        final double controlWidth = width / 2 - halfUnit - halfUnit / 2;
+        final double controlStart = left + width / 2 + halfUnit - halfUnit / 2;
+        final double panTop = dimensions.getControlsTop () + 1.0;
+        final double panHeight = unit - separatorSize;
+        final double faderOffset = controlWidth / 4;
+        final double faderTop = panTop + panHeight + separatorSize + 1;
+        final double faderHeight = trackRowTop - faderTop - dimensions.getInset () + 1;
+        final double faderInnerHeight = faderHeight - 2 * separatorSize;
+
+        final double vuX = controlStart + separatorSize;
+        final double vuTop = faderTop + separatorSize;
+        final double vuWidth = faderOffset - separatorSize;
+
+        // Only update the fully covered pixels, the anti-aliased border pixels are kept from the
+        // complete drawing of the component
+        final IGraphicsContext gc = info.getContext ();
+        final double clipLeft = Math.ceil (vuX);
+        final double clipTop = Math.ceil (vuTop);
+        gc.setClip (clipLeft, clipTop, Math.floor (vuX + vuWidth + 1) - clipLeft, Math.floor (vuTop + faderInnerHeight) - clipTop);
+        this.drawVuMeter (gc, info.getConfiguration (), dimensions.getParameterUpperBound (), new DefaultBounds (vuX, vuTop, vuWidth, faderInnerHeight));
+        gc.resetClip ();
+    }
+
+
+    /**
+     * Draw the VU meters of the left and right channel.
+     *
+     * @param gc The graphics context
+     * @param configuration The layout settings
+     * @param maxValue The maximum VU value
+     * @param bounds The area of the VU meters
+     */
+    private void drawVuMeter (final IGraphicsContext gc, final IGraphicsConfiguration configuration, final double maxValue, final IBounds bounds)
+    {
+        final double vuX = bounds.getLeft ();
+        final double vuTop = bounds.getTop ();
+        final double vuWidth = bounds.getWidth ();
+        final double vuHeight = bounds.getHeight ();
+
+        final double vuHeightLeft = this.vuValueLeft >= maxValue - 1 ? vuHeight : vuHeight * this.vuValueLeft / maxValue;
+        final double vuHeightRight = this.vuValueRight >= maxValue - 1 ? vuHeight : vuHeight * this.vuValueRight / maxValue;
+        gc.fillRectangle (vuX, vuTop, vuWidth + 1, vuHeight, this.modifyIfOff (configuration.getColorBackgroundDarker ()));
+        final ColorEx colorVu = this.modifyIfOff (configuration.getColorVu ());
+        gc.fillRectangle (vuX, vuTop + vuHeight - vuHeightLeft, vuWidth / 2, vuHeightLeft, colorVu);
+        gc.fillRectangle (vuX + vuWidth / 2, vuTop + vuHeight - vuHeightRight, vuWidth / 2, vuHeightRight, colorVu);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canDrawVuMeterOnly ()
+    {
+        // The VU meters are not drawn if the channel is off and might be covered by the value texts
+        final String name = this.footer.getText ();
+        return name != null && !name.isEmpty () && this.panText.isEmpty () && this.volumeText.isEmpty ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isVuMeterModified ()
+    {
+        return this.isVuMeterModified;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearModified ()
+    {
+        super.clearModified ();
+        this.isVuMeterModified = false;
+    }
+
+
     /**
      * Draws a button a gradient background.
      *
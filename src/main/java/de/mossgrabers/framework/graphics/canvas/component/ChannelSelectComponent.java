@@ -6,6 +6,7 @@ package de.mossgrabers.framework.graphics.canvas.component;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
 
 import java.util.EnumMap;
 
@@ -48,6 +49,23 @@ public class ChannelSelectComponent extends MenuComponent
     }
 
 
+    /**
+     * Update the values.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param type The type of the track
+     * @param isActive True if channel is activated
+     */
+    public void update (final ChannelType type, final String menuName, final boolean isMenuSelected, final String name, final ColorEx color, final boolean isSelected, final boolean isActive)
+    {
+        this.update (menuName, isMenuSelected, name, getIcon (type), color, isSelected, isActive, LabelLayout.SEPARATE_COLOR);
+    }
+
+
     /**
      * Get the icon for the channel type.
      *
@@ -0,0 +1,42 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.canvas.component;
+
+import de.mossgrabers.framework.graphics.IGraphicsInfo;
+
+
+/**
+ * A component which contains VU meters. Since the VU values change constantly during playback,
+ * the VU meters can be drawn separately on top of an already drawn component. A change of the VU
+ * values does not flag the component itself as modified.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IVuMeterComponent extends IComponent
+{
+    /**
+     * Have the VU values been modified since the component was drawn the last time?
+     *
+     * @return True if modified
+     */
+    boolean isVuMeterModified ();
+
+
+    /**
+     * Test if the VU meters can be drawn on top of the drawn component. This is not possible if
+     * the VU meters are hidden or covered by other elements of the component.
+     *
+     * @return True if the VU meters can be drawn separately
+     */
+    boolean canDrawVuMeterOnly ();
+
+
+    /**
+     * Draw only the VU meters (including their background).
+     *
+     * @param info All necessary information to draw the component
+     */
+    void drawVuMeter (final IGraphicsInfo info);
+}
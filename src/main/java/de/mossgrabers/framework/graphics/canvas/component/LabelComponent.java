@@ -14,6 +14,8 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.IImage;
 
+import java.util.Objects;
+
 
 /**
  * A component which draws a label. A label is a text and an optional icon.
@@ -34,10 +36,10 @@ public class LabelComponent implements IComponent
     }
 
 
-    private final String      text;
-    private final String      icon;
-    private final boolean     isSelected;
-    private final boolean     isActive;
+    private String            text;
+    private String            icon;
+    private boolean           isSelected;
+    private boolean           isActive;
     private final LabelLayout layout;
 
     private ColorEx           backgroundColor;
@@ -163,6 +165,41 @@ public class LabelComponent implements IComponent
     }
 
 
+    /**
+     * Update the values of the label.
+     *
+     * @param text The text of the label
+     * @param icon The optional icon
+     * @param color The background color
+     * @param isSelected True if the component should be drawn in selected state
+     * @param isActive True if the component should be displayed as active
+     * @return True if any of the values has changed
+     */
+    public boolean update (final String text, final String icon, final ColorEx color, final boolean isSelected, final boolean isActive)
+    {
+        if (Objects.equals (this.text, text) && Objects.equals (this.icon, icon) && Objects.equals (this.backgroundColor, color) && this.isSelected == isSelected && this.isActive == isActive)
+            return false;
+
+        this.text = text;
+        this.icon = icon;
+        this.backgroundColor = color;
+        this.isSelected = isSelected;
+        this.isActive = isActive;
+        return true;
+    }
+
+
+    /**
+     * Get the layout of the label.
+     *
+     * @return The layout
+     */
+    public LabelLayout getLayout ()
+    {
+        return this.layout;
+    }
+
+
     /**
      * Get the icon
      *
@@ -14,10 +14,10 @@ import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLa
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class MenuComponent implements IComponent
+public class MenuComponent extends AbstractRetainedComponent
 {
     protected final LabelComponent header;
-    protected final LabelComponent footer;
+    protected LabelComponent       footer;
 
 
     /**
@@ -56,6 +56,33 @@ public class MenuComponent implements IComponent
     }
 
 
+    /**
+     * Update the values of the menu and the footer.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param icon The icon to use
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param isActive True if channel is activated
+     * @param lowerLayout THe layout for the lower label
+     */
+    public void update (final String menuName, final boolean isMenuSelected, final String name, final String icon, final ColorEx color, final boolean isSelected, final boolean isActive, final LabelLayout lowerLayout)
+    {
+        if (this.header.update (menuName, null, null, isMenuSelected, true))
+            this.setModified ();
+
+        if (this.footer.getLayout () != lowerLayout)
+        {
+            this.footer = new LabelComponent (name, icon, color, isSelected, isActive, lowerLayout);
+            this.setModified ();
+        }
+        else if (this.footer.update (name, icon, color, isSelected, isActive))
+            this.setModified ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
@@ -20,13 +20,13 @@ import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLa
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class OptionsComponent implements IComponent
+public class OptionsComponent extends AbstractRetainedComponent
 {
-    private final LabelComponent header;
+    private LabelComponent       header;
     private final LabelComponent footer;
 
-    private final String         headerBottom;
-    private final String         headerTop;
+    private String               headerBottom;
+    private String               headerTop;
     private boolean              isBottomHeaderSelected;
 
 
@@ -56,6 +56,40 @@ public class OptionsComponent implements IComponent
     }
 
 
+    /**
+     * Update all values.
+     *
+     * @param headerTop A header for the top menu options (may span multiple grids), may be null
+     * @param menuTopName A name for the to menu, may be null
+     * @param isMenuTopSelected Is the top menu selected?
+     * @param menuTopColor The color to use for the background top menu, may be null
+     * @param headerBottom A header for the bottom menu options (may span multiple grids), may be
+     *            null
+     * @param menuBottomName A name for the bottom menu, may be null
+     * @param isMenuBottomSelected Is the bottom menu selected?
+     * @param menuBottomColor The color to use for the background bottom menu, may be null
+     * @param useSmallTopMenu Draw the small version of the top menu if true
+     * @param isBottomHeaderSelected True to draw the lower header selected
+     */
+    public void update (final String headerTop, final String menuTopName, final boolean isMenuTopSelected, final ColorEx menuTopColor, final String headerBottom, final String menuBottomName, final boolean isMenuBottomSelected, final ColorEx menuBottomColor, final boolean useSmallTopMenu, final boolean isBottomHeaderSelected)
+    {
+        final LabelLayout headerLayout = useSmallTopMenu ? LabelLayout.SMALL_HEADER : LabelLayout.PLAIN;
+        if (this.header.getLayout () != headerLayout)
+        {
+            this.header = new LabelComponent (menuTopName, null, menuTopColor, isMenuTopSelected, true, headerLayout);
+            this.setModified ();
+        }
+        else if (this.header.update (menuTopName, null, menuTopColor, isMenuTopSelected, true))
+            this.setModified ();
+        if (this.footer.update (menuBottomName, null, menuBottomColor, isMenuBottomSelected, true))
+            this.setModified ();
+
+        this.headerTop = this.updateValue (this.headerTop, headerTop);
+        this.headerBottom = this.updateValue (this.headerBottom, headerBottom);
+        this.isBottomHeaderSelected = this.updateValue (this.isBottomHeaderSelected, isBottomHeaderSelected);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
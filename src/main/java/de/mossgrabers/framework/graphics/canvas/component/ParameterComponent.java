@@ -24,11 +24,11 @@ import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLa
  */
 public class ParameterComponent extends MenuComponent
 {
-    private final String  paramName;
-    private final String  paramValueText;
-    private final int     paramValue;
-    private int           modulatedParamValue;
-    private final boolean isTouched;
+    private String  paramName;
+    private String  paramValueText;
+    private int     paramValue;
+    private int     modulatedParamValue;
+    private boolean isTouched;
 
 
     /**
@@ -127,6 +127,34 @@ public class ParameterComponent extends MenuComponent
     }
 
 
+    /**
+     * Update all values.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param icon The icon of the footer, may be null
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param paramName The name of the parameter
+     * @param paramValue The value of the fader
+     * @param modulatedParamValue The modulated value of the fader, -1 if not modulated
+     * @param paramValueText The textual form of the faders value
+     * @param isTouched True if touched
+     * @param lowerLayout THe layout for the lower label
+     */
+    public void update (final String menuName, final boolean isMenuSelected, final String name, final String icon, final ColorEx color, final boolean isSelected, final String paramName, final int paramValue, final int modulatedParamValue, final String paramValueText, final boolean isTouched, final LabelLayout lowerLayout)
+    {
+        this.update (menuName, isMenuSelected, name, icon, color, isSelected, true, lowerLayout);
+
+        this.paramName = this.updateValue (this.paramName, paramName);
+        this.paramValue = this.updateValue (this.paramValue, paramValue);
+        this.modulatedParamValue = this.updateValue (this.modulatedParamValue, modulatedParamValue);
+        this.paramValueText = this.updateValue (this.paramValueText, paramValueText);
+        this.isTouched = this.updateValue (this.isTouched, isTouched);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
@@ -23,9 +23,9 @@ import java.util.Arrays;
  */
 public class SendsComponent extends ChannelSelectComponent
 {
-    private final SendData [] sendData;
-    private final boolean     isExMode;
-    private final boolean     isSendActive;
+    private SendData []       sendData;
+    private boolean           isExMode;
+    private boolean           isSendActive;
 
 
     /**
@@ -52,6 +52,32 @@ public class SendsComponent extends ChannelSelectComponent
     }
 
 
+    /**
+     * Update all values.
+     *
+     * @param sendData The send data
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     * @param type The type of the track
+     * @param isExMode True if the sends grid element is an extension for a track grid element
+     * @param isSendActive True if the upper send part is activated
+     * @param isChannelLabelActive True if channel is activated
+     */
+    public void update (final SendData [] sendData, final String menuName, final boolean isMenuSelected, final String name, final ColorEx color, final boolean isSelected, final ChannelType type, final boolean isExMode, final boolean isSendActive, final boolean isChannelLabelActive)
+    {
+        this.update (type, menuName, isMenuSelected, name, color, isSelected, isChannelLabelActive);
+
+        if (!Arrays.equals (this.sendData, sendData))
+            this.setModified ();
+        this.sendData = sendData;
+        this.isExMode = this.updateValue (this.isExMode, isExMode);
+        this.isSendActive = this.updateValue (this.isSendActive, isSendActive);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
@@ -10,11 +10,19 @@ package de.mossgrabers.framework.observer;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-@FunctionalInterface
 public interface IParametersAdjustObserver
 {
     /**
-     * The callback function.
+     * The callback function, all parameters might have changed.
      */
     void parametersAdjusted ();
+
+
+    /**
+     * The callback function for a change which affects only a range of the parameters.
+     *
+     * @param firstIndex The index of the first changed parameter
+     * @param count The number of changed parameters starting at the first index
+     */
+    void parametersAdjusted (int firstIndex, int count);
 }
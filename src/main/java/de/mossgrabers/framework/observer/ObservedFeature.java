@@ -0,0 +1,23 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+/**
+ * Parts of the model which cause a lot of observer traffic and can therefore be switched off if
+ * no active mode or view needs them.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum ObservedFeature
+{
+    /** The clip slots of the tracks in the track banks. */
+    SLOTS,
+    /** The parameter pages of the cursor device. */
+    DEVICE_PAGES,
+    /** The drum pads of the drum devices. */
+    DRUM_PADS,
+    /** The note clips which are used for step sequencing. */
+    CLIP_STEPS
+}
@@ -0,0 +1,22 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+/**
+ * Values of the model which are observed by default but are not needed by all controllers. A
+ * controller which does not display them can exclude them in its model setup, which saves the
+ * update traffic from the DAW.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum ObservedValue
+{
+    /** The modulated values of parameters. */
+    MODULATED_VALUES,
+    /** The colors of channels, clip slots and scenes. */
+    COLORS,
+    /** The VU meters of channels. */
+    VU_METERS
+}
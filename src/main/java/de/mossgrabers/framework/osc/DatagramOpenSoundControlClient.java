@@ -0,0 +1,118 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * Sends OSC messages via UDP without depending on the DAW. A message or bundle is encoded only
+ * once and then sent to all destinations. The encoding buffer is re-used.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DatagramOpenSoundControlClient implements IOpenSoundControlClient
+{
+    /** The maximum payload of an UDP packet. */
+    public static final int               MAX_PACKET_SIZE = 65507;
+
+    private final DatagramChannel         channel;
+    private final ByteBuffer              buffer          = ByteBuffer.allocateDirect (MAX_PACKET_SIZE);
+    private final List<InetSocketAddress> destinations    = new CopyOnWriteArrayList<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @throws IOException Could not open the socket
+     */
+    public DatagramOpenSoundControlClient () throws IOException
+    {
+        this.channel = DatagramChannel.open ();
+    }
+
+
+    /**
+     * Add a destination to which all messages are sent.
+     *
+     * @param host The host name or IP address
+     * @param port The port
+     */
+    public void addDestination (final String host, final int port)
+    {
+        this.destinations.add (new InetSocketAddress (host, port));
+    }
+
+
+    /**
+     * Remove all destinations.
+     */
+    public void clearDestinations ()
+    {
+        this.destinations.clear ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void sendMessage (final IOpenSoundControlMessage message) throws IOException
+    {
+        this.buffer.clear ();
+        try
+        {
+            OpenSoundControlCodec.encodeMessage (this.buffer, message);
+        }
+        catch (final BufferOverflowException ex)
+        {
+            throw new IOException ("OSC message is too large for an UDP packet: " + message.getAddress (), ex);
+        }
+        this.send ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        this.buffer.clear ();
+        try
+        {
+            OpenSoundControlCodec.encodeBundle (this.buffer, messages);
+        }
+        catch (final BufferOverflowException ex)
+        {
+            throw new IOException ("OSC bundle is too large for an UDP packet.", ex);
+        }
+        this.send ();
+    }
+
+
+    /**
+     * Close the socket.
+     *
+     * @throws IOException Could not close the socket
+     */
+    public void close () throws IOException
+    {
+        this.channel.close ();
+    }
+
+
+    private void send () throws IOException
+    {
+        this.buffer.flip ();
+        for (final InetSocketAddress destination: this.destinations)
+        {
+            this.buffer.rewind ();
+            this.channel.send (this.buffer, destination);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+
+
+/**
+ * Receives OSC messages via UDP without depending on the DAW. The packets are received on a
+ * separate thread and the decoded messages are handed to the callback on the thread of the DAW.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DatagramOpenSoundControlServer implements IOpenSoundControlServer
+{
+    private final IHost                     host;
+    private final IOpenSoundControlCallback callback;
+    private final ByteBuffer                buffer = ByteBuffer.allocateDirect (DatagramOpenSoundControlClient.MAX_PACKET_SIZE);
+    private DatagramChannel                 channel;
+    private Thread                          receiver;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param callback The callback to hand the received messages to
+     */
+    public DatagramOpenSoundControlServer (final IHost host, final IOpenSoundControlCallback callback)
+    {
+        this.host = host;
+        this.callback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void start (final int port) throws IOException
+    {
+        this.close ();
+
+        final DatagramChannel newChannel = DatagramChannel.open ();
+        try
+        {
+            newChannel.bind (new InetSocketAddress (port));
+        }
+        catch (final IOException ex)
+        {
+            newChannel.close ();
+            throw ex;
+        }
+
+        this.channel = newChannel;
+        this.receiver = new Thread ( () -> this.receive (newChannel), "OSC Server " + port);
+        this.receiver.setDaemon (true);
+        this.receiver.start ();
+    }
+
+
+    /**
+     * Stops the server.
+     */
+    public synchronized void close ()
+    {
+        if (this.channel == null)
+            return;
+
+        try
+        {
+            // Closing the channel ends the blocking receive
+            this.channel.close ();
+            this.receiver.join (1000);
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not close OSC server.", ex);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+        this.channel = null;
+        this.receiver = null;
+    }
+
+
+    private void receive (final DatagramChannel receiveChannel)
+    {
+        while (receiveChannel.isOpen ())
+        {
+            try
+            {
+                this.buffer.clear ();
+                final SocketAddress source = receiveChannel.receive (this.buffer);
+                if (source == null)
+                    continue;
+                this.buffer.flip ();
+                OpenSoundControlCodec.decode (this.buffer, message -> this.host.scheduleTask ( () -> this.callback.handle (message), 0));
+            }
+            catch (final ClosedChannelException ex)
+            {
+                return;
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not receive OSC message.", ex);
+            }
+            catch (final IllegalArgumentException ex)
+            {
+                this.host.error ("Received an invalid OSC packet.", ex);
+            }
+            catch (final RuntimeException ex)
+            {
+                // Never stop receiving because of a single packet
+                this.host.error ("Could not handle OSC packet.", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,383 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Encodes and decodes OSC 1.0 messages and bundles. Additionally supports the OSC 1.1 types for
+ * true, false, nil and impulse as well as SLIP framing (used for OSC over stream connections).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlCodec
+{
+    private static final byte [] BUNDLE_ID          = "#bundle\0".getBytes (StandardCharsets.US_ASCII);
+    /** The time tag for 'immediately'. */
+    private static final long    TIME_TAG_IMMEDIATE = 1;
+
+    /** The size of '#bundle' and the time tag. */
+    public static final int      BUNDLE_HEADER_SIZE = 16;
+    /** The size of the length of a bundle element. */
+    public static final int      ELEMENT_SIZE       = 4;
+
+    private static final byte    SLIP_END           = (byte) 0xC0;
+    private static final byte    SLIP_ESC           = (byte) 0xDB;
+    private static final byte    SLIP_ESC_END       = (byte) 0xDC;
+    private static final byte    SLIP_ESC_ESC       = (byte) 0xDD;
+
+
+    /**
+     * Private due to utility class.
+     */
+    private OpenSoundControlCodec ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Encode a message into the buffer at its current position.
+     *
+     * @param buffer The buffer to write to
+     * @param message The message
+     * @throws BufferOverflowException The buffer is too small
+     */
+    public static void encodeMessage (final ByteBuffer buffer, final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+
+        writeString (buffer, message.getAddress ());
+
+        buffer.put ((byte) ',');
+        for (final Object value: values)
+            buffer.put (getTypeTag (value));
+        buffer.put ((byte) 0);
+        pad (buffer);
+
+        for (final Object value: values)
+        {
+            if (value instanceof Integer)
+                buffer.putInt (((Integer) value).intValue ());
+            else if (value instanceof Float)
+                buffer.putFloat (((Float) value).floatValue ());
+            else if (value instanceof Double)
+                buffer.putDouble (((Double) value).doubleValue ());
+            else if (value instanceof Long)
+                buffer.putLong (((Long) value).longValue ());
+            else if (value instanceof byte [])
+            {
+                final byte [] data = (byte []) value;
+                buffer.putInt (data.length);
+                buffer.put (data);
+                pad (buffer);
+            }
+            else if (value != null && !(value instanceof Boolean))
+                writeString (buffer, value.toString ());
+        }
+    }
+
+
+    /**
+     * Encode the messages as a bundle (to be executed immediately) into the buffer at its current
+     * position.
+     *
+     * @param buffer The buffer to write to
+     * @param messages The messages
+     * @throws BufferOverflowException The buffer is too small
+     */
+    public static void encodeBundle (final ByteBuffer buffer, final List<IOpenSoundControlMessage> messages)
+    {
+        buffer.put (BUNDLE_ID);
+        buffer.putLong (TIME_TAG_IMMEDIATE);
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            // Reserve the size and fill it in afterwards
+            final int sizePosition = buffer.position ();
+            buffer.putInt (0);
+            encodeMessage (buffer, message);
+            buffer.putInt (sizePosition, buffer.position () - sizePosition - ELEMENT_SIZE);
+        }
+    }
+
+
+    /**
+     * Decode a packet (message or bundle) from the buffer (from position to limit). The messages
+     * of bundles are handed to the callback in order, the time tags are ignored.
+     *
+     * @param buffer The buffer to read from
+     * @param callback The callback to hand the decoded messages to
+     * @throws IllegalArgumentException The data is not a valid OSC packet
+     */
+    public static void decode (final ByteBuffer buffer, final IOpenSoundControlCallback callback)
+    {
+        try
+        {
+            decodePacket (buffer, callback);
+        }
+        catch (final BufferUnderflowException | IndexOutOfBoundsException ex)
+        {
+            throw new IllegalArgumentException ("Truncated OSC packet.", ex);
+        }
+    }
+
+
+    /**
+     * Calculates the number of bytes of an encoded OSC message.
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    public static int getEncodedSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+
+        // Address and type tags (including the comma)
+        int size = getPaddedStringSize (message.getAddress ()) + getPaddedSize (values.length + 2);
+        for (final Object value: values)
+        {
+            if (value instanceof Integer || value instanceof Float)
+                size += 4;
+            else if (value instanceof Double || value instanceof Long)
+                size += 8;
+            else if (value instanceof byte [])
+                size += 4 + getPaddedSize (((byte []) value).length);
+            else if (value != null && !(value instanceof Boolean))
+                size += getPaddedStringSize (value.toString ());
+        }
+        return size;
+    }
+
+
+    /**
+     * Add SLIP (RFC 1055) framing to a packet. The packet is enclosed in END bytes, END and ESC
+     * bytes inside the packet are escaped.
+     *
+     * @param source The packet (from position to limit)
+     * @param destination The buffer to write the framed packet to
+     * @throws BufferOverflowException The destination buffer is too small
+     */
+    public static void encodeSlip (final ByteBuffer source, final ByteBuffer destination)
+    {
+        destination.put (SLIP_END);
+        while (source.hasRemaining ())
+        {
+            final byte b = source.get ();
+            if (b == SLIP_END)
+                destination.put (SLIP_ESC).put (SLIP_ESC_END);
+            else if (b == SLIP_ESC)
+                destination.put (SLIP_ESC).put (SLIP_ESC_ESC);
+            else
+                destination.put (b);
+        }
+        destination.put (SLIP_END);
+    }
+
+
+    private static void decodePacket (final ByteBuffer buffer, final IOpenSoundControlCallback callback)
+    {
+        if (buffer.remaining () >= BUNDLE_HEADER_SIZE && buffer.get (buffer.position ()) == '#')
+        {
+            final String id = readString (buffer);
+            if (!"#bundle".equals (id))
+                throw new IllegalArgumentException ("Unknown OSC packet: " + id);
+            // Time tag
+            buffer.getLong ();
+            while (buffer.hasRemaining ())
+            {
+                final int size = buffer.getInt ();
+                if (size < 0 || size > buffer.remaining ())
+                    throw new IllegalArgumentException ("Wrong size of OSC bundle element: " + size);
+                final ByteBuffer element = buffer.slice ();
+                element.limit (size);
+                decodePacket (element, callback);
+                buffer.position (buffer.position () + size);
+            }
+            return;
+        }
+
+        callback.handle (decodeMessage (buffer));
+    }
+
+
+    private static IOpenSoundControlMessage decodeMessage (final ByteBuffer buffer)
+    {
+        final String address = readString (buffer);
+        if (!buffer.hasRemaining ())
+            return new OpenSoundControlMessage (address, new ArrayList<> ());
+
+        final String typeTags = readString (buffer);
+        if (typeTags.isEmpty () || typeTags.charAt (0) != ',')
+            throw new IllegalArgumentException ("Missing type tags in OSC message: " + address);
+
+        final List<Object> values = new ArrayList<> (typeTags.length () - 1);
+        for (int i = 1; i < typeTags.length (); i++)
+        {
+            final char type = typeTags.charAt (i);
+            switch (type)
+            {
+                case 'i':
+                case 'r':
+                    values.add (Integer.valueOf (buffer.getInt ()));
+                    break;
+                case 'f':
+                    values.add (Float.valueOf (buffer.getFloat ()));
+                    break;
+                case 'h':
+                case 't':
+                    values.add (Long.valueOf (buffer.getLong ()));
+                    break;
+                case 'd':
+                    values.add (Double.valueOf (buffer.getDouble ()));
+                    break;
+                case 's':
+                case 'S':
+                    values.add (readString (buffer));
+                    break;
+                case 'c':
+                    values.add (Character.valueOf ((char) buffer.getInt ()));
+                    break;
+                case 'b':
+                    final int size = buffer.getInt ();
+                    if (size < 0 || size > buffer.remaining ())
+                        throw new IllegalArgumentException ("Wrong size of OSC blob: " + size);
+                    final byte [] data = new byte [size];
+                    buffer.get (data);
+                    skipPadding (buffer);
+                    values.add (data);
+                    break;
+                case 'm':
+                    final byte [] midi = new byte [4];
+                    buffer.get (midi);
+                    values.add (midi);
+                    break;
+                case 'T':
+                    values.add (Boolean.TRUE);
+                    break;
+                case 'F':
+                    values.add (Boolean.FALSE);
+                    break;
+                case 'N':
+                case 'I':
+                    values.add (null);
+                    break;
+                default:
+                    throw new IllegalArgumentException ("Unsupported OSC type tag '" + type + "' in message: " + address);
+            }
+        }
+        return new OpenSoundControlMessage (address, values);
+    }
+
+
+    private static byte getTypeTag (final Object value)
+    {
+        if (value == null)
+            return 'N';
+        if (value instanceof Integer)
+            return 'i';
+        if (value instanceof Float)
+            return 'f';
+        if (value instanceof Double)
+            return 'd';
+        if (value instanceof Long)
+            return 'h';
+        if (value instanceof Boolean)
+            return ((Boolean) value).booleanValue () ? (byte) 'T' : (byte) 'F';
+        if (value instanceof byte [])
+            return 'b';
+        return 's';
+    }
+
+
+    /**
+     * Write a zero terminated and padded string encoded as UTF-8.
+     *
+     * @param buffer The buffer to write to
+     * @param text The string
+     */
+    private static void writeString (final ByteBuffer buffer, final String text)
+    {
+        buffer.put (text.getBytes (StandardCharsets.UTF_8));
+        buffer.put ((byte) 0);
+        pad (buffer);
+    }
+
+
+    private static String readString (final ByteBuffer buffer)
+    {
+        final int start = buffer.position ();
+        int end = start;
+        while (buffer.get (end) != 0)
+            end++;
+
+        final byte [] data = new byte [end - start];
+        buffer.get (data);
+        buffer.position (start + getPaddedSize (end - start + 1));
+        return new String (data, StandardCharsets.UTF_8);
+    }
+
+
+    private static void pad (final ByteBuffer buffer)
+    {
+        while ((buffer.position () & 3) != 0)
+            buffer.put ((byte) 0);
+    }
+
+
+    private static void skipPadding (final ByteBuffer buffer)
+    {
+        buffer.position (getPaddedSize (buffer.position ()));
+    }
+
+
+    private static int getPaddedStringSize (final String text)
+    {
+        return getPaddedSize (getUtf8Length (text) + 1);
+    }
+
+
+    /**
+     * Get the number of bytes of a string encoded as UTF-8 without encoding it. Unpaired
+     * surrogates count as one byte since the encoder replaces them with '?'.
+     *
+     * @param text The string
+     * @return The number of bytes
+     */
+    private static int getUtf8Length (final String text)
+    {
+        final int length = text.length ();
+        int size = 0;
+        for (int i = 0; i < length; i++)
+        {
+            final char c = text.charAt (i);
+            if (c < 0x80)
+                size += 1;
+            else if (c < 0x800)
+                size += 2;
+            else if (Character.isHighSurrogate (c) && i + 1 < length && Character.isLowSurrogate (text.charAt (i + 1)))
+            {
+                size += 4;
+                i++;
+            }
+            else if (Character.isSurrogate (c))
+                size += 1;
+            else
+                size += 3;
+        }
+        return size;
+    }
+
+
+    private static int getPaddedSize (final int size)
+    {
+        return (size + 3) & ~3;
+    }
+}
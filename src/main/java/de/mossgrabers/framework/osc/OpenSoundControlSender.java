@@ -0,0 +1,201 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Sends OSC messages asynchronously on its own thread. The queued messages are combined into
+ * bundles which do not exceed a maximum size in bytes (e.g. the MTU of the network). The bundles
+ * are paced with a token bucket to not overrun the receiving clients. If a message for an address
+ * is queued while an older one for the same address is still waiting to be sent, the older one is
+ * dropped (latest value wins).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlSender implements IOpenSoundControlClient
+{
+    private final IHost                           host;
+    private final IOpenSoundControlClient         client;
+    private final int                             maxBundleSize;
+    private final double                          bytesPerSecond;
+    private final double                          bucketSize;
+    private final ScheduledExecutorService        executor           = Executors.newSingleThreadScheduledExecutor ();
+
+    private final Object                          lock               = new Object ();
+    private final Deque<IOpenSoundControlMessage> queue              = new ArrayDeque<> ();
+    private final List<IOpenSoundControlMessage>  bundle             = new ArrayList<> ();
+    private boolean                               isScheduled        = false;
+    private double                                tokens;
+    private long                                  lastRefill;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param client The client which sends the bundles to the OSC server
+     * @param maxBundleSize The maximum size of a bundle in bytes, a single message which is larger
+     *            is sent in a bundle on its own
+     * @param bytesPerSecond The maximum number of bytes to send per second
+     */
+    public OpenSoundControlSender (final IHost host, final IOpenSoundControlClient client, final int maxBundleSize, final int bytesPerSecond)
+    {
+        this.host = host;
+        this.client = client;
+        this.maxBundleSize = maxBundleSize;
+        this.bytesPerSecond = bytesPerSecond;
+
+        // Allow bursts of 50ms but at least one full bundle
+        this.bucketSize = Math.max (maxBundleSize, bytesPerSecond / 20.0);
+        this.tokens = this.bucketSize;
+        this.lastRefill = System.nanoTime ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message)
+    {
+        this.sendBundle (Collections.singletonList (message));
+    }
+
+
+    /**
+     * Queues the messages and returns immediately. The messages are sent in order but not
+     * necessarily in the same bundle. Queued messages with the same address as one of the new
+     * messages are dropped.
+     *
+     * @param messages The messages to send
+     */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages)
+    {
+        if (messages.isEmpty ())
+            return;
+
+        final Set<String> addresses = new HashSet<> (messages.size ());
+        for (final IOpenSoundControlMessage message: messages)
+            addresses.add (message.getAddress ());
+
+        synchronized (this.lock)
+        {
+            if (this.executor.isShutdown ())
+                return;
+
+            if (!this.queue.isEmpty ())
+                this.queue.removeIf (message -> addresses.contains (message.getAddress ()));
+            this.queue.addAll (messages);
+
+            if (!this.isScheduled)
+            {
+                this.isScheduled = true;
+                this.executor.execute (this::sendQueued);
+            }
+        }
+    }
+
+
+    /**
+     * Sends all queued messages and stops the sender thread.
+     */
+    public void shutdown ()
+    {
+        synchronized (this.lock)
+        {
+            this.executor.shutdown ();
+        }
+
+        try
+        {
+            if (this.executor.awaitTermination (2, TimeUnit.SECONDS))
+                return;
+            synchronized (this.lock)
+            {
+                this.host.error ("OSC sender did not end in 2 seconds, " + this.queue.size () + " messages were not sent.");
+            }
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+            this.host.error ("OSC sender did not end. Interrupted.", ex);
+        }
+    }
+
+
+    /**
+     * Sends bundles as long as there are queued messages and tokens available. If the tokens are
+     * used up, sending is re-scheduled when there are enough again. Runs on the sender thread.
+     */
+    private void sendQueued ()
+    {
+        while (true)
+        {
+            synchronized (this.lock)
+            {
+                // Collect as many messages as fit into a bundle
+                int bundleSize = OpenSoundControlCodec.BUNDLE_HEADER_SIZE;
+                int count = 0;
+                final Iterator<IOpenSoundControlMessage> iterator = this.queue.iterator ();
+                while (iterator.hasNext ())
+                {
+                    final int size = OpenSoundControlCodec.ELEMENT_SIZE + OpenSoundControlCodec.getEncodedSize (iterator.next ());
+                    if (count > 0 && bundleSize + size > this.maxBundleSize)
+                        break;
+                    bundleSize += size;
+                    count++;
+                }
+
+                if (count == 0)
+                {
+                    this.isScheduled = false;
+                    return;
+                }
+
+                final long now = System.nanoTime ();
+                this.tokens = Math.min (this.bucketSize, this.tokens + (now - this.lastRefill) * this.bytesPerSecond / 1000000000.0);
+                this.lastRefill = now;
+
+                final double required = Math.min (bundleSize, this.bucketSize);
+                if (this.tokens < required && !this.executor.isShutdown ())
+                {
+                    // Wait for enough tokens, messages might still be replaced in the meantime. On shutdown
+                    // all remaining messages are sent immediately
+                    final long delay = (long) Math.ceil ((required - this.tokens) * 1000000000.0 / this.bytesPerSecond);
+                    this.executor.schedule (this::sendQueued, delay, TimeUnit.NANOSECONDS);
+                    return;
+                }
+                this.tokens -= required;
+
+                this.bundle.clear ();
+                for (int i = 0; i < count; i++)
+                    this.bundle.add (this.queue.pollFirst ());
+            }
+
+            try
+            {
+                this.client.sendBundle (this.bundle);
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not send UDP message.", ex);
+            }
+        }
+    }
+}
@@ -25,9 +25,11 @@ import java.util.Set;
 public abstract class AbstractChannelParameterProvider implements IParameterProvider, IBankPageObserver, IValueObserver<ITrackBank>
 {
     protected final IModel                         model;
-    protected final Set<IParametersAdjustObserver> observers = new HashSet<> ();
+    protected final Set<IParametersAdjustObserver> observers               = new HashSet<> ();
 
     private final IChannelBank<? extends IChannel> bank;
+    private final IBankPageObserver                trackBankObserver       = () -> this.trackBankPageAdjusted (false);
+    private final IBankPageObserver                effectTrackBankObserver = () -> this.trackBankPageAdjusted (true);
 
 
     /**
@@ -72,10 +74,10 @@ public abstract class AbstractChannelParameterProvider implements IParameterProv
             this.bank.addPageObserver (this);
         else
         {
-            this.model.getTrackBank ().addPageObserver (this);
+            this.model.getTrackBank ().addPageObserver (this.trackBankObserver);
             final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
             if (effectTrackBank != null)
-                effectTrackBank.addPageObserver (this);
+                effectTrackBank.addPageObserver (this.effectTrackBankObserver);
 
             this.model.addTrackBankObserver (this);
         }
@@ -95,10 +97,10 @@ public abstract class AbstractChannelParameterProvider implements IParameterProv
             this.bank.removePageObserver (this);
         else
         {
-            this.model.getTrackBank ().removePageObserver (this);
+            this.model.getTrackBank ().removePageObserver (this.trackBankObserver);
             final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
             if (effectTrackBank != null)
-                effectTrackBank.removePageObserver (this);
+                effectTrackBank.removePageObserver (this.effectTrackBankObserver);
 
             this.model.removeTrackBankObserver (this);
         }
@@ -129,6 +131,20 @@ public abstract class AbstractChannelParameterProvider implements IParameterProv
     }
 
 
+    /**
+     * A page of the main or effect track bank has changed. Both banks are observed but only the
+     * current one provides the parameters, therefore changes of the other one are ignored.
+     *
+     * @param isEffectTrackBank True if the effect track bank has changed, otherwise the main one
+     */
+    private void trackBankPageAdjusted (final boolean isEffectTrackBank)
+    {
+        final ITrackBank trackBank = isEffectTrackBank ? this.model.getEffectTrackBank () : this.model.getTrackBank ();
+        if (trackBank == this.model.getCurrentTrackBank ())
+            this.notifyParametersObservers ();
+    }
+
+
     protected IChannel getChannel (final int index)
     {
         return this.getBank ().getItem (index);
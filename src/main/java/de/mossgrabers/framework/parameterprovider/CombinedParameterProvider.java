@@ -8,6 +8,9 @@ import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.observer.IBankPageObserver;
 import de.mossgrabers.framework.observer.IParametersAdjustObserver;
 
+import java.util.HashSet;
+import java.util.Set;
+
 
 /**
  * Combines two parameter providers into one.
@@ -16,8 +19,11 @@ import de.mossgrabers.framework.observer.IParametersAdjustObserver;
  */
 public class CombinedParameterProvider implements IParameterProvider, IBankPageObserver
 {
-    private final IParameterProvider first;
-    private final IParameterProvider second;
+    private final IParameterProvider             first;
+    private final IParameterProvider             second;
+    private final Set<IParametersAdjustObserver> observers = new HashSet<> ();
+    private final IParametersAdjustObserver      firstObserver;
+    private final IParametersAdjustObserver      secondObserver;
 
 
     /**
@@ -30,6 +36,10 @@ public class CombinedParameterProvider implements IParameterProvider, IBankPageO
     {
         this.first = first;
         this.second = second;
+
+        // The parameters of the second provider are moved behind the ones of the first
+        this.firstObserver = new MappedParametersAdjustObserver (this.observers, () -> 0, first::size, () -> 0);
+        this.secondObserver = new MappedParametersAdjustObserver (this.observers, () -> 0, second::size, first::size);
     }
 
 
@@ -58,8 +68,13 @@ public class CombinedParameterProvider implements IParameterProvider, IBankPageO
     @Override
     public void addParametersObserver (final IParametersAdjustObserver observer)
     {
-        this.first.addParametersObserver (observer);
-        this.second.addParametersObserver (observer);
+        final boolean isFirst = this.observers.isEmpty ();
+        this.observers.add (observer);
+        if (!isFirst)
+            return;
+
+        this.first.addParametersObserver (this.firstObserver);
+        this.second.addParametersObserver (this.secondObserver);
     }
 
 
@@ -67,8 +82,12 @@ public class CombinedParameterProvider implements IParameterProvider, IBankPageO
     @Override
     public void removeParametersObserver (final IParametersAdjustObserver observer)
     {
-        this.first.removeParametersObserver (observer);
-        this.second.removeParametersObserver (observer);
+        this.observers.remove (observer);
+        if (!this.observers.isEmpty ())
+            return;
+
+        this.first.removeParametersObserver (this.firstObserver);
+        this.second.removeParametersObserver (this.secondObserver);
     }
 
 
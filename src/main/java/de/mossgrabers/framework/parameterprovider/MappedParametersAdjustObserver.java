@@ -0,0 +1,72 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.parameterprovider;
+
+import de.mossgrabers.framework.observer.IParametersAdjustObserver;
+
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+
+/**
+ * Observes a parameter provider which is wrapped by another provider and forwards its changes to
+ * the observers of the wrapping provider. Only a window of the parameters of the wrapped provider
+ * is visible in the wrapping provider at a (possibly different) offset, therefore the changed
+ * ranges are clipped to the window and moved to the offset. Changes outside of the window are not
+ * forwarded at all.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MappedParametersAdjustObserver implements IParametersAdjustObserver
+{
+    private final Set<IParametersAdjustObserver> observers;
+    private final IntSupplier                    windowStart;
+    private final IntSupplier                    windowLength;
+    private final IntSupplier                    offset;
+
+
+    /**
+     * Constructor.
+     *
+     * @param observers The observers of the wrapping provider
+     * @param windowStart The index of the first visible parameter in the wrapped provider
+     * @param windowLength The number of visible parameters
+     * @param offset The index of the first visible parameter in the wrapping provider
+     */
+    public MappedParametersAdjustObserver (final Set<IParametersAdjustObserver> observers, final IntSupplier windowStart, final IntSupplier windowLength, final IntSupplier offset)
+    {
+        this.observers = observers;
+        this.windowStart = windowStart;
+        this.windowLength = windowLength;
+        this.offset = offset;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void parametersAdjusted ()
+    {
+        this.forward (this.offset.getAsInt (), this.windowLength.getAsInt ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void parametersAdjusted (final int firstIndex, final int count)
+    {
+        final int start = this.windowStart.getAsInt ();
+        final int from = Math.max (firstIndex, start);
+        final int to = Math.min (firstIndex + count, start + this.windowLength.getAsInt ());
+        if (from < to)
+            this.forward (from - start + this.offset.getAsInt (), to - from);
+    }
+
+
+    private void forward (final int firstIndex, final int count)
+    {
+        for (final IParametersAdjustObserver observer: this.observers)
+            observer.parametersAdjusted (firstIndex, count);
+    }
+}
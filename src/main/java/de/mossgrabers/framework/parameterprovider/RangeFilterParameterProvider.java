@@ -7,6 +7,9 @@ package de.mossgrabers.framework.parameterprovider;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.observer.IParametersAdjustObserver;
 
+import java.util.HashSet;
+import java.util.Set;
+
 
 /**
  * Uses sub-range of the parameters from the given parameter provider.
@@ -15,9 +18,11 @@ import de.mossgrabers.framework.observer.IParametersAdjustObserver;
  */
 public class RangeFilterParameterProvider implements IParameterProvider
 {
-    private final IParameterProvider provider;
-    private final int                startIndex;
-    private final int                length;
+    private final IParameterProvider             provider;
+    private final int                            startIndex;
+    private final int                            length;
+    private final Set<IParametersAdjustObserver> observers = new HashSet<> ();
+    private final IParametersAdjustObserver      providerObserver;
 
 
     /**
@@ -32,6 +37,8 @@ public class RangeFilterParameterProvider implements IParameterProvider
         this.provider = provider;
         this.startIndex = startIndex;
         this.length = length;
+
+        this.providerObserver = new MappedParametersAdjustObserver (this.observers, () -> startIndex, () -> length, () -> 0);
     }
 
 
@@ -59,7 +66,10 @@ public class RangeFilterParameterProvider implements IParameterProvider
     @Override
     public void addParametersObserver (final IParametersAdjustObserver observer)
     {
-        this.provider.addParametersObserver (observer);
+        final boolean isFirst = this.observers.isEmpty ();
+        this.observers.add (observer);
+        if (isFirst)
+            this.provider.addParametersObserver (this.providerObserver);
     }
 
 
@@ -67,7 +77,9 @@ public class RangeFilterParameterProvider implements IParameterProvider
     @Override
     public void removeParametersObserver (final IParametersAdjustObserver observer)
     {
-        this.provider.removeParametersObserver (observer);
+        this.observers.remove (observer);
+        if (this.observers.isEmpty ())
+            this.provider.removeParametersObserver (this.providerObserver);
     }
 
 
@@ -0,0 +1,143 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IMemoryBlock;
+
+
+/**
+ * Limits the rate of output reports sent to a HID device. If a report is sent again before the
+ * minimum interval has passed, it is delayed and only the latest state of the memory block is
+ * sent when the interval has passed. Reports are coalesced per report ID, therefore each report ID
+ * must use its own memory block.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HidReportCoalescer
+{
+    private final IHost            host;
+    private final IHidDevice       hidDevice;
+    private final int              minInterval;
+    private final PendingReport [] reports  = new PendingReport [256];
+    private volatile boolean       isClosed = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the delayed reports
+     * @param hidDevice The HID device to which to send the reports
+     * @param minInterval The minimum time in milliseconds between two reports with the same ID
+     */
+    public HidReportCoalescer (final IHost host, final IHidDevice hidDevice, final int minInterval)
+    {
+        this.host = host;
+        this.hidDevice = hidDevice;
+        this.minInterval = minInterval;
+    }
+
+
+    /**
+     * Sends an output report to the device. The report is sent immediately if the minimum interval
+     * since the last report with the same ID has passed, otherwise it is sent delayed. If the
+     * report is already waiting to be sent, only the memory block is updated.
+     *
+     * @param reportID The report (= function/method) number
+     * @param memoryBlock The memory block with the data to send
+     */
+    public void sendOutputReport (final byte reportID, final IMemoryBlock memoryBlock)
+    {
+        final PendingReport report = this.getReport (reportID);
+        synchronized (report)
+        {
+            if (this.isClosed)
+                return;
+
+            report.memoryBlock = memoryBlock;
+            if (report.isScheduled)
+                return;
+
+            final long delay = report.lastSent + this.minInterval - System.currentTimeMillis ();
+            if (delay > 0)
+            {
+                report.isScheduled = true;
+                this.host.scheduleTask ( () -> this.sendPending (report), delay);
+                return;
+            }
+
+            report.lastSent = System.currentTimeMillis ();
+            report.memoryBlock = null;
+        }
+
+        this.hidDevice.sendOutputReport (reportID, memoryBlock);
+    }
+
+
+    /**
+     * Immediately sends all reports which are waiting to be sent and stops sending any further
+     * reports.
+     */
+    public void close ()
+    {
+        for (final PendingReport report: this.reports)
+        {
+            if (report != null)
+                this.sendPending (report);
+        }
+        this.isClosed = true;
+    }
+
+
+    private synchronized PendingReport getReport (final byte reportID)
+    {
+        final int index = Byte.toUnsignedInt (reportID);
+        if (this.reports[index] == null)
+            this.reports[index] = new PendingReport (reportID);
+        return this.reports[index];
+    }
+
+
+    private void sendPending (final PendingReport report)
+    {
+        final IMemoryBlock memoryBlock;
+        synchronized (report)
+        {
+            report.isScheduled = false;
+            if (this.isClosed || report.memoryBlock == null)
+                return;
+            memoryBlock = report.memoryBlock;
+            report.memoryBlock = null;
+            report.lastSent = System.currentTimeMillis ();
+        }
+
+        // The owner of the memory block synchronizes on it while changing the content
+        synchronized (memoryBlock)
+        {
+            this.hidDevice.sendOutputReport (report.reportID, memoryBlock);
+        }
+    }
+
+
+    /** The state of one report ID. */
+    private static class PendingReport
+    {
+        private final byte   reportID;
+        private IMemoryBlock memoryBlock;
+        private boolean      isScheduled = false;
+        private long         lastSent    = 0;
+
+
+        /**
+         * Constructor.
+         *
+         * @param reportID The report ID
+         */
+        public PendingReport (final byte reportID)
+        {
+            this.reportID = reportID;
+        }
+    }
+}
@@ -14,7 +14,7 @@ public interface IUsbCallback
     /**
      * Called when ready to process the results.
      *
-     * @param receivedLength The length of the received data, -1 if an error occured
+     * @param receivedLength The length of the received or sent data, -1 if an error occured
      */
     void process (int receivedLength);
 }
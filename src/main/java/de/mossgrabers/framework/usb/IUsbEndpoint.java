@@ -24,11 +24,14 @@ public interface IUsbEndpoint
 
 
     /**
-     * Send data asynchroneously to the endpoint.
+     * Send data asynchroneously to the endpoint. If it is an OUT endpoint the data of the memory
+     * block is written to the device, if it is an IN endpoint the data received from the device is
+     * read into the memory block. The memory block must not be modified until the callback was
+     * called.
      *
-     * @param memoryBlock The memory block with the data to send
+     * @param memoryBlock The memory block with the data to send or to fill
      * @param callback Callback when the sending has finished
      * @param timeout Timeout for the sending task
      */
     void sendAsync (IMemoryBlock memoryBlock, IUsbCallback callback, int timeout);
-}
+}
\ No newline at end of file
@@ -0,0 +1,339 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IMemoryBlock;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Sends frames (e.g. display images) asynchronously to an USB endpoint. The frames are multi
+ * buffered: while one frame is transferred the next one can already be filled. If the device is
+ * slower than the frames are produced, a frame which is still waiting to be transferred is
+ * replaced by the newer one (latest frame wins).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class UsbFrameSender
+{
+    /**
+     * Interface to fill the data of a frame.
+     */
+    public interface IFrameFiller
+    {
+        /**
+         * Fill the data of the frame.
+         *
+         * @param buffer The buffer of the frame, the position is at the start of the buffer
+         */
+        void fill (ByteBuffer buffer);
+    }
+
+
+    private enum FrameState
+    {
+        FREE,
+        FILLING,
+        PENDING,
+        IN_TRANSFER
+    }
+
+
+    private final IHost        host;
+    private final IUsbEndpoint endpoint;
+    private final IMemoryBlock headerBlock;
+    private final Frame []     frames;
+    private final int          timeout;
+
+    private final Object       lock             = new Object ();
+    private boolean            isShutdown       = false;
+    private Frame              pendingFrame     = null;
+    private Frame              transferFrame    = null;
+
+    private long               numSentFrames    = 0;
+    private long               numDroppedFrames = 0;
+    private long               numFailedFrames  = 0;
+    private long               sumLatency       = 0;
+    private long               maxLatency       = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param endpoint The OUT endpoint to send to
+     * @param header A header which is sent before each frame, may be null
+     * @param frameSize The size of a frame in bytes
+     * @param numBuffers The number of frame buffers, must be at least 2 (double buffering)
+     * @param timeout The timeout for a transfer in milliseconds
+     */
+    public UsbFrameSender (final IHost host, final IUsbEndpoint endpoint, final byte [] header, final int frameSize, final int numBuffers, final int timeout)
+    {
+        if (numBuffers < 2)
+            throw new IllegalArgumentException ("At least 2 buffers are required.");
+
+        this.host = host;
+        this.endpoint = endpoint;
+        this.timeout = timeout;
+
+        if (header == null)
+            this.headerBlock = null;
+        else
+        {
+            this.headerBlock = host.createMemoryBlock (header.length);
+            this.headerBlock.createByteBuffer ().put (header);
+        }
+
+        this.frames = new Frame [numBuffers];
+        for (int i = 0; i < numBuffers; i++)
+            this.frames[i] = new Frame (host.createMemoryBlock (frameSize));
+    }
+
+
+    /**
+     * Fill a free frame buffer and send it to the device. If a transfer is currently running, the
+     * frame is sent after it has finished. A frame which is still waiting to be sent is dropped.
+     *
+     * @param filler Fills the data into the frame buffer
+     */
+    public void send (final IFrameFiller filler)
+    {
+        final Frame frame;
+        synchronized (this.lock)
+        {
+            if (this.isShutdown)
+                return;
+            frame = this.getFreeFrame ();
+            if (frame == null)
+            {
+                // All buffers are in use by other threads, simply drop this frame
+                this.numDroppedFrames++;
+                return;
+            }
+            frame.state = FrameState.FILLING;
+        }
+
+        final ByteBuffer buffer = frame.block.createByteBuffer ();
+        buffer.clear ();
+        filler.fill (buffer);
+
+        synchronized (this.lock)
+        {
+            if (this.pendingFrame != null)
+            {
+                this.pendingFrame.state = FrameState.FREE;
+                this.numDroppedFrames++;
+            }
+            frame.state = FrameState.PENDING;
+            frame.submitted = System.nanoTime ();
+            this.pendingFrame = frame;
+
+            if (this.transferFrame == null)
+                this.startTransfer ();
+        }
+    }
+
+
+    /**
+     * Stops accepting new frames. Waits until the frame which is waiting to be sent and a running
+     * transfer have finished (but not longer than the timeout).
+     */
+    public void shutdown ()
+    {
+        synchronized (this.lock)
+        {
+            this.isShutdown = true;
+
+            final long end = System.currentTimeMillis () + 2L * this.timeout;
+            long wait = 2L * this.timeout;
+            while ((this.transferFrame != null || this.pendingFrame != null) && wait > 0)
+            {
+                try
+                {
+                    this.lock.wait (wait);
+                }
+                catch (final InterruptedException ex)
+                {
+                    Thread.currentThread ().interrupt ();
+                    this.host.error ("Waiting for USB transfer to finish was interrupted.", ex);
+                    return;
+                }
+                wait = end - System.currentTimeMillis ();
+            }
+        }
+    }
+
+
+    /**
+     * Get the number of frames, which have been sent successfully.
+     *
+     * @return The number of frames
+     */
+    public long getNumSentFrames ()
+    {
+        synchronized (this.lock)
+        {
+            return this.numSentFrames;
+        }
+    }
+
+
+    /**
+     * Get the number of frames, which were dropped since a newer frame was available before they
+     * could be sent.
+     *
+     * @return The number of frames
+     */
+    public long getNumDroppedFrames ()
+    {
+        synchronized (this.lock)
+        {
+            return this.numDroppedFrames;
+        }
+    }
+
+
+    /**
+     * Get the number of frames, which could not be transferred.
+     *
+     * @return The number of frames
+     */
+    public long getNumFailedFrames ()
+    {
+        synchronized (this.lock)
+        {
+            return this.numFailedFrames;
+        }
+    }
+
+
+    /**
+     * Get the average latency between the submission of a frame and the end of its transfer.
+     *
+     * @return The average latency in milliseconds
+     */
+    public double getAverageLatency ()
+    {
+        synchronized (this.lock)
+        {
+            return this.numSentFrames == 0 ? 0 : this.sumLatency / (this.numSentFrames * 1000000.0);
+        }
+    }
+
+
+    /**
+     * Get the maximum latency between the submission of a frame and the end of its transfer.
+     *
+     * @return The maximum latency in milliseconds
+     */
+    public double getMaxLatency ()
+    {
+        synchronized (this.lock)
+        {
+            return this.maxLatency / 1000000.0;
+        }
+    }
+
+
+    /**
+     * Get a free frame. If there is none the pending frame is used.
+     *
+     * @return The frame or null if all frames are in use
+     */
+    private Frame getFreeFrame ()
+    {
+        for (final Frame frame: this.frames)
+        {
+            if (frame.state == FrameState.FREE)
+                return frame;
+        }
+
+        if (this.pendingFrame == null)
+            return null;
+
+        final Frame frame = this.pendingFrame;
+        this.pendingFrame = null;
+        this.numDroppedFrames++;
+        return frame;
+    }
+
+
+    /**
+     * Starts the transfer of the pending frame. Must be called while holding the lock.
+     */
+    private void startTransfer ()
+    {
+        final Frame frame = this.pendingFrame;
+        this.pendingFrame = null;
+        this.transferFrame = frame;
+        frame.state = FrameState.IN_TRANSFER;
+
+        if (this.headerBlock == null)
+        {
+            this.endpoint.sendAsync (frame.block, length -> this.transferCompleted (frame, length), this.timeout);
+            return;
+        }
+
+        this.endpoint.sendAsync (this.headerBlock, headerLength -> {
+            if (headerLength < 0)
+                this.transferCompleted (frame, headerLength);
+            else
+                this.endpoint.sendAsync (frame.block, length -> this.transferCompleted (frame, length), this.timeout);
+        }, this.timeout);
+    }
+
+
+    /**
+     * Called when the transfer of a frame has finished.
+     *
+     * @param frame The frame
+     * @param length The number of transferred bytes, -1 if the transfer failed
+     */
+    private void transferCompleted (final Frame frame, final int length)
+    {
+        synchronized (this.lock)
+        {
+            if (length < 0)
+                this.numFailedFrames++;
+            else
+            {
+                this.numSentFrames++;
+                final long latency = System.nanoTime () - frame.submitted;
+                this.sumLatency += latency;
+                this.maxLatency = Math.max (this.maxLatency, latency);
+            }
+
+            frame.state = FrameState.FREE;
+            this.transferFrame = null;
+
+            if (this.pendingFrame != null)
+                this.startTransfer ();
+
+            this.lock.notifyAll ();
+        }
+    }
+
+
+    /** A frame buffer. */
+    private static class Frame
+    {
+        private final IMemoryBlock block;
+        private FrameState         state     = FrameState.FREE;
+        private long               submitted = 0;
+
+
+        /**
+         * Constructor.
+         *
+         * @param block The memory block which contains the data of the frame
+         */
+        public Frame (final IMemoryBlock block)
+        {
+            this.block = block;
+        }
+    }
+}
@@ -10,23 +10,25 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.observer.INoteObserver;
 import de.mossgrabers.framework.scale.Scales;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 
 /**
- * Manages pressed keys and drum pads.
+ * Manages pressed keys and drum pads. The pressed keys and the pads which play a MIDI note are
+ * stored as bit sets with 2 longs (= 128 bits) to quickly find the pads of a played note.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class KeyManager implements INoteObserver
 {
-    private final int []   pressedKeys = new int [128];
+    private final int []   pressedKeys    = new int [128];
+    private final long []  pressedKeyBits = new long [2];
     private final IModel   model;
     private final Scales   scales;
     private final IPadGrid padGrid;
-    private int []         noteMap     = Scales.getEmptyMatrix ();
+    private int []         noteMap        = Scales.getEmptyMatrix ();
+    /** The pads which play a MIDI note, 2 longs per note. */
+    private final long []  notePads       = new long [256];
 
 
     /**
@@ -41,7 +43,8 @@ public class KeyManager implements INoteObserver
         this.model = model;
         this.scales = scales;
         this.padGrid = padGrid;
-        Arrays.fill (this.pressedKeys, 0);
+        this.clearPressedKeys ();
+        this.updateNotePads ();
     }
 
 
@@ -51,6 +54,7 @@ public class KeyManager implements INoteObserver
     public void clearPressedKeys ()
     {
         Arrays.fill (this.pressedKeys, 0);
+        Arrays.fill (this.pressedKeyBits, 0);
     }
 
 
@@ -75,6 +79,10 @@ public class KeyManager implements INoteObserver
     public void setKeyPressed (final int key, final int velocity)
     {
         this.pressedKeys[key] = velocity;
+        if (velocity > 0)
+            this.pressedKeyBits[key >> 6] |= 1L << key;
+        else
+            this.pressedKeyBits[key >> 6] &= ~(1L << key);
     }
 
 
@@ -86,10 +94,18 @@ public class KeyManager implements INoteObserver
      */
     public void setAllKeysPressed (final int key, final int velocity)
     {
-        for (int i = 0; i < 128; i++)
+        if (key < 0 || key > 127)
+            return;
+
+        for (int i = 0; i < 2; i++)
         {
-            if (this.noteMap[i] == key)
-                this.setKeyPressed (i, velocity);
+            long pads = this.notePads[2 * key + i];
+            while (pads != 0)
+            {
+                final int bit = Long.numberOfTrailingZeros (pads);
+                this.setKeyPressed (i * 64 + bit, velocity);
+                pads &= pads - 1;
+            }
         }
     }
 
@@ -107,16 +123,18 @@ public class KeyManager implements INoteObserver
     /**
      * Get the currently pressed keys.
      *
-     * @return The list with the keys
+     * @return The pressed keys in ascending order
      */
-    public List<Integer> getPressedKeys ()
+    public int [] getPressedKeys ()
     {
-        final List<Integer> keys = new ArrayList<> ();
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.pressedKeys[i] != 0)
-                keys.add (Integer.valueOf (i));
-        }
+        final long low = this.pressedKeyBits[0];
+        final long high = this.pressedKeyBits[1];
+        final int [] keys = new int [Long.bitCount (low) + Long.bitCount (high)];
+        int index = 0;
+        for (long bits = low; bits != 0; bits &= bits - 1)
+            keys[index++] = Long.numberOfTrailingZeros (bits);
+        for (long bits = high; bits != 0; bits &= bits - 1)
+            keys[index++] = 64 + Long.numberOfTrailingZeros (bits);
         return keys;
     }
 
@@ -128,12 +146,7 @@ public class KeyManager implements INoteObserver
      */
     public boolean hasPressedKeys ()
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.pressedKeys[i] != 0)
-                return true;
-        }
-        return false;
+        return (this.pressedKeyBits[0] | this.pressedKeyBits[1]) != 0;
     }
 
 
@@ -184,5 +197,22 @@ public class KeyManager implements INoteObserver
     public void setNoteMatrix (final int [] matrix)
     {
         this.noteMap = matrix;
+        this.updateNotePads ();
+    }
+
+
+    /**
+     * Rebuild the inverse mapping from the MIDI notes to the pads which play them.
+     */
+    private void updateNotePads ()
+    {
+        Arrays.fill (this.notePads, 0);
+        final int numPads = Math.min (this.noteMap.length, 128);
+        for (int pad = 0; pad < numPads; pad++)
+        {
+            final int note = this.noteMap[pad];
+            if (note >= 0 && note < 128)
+                this.notePads[2 * note + (pad >> 6)] |= 1L << pad;
+        }
     }
 }
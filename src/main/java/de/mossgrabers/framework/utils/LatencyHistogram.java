@@ -0,0 +1,133 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A histogram for latency values in nanoseconds. The buckets have a logarithmic scale with 16
+ * linear sub-buckets per power of two (similar to a HDR histogram), which gives a precision of
+ * about 6% over the whole range with a fixed amount of memory. Recording is lock-free.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LatencyHistogram
+{
+    private static final int      SUB_BUCKET_BITS  = 4;
+    private static final int      SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int      NUM_BUCKETS      = (63 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + 2 * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts           = new AtomicLongArray (NUM_BUCKETS);
+    private final AtomicLong      totalCount       = new AtomicLong ();
+    private final AtomicLong      totalSum         = new AtomicLong ();
+    private final AtomicLong      maxValue         = new AtomicLong ();
+
+
+    /**
+     * Record a value.
+     *
+     * @param nanos The value in nanoseconds, negative values are recorded as 0
+     */
+    public void record (final long nanos)
+    {
+        final long value = Math.max (0, nanos);
+        this.counts.incrementAndGet (getBucketIndex (value));
+        this.totalCount.incrementAndGet ();
+        this.totalSum.addAndGet (value);
+        this.maxValue.accumulateAndGet (value, Math::max);
+    }
+
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return The number of values
+     */
+    public long getCount ()
+    {
+        return this.totalCount.get ();
+    }
+
+
+    /**
+     * Get the largest recorded value.
+     *
+     * @return The value in nanoseconds
+     */
+    public long getMax ()
+    {
+        return this.maxValue.get ();
+    }
+
+
+    /**
+     * Get the average of all recorded values.
+     *
+     * @return The average in nanoseconds, 0 if no values have been recorded
+     */
+    public double getMean ()
+    {
+        final long count = this.totalCount.get ();
+        return count == 0 ? 0 : this.totalSum.get () / (double) count;
+    }
+
+
+    /**
+     * Get the value at the given percentile. The result is the upper bound of the bucket which
+     * contains the percentile.
+     *
+     * @param percentile The percentile (0-100)
+     * @return The value in nanoseconds, 0 if no values have been recorded
+     */
+    public long getValueAtPercentile (final double percentile)
+    {
+        final long count = this.totalCount.get ();
+        if (count == 0)
+            return 0;
+
+        final long threshold = Math.max (1, (long) Math.ceil (Math.min (100, percentile) / 100.0 * count));
+        long sum = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++)
+        {
+            sum += this.counts.get (i);
+            if (sum >= threshold)
+                return Math.min (getBucketValue (i + 1) - 1, this.maxValue.get ());
+        }
+        return this.maxValue.get ();
+    }
+
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset ()
+    {
+        for (int i = 0; i < NUM_BUCKETS; i++)
+            this.counts.set (i, 0);
+        this.totalCount.set (0);
+        this.totalSum.set (0);
+        this.maxValue.set (0);
+    }
+
+
+    private static int getBucketIndex (final long value)
+    {
+        if (value < 2 * SUB_BUCKET_COUNT)
+            return (int) value;
+        final int shift = 63 - Long.numberOfLeadingZeros (value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >> shift);
+    }
+
+
+    private static long getBucketValue (final int index)
+    {
+        if (index < 2 * SUB_BUCKET_COUNT)
+            return index;
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        return (long) (index - shift * SUB_BUCKET_COUNT) << shift;
+    }
+}
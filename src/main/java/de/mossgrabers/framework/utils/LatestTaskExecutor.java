@@ -5,30 +5,43 @@
 package de.mossgrabers.framework.utils;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
  * Executes only one task. When new tasks arrive for execution only the latest one will be stored
- * for execution.
+ * for execution. The tasks are executed by the shared workers of the {@link OutputScheduler},
+ * therefore creating an executor does not create a thread. Tasks of the same executor are never
+ * executed in parallel.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class LatestTaskExecutor implements Executor
 {
-    private final AtomicReference<Runnable> lastTask = new AtomicReference<> ();
-    private final ExecutorService           executor;
+    private final OutputScheduler scheduler    = OutputScheduler.get ();
+    private final long            maxLatency;
+
+    private final Object          lock         = new Object ();
+    private Runnable              pendingTask  = null;
+    private boolean               isQueued     = false;
+    private boolean               isRunning    = false;
+    private boolean               isShutdown   = false;
+    private boolean               isReleased   = false;
+    private long                  deadline     = 0;
+    private long                  sequence     = 0;
+    private long                  numLateTasks = 0;
 
 
     /**
      * Constructor.
+     *
+     * @param maxLatency The maximum time in milliseconds which a task should wait to be executed.
+     *            Executors with a lower value are preferred by the workers
      */
-    public LatestTaskExecutor ()
+    public LatestTaskExecutor (final int maxLatency)
     {
-        this.executor = Executors.newSingleThreadExecutor ();
+        this.maxLatency = TimeUnit.MILLISECONDS.toNanos (maxLatency);
+        this.scheduler.acquire ();
     }
 
 
@@ -36,21 +49,29 @@ public class LatestTaskExecutor implements Executor
     @Override
     public void execute (final Runnable command)
     {
-        this.lastTask.set (command);
-        this.executor.execute ( () -> {
-            final Runnable task = this.lastTask.getAndSet (null);
-            if (task != null)
-                task.run ();
-        });
+        synchronized (this.lock)
+        {
+            if (this.isShutdown)
+                return;
+
+            this.pendingTask = command;
+            if (!this.isQueued && !this.isRunning)
+                this.queue ();
+        }
     }
 
 
     /**
-     * Shutdown the executor.
+     * Stops accepting new tasks. A task which is waiting or running is still executed.
      */
     public void shutdown ()
     {
-        this.executor.shutdown ();
+        synchronized (this.lock)
+        {
+            this.isShutdown = true;
+            if (!this.isQueued && !this.isRunning)
+                this.release ();
+        }
     }
 
 
@@ -61,7 +82,10 @@ public class LatestTaskExecutor implements Executor
      */
     public boolean isShutdown ()
     {
-        return this.executor.isShutdown ();
+        synchronized (this.lock)
+        {
+            return this.isShutdown;
+        }
     }
 
 
@@ -77,6 +101,150 @@ public class LatestTaskExecutor implements Executor
      */
     public boolean awaitTermination (final long timeout, final TimeUnit unit) throws InterruptedException
     {
-        return this.executor.awaitTermination (timeout, unit);
+        final long end = System.nanoTime () + unit.toNanos (timeout);
+        synchronized (this.lock)
+        {
+            while (!this.isShutdown || this.isQueued || this.isRunning)
+            {
+                final long wait = TimeUnit.NANOSECONDS.toMillis (end - System.nanoTime ());
+                if (wait <= 0)
+                    return false;
+                this.lock.wait (wait);
+            }
+            return true;
+        }
+    }
+
+
+    /**
+     * Blocks until the waiting and the running task have completed execution, or the timeout
+     * occurs, or the current thread is interrupted, whichever happens first.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the time unit of the timeout argument
+     * @return {@code true} if no task is waiting or running and {@code false} if the timeout
+     *         elapsed before
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitIdle (final long timeout, final TimeUnit unit) throws InterruptedException
+    {
+        final long end = System.nanoTime () + unit.toNanos (timeout);
+        synchronized (this.lock)
+        {
+            while (this.isQueued || this.isRunning)
+            {
+                final long wait = TimeUnit.NANOSECONDS.toMillis (end - System.nanoTime ());
+                if (wait <= 0)
+                    return false;
+                this.lock.wait (wait);
+            }
+            return true;
+        }
+    }
+
+
+    /**
+     * Get the number of tasks which were executed later than the maximum latency.
+     *
+     * @return The number of tasks
+     */
+    public long getNumLateTasks ()
+    {
+        synchronized (this.lock)
+        {
+            return this.numLateTasks;
+        }
+    }
+
+
+    /**
+     * Executes the pending task. Called by the workers of the scheduler.
+     */
+    void runPending ()
+    {
+        final Runnable task;
+        synchronized (this.lock)
+        {
+            task = this.pendingTask;
+            this.pendingTask = null;
+            this.isQueued = false;
+            this.isRunning = true;
+            if (System.nanoTime () > this.deadline)
+                this.numLateTasks++;
+        }
+
+        try
+        {
+            if (task != null)
+                task.run ();
+        }
+        finally
+        {
+            synchronized (this.lock)
+            {
+                this.isRunning = false;
+                if (this.pendingTask != null)
+                    this.queue ();
+                else if (this.isShutdown)
+                    this.release ();
+                this.lock.notifyAll ();
+            }
+        }
+    }
+
+
+    /**
+     * Get the time until which the pending task should be executed.
+     *
+     * @return The time in nanoseconds
+     */
+    long getDeadline ()
+    {
+        return this.deadline;
+    }
+
+
+    /**
+     * Get the order in which the executor was queued.
+     *
+     * @return The sequence number
+     */
+    long getSequence ()
+    {
+        return this.sequence;
+    }
+
+
+    /**
+     * Set the order in which the executor was queued.
+     *
+     * @param sequence The sequence number
+     */
+    void setSequence (final long sequence)
+    {
+        this.sequence = sequence;
+    }
+
+
+    /**
+     * Queue the executor at the scheduler. Must be called while holding the lock.
+     */
+    private void queue ()
+    {
+        this.isQueued = true;
+        this.deadline = System.nanoTime () + this.maxLatency;
+        this.scheduler.enqueue (this);
+    }
+
+
+    /**
+     * Unregister from the scheduler. Must be called while holding the lock.
+     */
+    private void release ()
+    {
+        if (this.isReleased)
+            return;
+        this.isReleased = true;
+        this.scheduler.release ();
     }
 }
\ No newline at end of file
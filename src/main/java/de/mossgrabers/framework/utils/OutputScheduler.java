@@ -0,0 +1,160 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A small, fixed pool of worker threads which is shared by all keys (e.g. the lines of a display
+ * or an output port). Each key is represented by a {@link LatestTaskExecutor} which keeps only its
+ * latest pending task. A key is queued at most once. The queue is ordered by the deadline of the
+ * keys (the time when the task was submitted plus the maximum latency of the key), keys with the
+ * same maximum latency are therefore processed in round-robin order. The number of threads does
+ * not depend on the number of attached surfaces. The workers are started with the first key and
+ * stopped when the last key has been shut down.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class OutputScheduler
+{
+    private static final int                                NUM_WORKERS = 2;
+    private static final OutputScheduler                    INSTANCE    = new OutputScheduler ();
+
+    private final PriorityBlockingQueue<LatestTaskExecutor> queue       = new PriorityBlockingQueue<> (16, Comparator.comparingLong (LatestTaskExecutor::getDeadline).thenComparingLong (LatestTaskExecutor::getSequence));
+    private final AtomicLong                                sequence    = new AtomicLong ();
+    private final List<Thread>                              workers     = new ArrayList<> (NUM_WORKERS);
+    private int                                             numKeys     = 0;
+
+
+    /**
+     * Private due to singleton.
+     */
+    private OutputScheduler ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the shared instance.
+     *
+     * @return The instance
+     */
+    static OutputScheduler get ()
+    {
+        return INSTANCE;
+    }
+
+
+    /**
+     * Get the number of worker threads which are currently running.
+     *
+     * @return The number of threads
+     */
+    public static int getNumWorkers ()
+    {
+        synchronized (INSTANCE)
+        {
+            return INSTANCE.workers.size ();
+        }
+    }
+
+
+    /**
+     * Get the number of keys which are registered.
+     *
+     * @return The number of keys
+     */
+    public static int getNumKeys ()
+    {
+        synchronized (INSTANCE)
+        {
+            return INSTANCE.numKeys;
+        }
+    }
+
+
+    /**
+     * Register a key. Starts the workers if they are not running.
+     */
+    synchronized void acquire ()
+    {
+        this.numKeys++;
+        if (!this.workers.isEmpty ())
+            return;
+
+        for (int i = 0; i < NUM_WORKERS; i++)
+        {
+            final Thread worker = new Thread (this::work, "Output Scheduler " + (i + 1));
+            worker.setDaemon (true);
+            this.workers.add (worker);
+            worker.start ();
+        }
+    }
+
+
+    /**
+     * Unregister a key which has no more pending tasks. Stops the workers if it was the last key.
+     */
+    synchronized void release ()
+    {
+        this.numKeys--;
+        if (this.numKeys > 0)
+            return;
+
+        this.numKeys = 0;
+        for (final Thread worker: this.workers)
+            worker.interrupt ();
+        this.workers.clear ();
+    }
+
+
+    /**
+     * Queue a key which has a pending task.
+     *
+     * @param key The key
+     */
+    void enqueue (final LatestTaskExecutor key)
+    {
+        key.setSequence (this.sequence.incrementAndGet ());
+        this.queue.add (key);
+    }
+
+
+    /**
+     * The loop of a worker thread.
+     */
+    private void work ()
+    {
+        final Thread thread = Thread.currentThread ();
+        while (!thread.isInterrupted ())
+        {
+            final LatestTaskExecutor key;
+            try
+            {
+                key = this.queue.take ();
+            }
+            catch (final InterruptedException ex)
+            {
+                return;
+            }
+
+            try
+            {
+                key.runPending ();
+            }
+            catch (final RuntimeException ex)
+            {
+                // Keep the worker alive for the other keys
+                thread.getUncaughtExceptionHandler ().uncaughtException (thread, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Collects timings and counters of the hot paths of a control surface (flushing, MIDI handling,
+ * display updates and the outgoing data). If disabled, measuring costs only a check of a flag.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PerformanceMetrics
+{
+    /** The measured code paths. */
+    public enum Timer
+    {
+        /** Updating the view and mode controls during flush. */
+        FLUSH_VIEW_CONTROLS("Flush view controls"),
+        /** Drawing the pad grid during flush. */
+        FLUSH_GRID("Flush grid"),
+        /** Flushing the changes to the hardware. */
+        FLUSH_HARDWARE("Flush hardware"),
+        /** Handling of a received MIDI message. */
+        HANDLE_MIDI("Handle MIDI"),
+        /** Sending the content of a display. */
+        DISPLAY_SEND("Display send"),
+        /** Flushing the OSC messages. */
+        OSC_FLUSH("OSC flush");
+
+
+        private final String name;
+
+
+        Timer (final String name)
+        {
+            this.name = name;
+        }
+
+
+        /**
+         * Get the name.
+         *
+         * @return The name
+         */
+        public String getName ()
+        {
+            return this.name;
+        }
+    }
+
+
+    /** The counted values. */
+    public enum Counter
+    {
+        /** The number of received MIDI messages. */
+        MIDI_MESSAGES_IN("MIDI messages in"),
+        /** The number of bytes sent as short MIDI messages. */
+        MIDI_BYTES_OUT("MIDI bytes out"),
+        /** The number of bytes sent as system exclusive messages. */
+        SYSEX_BYTES_OUT("SysEx bytes out"),
+        /** The number of bytes sent via USB. */
+        USB_BYTES_OUT("USB bytes out"),
+        /** The number of rendered display frames. */
+        DISPLAY_FRAMES("Display frames");
+
+
+        private final String name;
+
+
+        Counter (final String name)
+        {
+            this.name = name;
+        }
+
+
+        /**
+         * Get the name.
+         *
+         * @return The name
+         */
+        public String getName ()
+        {
+            return this.name;
+        }
+    }
+
+
+    private final String                       name;
+    private final Map<Timer, LatencyHistogram> timers   = new EnumMap<> (Timer.class);
+    private final Map<Counter, AtomicLong>     counters = new EnumMap<> (Counter.class);
+    private volatile boolean                   isEnabled;
+    private long                               startTime;
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the measured surface
+     */
+    public PerformanceMetrics (final String name)
+    {
+        this.name = name;
+
+        for (final Timer timer: Timer.values ())
+            this.timers.put (timer, new LatencyHistogram ());
+        for (final Counter counter: Counter.values ())
+            this.counters.put (counter, new AtomicLong ());
+        this.startTime = System.nanoTime ();
+    }
+
+
+    /**
+     * Enable or disable measuring. Resets all values.
+     *
+     * @param isEnabled True to enable
+     */
+    public void setEnabled (final boolean isEnabled)
+    {
+        this.reset ();
+        this.isEnabled = isEnabled;
+    }
+
+
+    /**
+     * Is measuring enabled?
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled ()
+    {
+        return this.isEnabled;
+    }
+
+
+    /**
+     * Start measuring a timing.
+     *
+     * @return The start time to hand to {@link #stop(Timer, long)}, 0 if measuring is disabled
+     */
+    public long start ()
+    {
+        return this.isEnabled ? System.nanoTime () : 0;
+    }
+
+
+    /**
+     * Stop measuring a timing.
+     *
+     * @param timer The timer to which to add the measured time
+     * @param start The start time returned by {@link #start()}
+     */
+    public void stop (final Timer timer, final long start)
+    {
+        if (start != 0 && this.isEnabled)
+            this.timers.get (timer).record (System.nanoTime () - start);
+    }
+
+
+    /**
+     * Add to a counter.
+     *
+     * @param counter The counter
+     * @param value The value to add
+     */
+    public void add (final Counter counter, final long value)
+    {
+        if (this.isEnabled)
+            this.counters.get (counter).addAndGet (value);
+    }
+
+
+    /**
+     * Get the histogram of a timer.
+     *
+     * @param timer The timer
+     * @return The histogram
+     */
+    public LatencyHistogram getTimer (final Timer timer)
+    {
+        return this.timers.get (timer);
+    }
+
+
+    /**
+     * Get the value of a counter.
+     *
+     * @param counter The counter
+     * @return The value
+     */
+    public long getCounter (final Counter counter)
+    {
+        return this.counters.get (counter).get ();
+    }
+
+
+    /**
+     * Get the time since the last reset.
+     *
+     * @return The time in seconds
+     */
+    public double getElapsedTime ()
+    {
+        return (System.nanoTime () - this.startTime) / 1000000000.0;
+    }
+
+
+    /**
+     * Format a summary of all measured timings and counters since the last reset. Timers and
+     * counters without any values are left out.
+     *
+     * @return The summary
+     */
+    public String getSummary ()
+    {
+        final double elapsed = Math.max (0.001, this.getElapsedTime ());
+        final StringBuilder sb = new StringBuilder ();
+        sb.append ("Performance metrics of ").append (this.name).append (String.format (Locale.US, " (%.1f s):", Double.valueOf (elapsed)));
+
+        for (final Timer timer: Timer.values ())
+        {
+            final LatencyHistogram histogram = this.timers.get (timer);
+            final long count = histogram.getCount ();
+            if (count == 0)
+                continue;
+            sb.append (String.format (Locale.US, "%n  %-20s n=%d, mean=%.1f us, p50=%.1f us, p99=%.1f us, max=%.1f us", timer.getName (), Long.valueOf (count), Double.valueOf (histogram.getMean () / 1000.0), Double.valueOf (histogram.getValueAtPercentile (50) / 1000.0), Double.valueOf (histogram.getValueAtPercentile (99) / 1000.0), Double.valueOf (histogram.getMax () / 1000.0)));
+        }
+
+        for (final Counter counter: Counter.values ())
+        {
+            final long value = this.counters.get (counter).get ();
+            if (value == 0)
+                continue;
+            sb.append (String.format (Locale.US, "%n  %-20s %d (%.1f/s)", counter.getName (), Long.valueOf (value), Double.valueOf (value / elapsed)));
+        }
+
+        return sb.toString ();
+    }
+
+
+    /**
+     * Removes all measured values.
+     */
+    public void reset ()
+    {
+        this.timers.values ().forEach (LatencyHistogram::reset);
+        this.counters.values ().forEach (counter -> counter.set (0));
+        this.startTime = System.nanoTime ();
+    }
+}
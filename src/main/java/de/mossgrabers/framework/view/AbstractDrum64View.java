@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
@@ -16,9 +17,12 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.featuregroup.AbstractView;
+import de.mossgrabers.framework.observer.ObservedFeature;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.EnumSet;
+
 
 /**
  * Abstract implementation for a 64 drum grid.
@@ -30,19 +34,27 @@ import de.mossgrabers.framework.utils.ButtonEvent;
  */
 public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C> implements TransposeView
 {
-    protected static final int DRUM_START_KEY = 36;
-    protected static final int GRID_COLUMNS   = 8;
-    protected static final int BLOCK_SIZE     = 16;
+    protected static final int  DRUM_START_KEY        = 36;
+    protected static final int  GRID_COLUMNS          = 8;
+    protected static final int  BLOCK_SIZE            = 16;
+
+    private static final int    HANDLE_PAD_RECORD     = ColorManager.getColorHandle (AbstractDrumView.COLOR_PAD_RECORD);
+    private static final int    HANDLE_PAD_PLAY       = ColorManager.getColorHandle (AbstractDrumView.COLOR_PAD_PLAY);
+    private static final int    HANDLE_PAD_SELECTED   = ColorManager.getColorHandle (AbstractDrumView.COLOR_PAD_SELECTED);
+    private static final int    HANDLE_PAD_MUTED      = ColorManager.getColorHandle (AbstractDrumView.COLOR_PAD_MUTED);
+    private static final int    HANDLE_PAD_NO_CONTENT = ColorManager.getColorHandle (AbstractDrumView.COLOR_PAD_NO_CONTENT);
+    private static final int    HANDLE_PAD_OFF        = ColorManager.getColorHandle (AbstractDrumView.COLOR_PAD_OFF);
 
-    protected int              offsetY;
-    protected int              selectedPad    = 0;
-    protected int []           pressedKeys    = new int [128];
-    protected int              columns;
-    protected int              rows;
-    protected int              drumOctave;
+    protected int               offsetY;
+    protected int               selectedPad           = 0;
+    protected int []            pressedKeys           = new int [128];
+    protected int               columns;
+    protected int               rows;
+    protected int               drumOctave;
 
-    private final int          xblocks;
-    private final int          yblocks;
+    private final int           xblocks;
+    private final int           yblocks;
+    private final DrumPadStates padStates;
 
 
     /**
@@ -69,6 +81,8 @@ public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends
     {
         super ("Drum 64", surface, model);
 
+        this.observedFeatures = EnumSet.of (ObservedFeature.DRUM_PADS);
+
         this.columns = columns;
         this.rows = rows;
 
@@ -86,6 +100,8 @@ public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends
         final ITrackBank tb = model.getTrackBank ();
         tb.addSelectionObserver ( (final int index, final boolean isSelected) -> this.clearPressedKeys ());
         tb.addNoteObserver (this::updateNote);
+
+        this.padStates = new DrumPadStates (model.getDrumDevice64 ().getDrumPadBank ());
     }
 
 
@@ -95,6 +111,9 @@ public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends
     {
         super.onActivate ();
 
+        // Another view has used the pad grid
+        this.padStates.invalidate ();
+
         final IDrumDevice drumDevice64 = this.model.getDrumDevice64 ();
         drumDevice64.getDrumPadBank ().setIndication (true);
     }
@@ -156,11 +175,15 @@ public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends
         if (!this.model.canSelectedTrackHoldNotes ())
         {
             padGrid.turnOff ();
+            this.padStates.invalidate ();
             return;
         }
 
         final IDrumDevice drumDevice64 = this.model.getDrumDevice64 ();
+        final IDrumPadBank drumPadBank = drumDevice64.getDrumPadBank ();
         final boolean isRecording = this.model.hasRecordingState ();
+        final boolean isTurnOffEmptyDrumPads = this.surface.getConfiguration ().isTurnOffEmptyDrumPads ();
+        this.padStates.setGlobalState ((isRecording ? 1 : 0) | (drumPadBank.hasSoloedPads () ? 2 : 0) | (isTurnOffEmptyDrumPads ? 4 : 0));
 
         int blockOffset = 0;
 
@@ -176,10 +199,14 @@ public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends
                     {
                         final int index = blockOffset + blockY * 4 + blockX;
 
+                        // Only draw the pads which changed since the last flush
+                        if (!this.padStates.update (index, this.pressedKeys[this.offsetY + index] > 0, this.selectedPad == index, drumPadBank.getItem (index)))
+                            continue;
+
                         final int x = xblock * 4 + blockX;
                         final int y = yblock * 4 + blockY;
 
-                        padGrid.lightEx (x, this.rows - 1 - y, this.getDrumPadColor (index, drumDevice64, isRecording));
+                        padGrid.lightExHandle (x, this.rows - 1 - y, this.getDrumPadColor (index, drumDevice64, isRecording));
                     }
                 }
 
@@ -189,32 +216,38 @@ public abstract class AbstractDrum64View<S extends IControlSurface<C>, C extends
     }
 
 
-    private String getDrumPadColor (final int index, final IDrumDevice primary, final boolean isRecording)
+    private int getDrumPadColor (final int index, final IDrumDevice primary, final boolean isRecording)
     {
         // Playing note?
         if (this.pressedKeys[this.offsetY + index] > 0)
-            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
+            return isRecording ? HANDLE_PAD_RECORD : HANDLE_PAD_PLAY;
         // Selected?
         if (this.selectedPad == index)
-            return AbstractDrumView.COLOR_PAD_SELECTED;
+            return HANDLE_PAD_SELECTED;
 
         // Exists and active?
         final IDrumPadBank drumPadBank = primary.getDrumPadBank ();
         final IChannel drumPad = drumPadBank.getItem (index);
         if (!drumPad.doesExist () || !drumPad.isActivated ())
-            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
+            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? HANDLE_PAD_OFF : HANDLE_PAD_NO_CONTENT;
 
         // Muted or soloed?
         if (drumPad.isMute () || drumPadBank.hasSoloedPads () && !drumPad.isSolo ())
-            return AbstractDrumView.COLOR_PAD_MUTED;
+            return HANDLE_PAD_MUTED;
 
         return this.getPadContentColor (drumPad);
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    /**
+     * Get the color of a drum pad which has content.
+     *
+     * @param drumPad The drum pad
+     * @return The handle of the color ID
+     */
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return DAWColor.getColorIndex (drumPad.getColor ());
+        return ColorManager.getColorHandle (DAWColor.getClosestColor (drumPad.getColor ()));
     }
 
 
@@ -21,8 +21,10 @@ import de.mossgrabers.framework.daw.data.IDrumPad;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
+import de.mossgrabers.framework.observer.ObservedFeature;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.EnumSet;
 import java.util.function.IntUnaryOperator;
 
 
@@ -103,6 +105,8 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     {
         super (name, surface, model, clipRows, clipCols, useDawColors);
 
+        this.observedFeatures = EnumSet.of (ObservedFeature.DRUM_PADS, ObservedFeature.CLIP_STEPS);
+
         this.sequencerLines = numSequencerLines;
         this.playRows = numPlayRows;
         this.allRows = this.sequencerLines + this.playRows;
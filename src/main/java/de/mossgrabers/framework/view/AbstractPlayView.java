@@ -11,10 +11,12 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.featuregroup.AbstractView;
+import de.mossgrabers.framework.observer.ObservedFeature;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 
 
 /**
@@ -65,6 +67,8 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
     {
         super (name, surface, model);
 
+        this.observedFeatures = EnumSet.noneOf (ObservedFeature.class);
+
         this.useTrackColor = useTrackColor;
 
         this.defaultVelocity = new int [128];
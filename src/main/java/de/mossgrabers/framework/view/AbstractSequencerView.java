@@ -12,8 +12,11 @@ import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.featuregroup.AbstractFeatureGroup;
 import de.mossgrabers.framework.featuregroup.AbstractView;
+import de.mossgrabers.framework.observer.ObservedFeature;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.EnumSet;
+
 
 /**
  * Abstract implementation for a view which provides a sequencer.
@@ -95,6 +98,8 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
     {
         super (name, surface, model);
 
+        this.observedFeatures = EnumSet.of (ObservedFeature.CLIP_STEPS);
+
         this.clipRows = clipRows;
         this.clipCols = clipCols;
         this.useDawColors = useDawColors;
@@ -18,10 +18,13 @@ import de.mossgrabers.framework.daw.data.bank.ISceneBank;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.featuregroup.AbstractView;
+import de.mossgrabers.framework.observer.ObservedFeature;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.FrameworkException;
 import de.mossgrabers.framework.utils.Pair;
 
+import java.util.EnumSet;
+
 
 /**
  * Abstract implementation for a view which provides a session with clips.
@@ -73,6 +76,8 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     {
         super (name, surface, model);
 
+        this.observedFeatures = EnumSet.of (ObservedFeature.SLOTS);
+
         this.rows = rows;
         this.columns = columns;
         this.useClipColor = useClipColor;
@@ -412,37 +417,34 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
     protected SessionColor getPadColor (final ISlot slot, final boolean isArmed)
     {
-        final String colorIndex = DAWColor.getColorIndex (slot.getColor ());
-        final ColorManager cm = this.model.getColorManager ();
-
         if (slot.isRecordingQueued ())
             return this.clipColorIsRecordingQueued;
 
         if (slot.isRecording ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColorIndex (colorIndex), this.clipColorIsRecording.getBlink (), this.clipColorIsRecording.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (this.getClipColorIndex (slot), this.clipColorIsRecording.getBlink (), this.clipColorIsRecording.isFast ());
             return this.clipColorIsRecording;
         }
 
         if (slot.isPlayingQueued ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColorIndex (colorIndex), this.clipColorIsPlayingQueued.getBlink (), this.clipColorIsPlayingQueued.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (this.getClipColorIndex (slot), this.clipColorIsPlayingQueued.getBlink (), this.clipColorIsPlayingQueued.isFast ());
             return this.clipColorIsPlayingQueued;
         }
 
         if (slot.isPlaying ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColorIndex (colorIndex), this.clipColorIsPlaying.getBlink (), this.clipColorIsPlaying.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (this.getClipColorIndex (slot), this.clipColorIsPlaying.getBlink (), this.clipColorIsPlaying.isFast ());
             return this.clipColorIsPlaying;
         }
 
         if (slot.hasContent ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColorIndex (colorIndex), this.clipColorHasContent.getBlink (), this.clipColorHasContent.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (this.getClipColorIndex (slot), this.clipColorHasContent.getBlink (), this.clipColorHasContent.isFast ());
             return this.clipColorHasContent;
         }
 
@@ -450,6 +452,18 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     }
 
 
+    /**
+     * Get the color index of the DAW color which is the closest to the color of the clip.
+     *
+     * @param slot The slot which contains the clip
+     * @return The color index
+     */
+    private int getClipColorIndex (final ISlot slot)
+    {
+        return this.model.getColorManager ().getColorIndex (ColorManager.getColorHandle (DAWColor.getClosestColor (slot.getColor ())));
+    }
+
+
     protected Pair<Integer, Integer> getPad (final int note)
     {
         final int index = note - 36;
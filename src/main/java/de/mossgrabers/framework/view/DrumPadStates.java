@@ -0,0 +1,117 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2021
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.view;
+
+import de.mossgrabers.framework.daw.DAWColor;
+import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.daw.data.bank.IDrumPadBank;
+
+import java.util.Arrays;
+
+
+/**
+ * Keeps a state word for each pad of a drum pad bank, which packs everything needed to draw the
+ * pad: pressed, selected, exists, mute, solo and the index of the closest DAW color. Drawing a pad
+ * can be skipped if its state word did not change since it was drawn the last time. The color
+ * index is updated by color observers, therefore the closest color is only searched when the color
+ * of a pad actually changes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DrumPadStates
+{
+    /** The pad is played. */
+    public static final int  PRESSED     = 0x01;
+    /** The pad is selected. */
+    public static final int  SELECTED    = 0x02;
+    /** The pad exists and is activated. */
+    public static final int  EXISTS      = 0x04;
+    /** The pad is muted. */
+    public static final int  MUTED       = 0x08;
+    /** The pad is soloed. */
+    public static final int  SOLOED      = 0x10;
+
+    private static final int COLOR_SHIFT = 5;
+    private static final int INVALID     = -1;
+
+    private final int []     colorIndices;
+    private final int []     drawnStates;
+    private int              globalState = INVALID;
+
+
+    /**
+     * Constructor.
+     *
+     * @param drumPadBank The drum pad bank of which to observe the pads
+     */
+    public DrumPadStates (final IDrumPadBank drumPadBank)
+    {
+        final int pageSize = drumPadBank.getPageSize ();
+        this.colorIndices = new int [pageSize];
+        this.drawnStates = new int [pageSize];
+        this.invalidate ();
+
+        for (int i = 0; i < pageSize; i++)
+        {
+            final int index = i;
+            drumPadBank.getItem (i).addColorObserver (color -> this.colorIndices[index] = DAWColor.getClosestColor (color).ordinal () + 1);
+        }
+    }
+
+
+    /**
+     * Set the state which affects all pads (e.g. the recording state). If it differs from the
+     * previous one, all pads need to be drawn again.
+     *
+     * @param globalState The state
+     */
+    public void setGlobalState (final int globalState)
+    {
+        if (this.globalState == globalState)
+            return;
+        this.globalState = globalState;
+        this.invalidate ();
+    }
+
+
+    /**
+     * Update the state word of a pad.
+     *
+     * @param index The index of the pad in the page of the drum pad bank
+     * @param isPressed True if the pad is played
+     * @param isSelected True if the pad is selected
+     * @param drumPad The drum pad
+     * @return True if the state changed since the pad was drawn the last time, the pad is then
+     *         considered to be drawn
+     */
+    public boolean update (final int index, final boolean isPressed, final boolean isSelected, final IChannel drumPad)
+    {
+        int state = this.colorIndices[index] << COLOR_SHIFT;
+        if (isPressed)
+            state |= PRESSED;
+        if (isSelected)
+            state |= SELECTED;
+        if (drumPad.doesExist () && drumPad.isActivated ())
+            state |= EXISTS;
+        if (drumPad.isMute ())
+            state |= MUTED;
+        if (drumPad.isSolo ())
+            state |= SOLOED;
+
+        if (this.drawnStates[index] == state)
+            return false;
+        this.drawnStates[index] = state;
+        return true;
+    }
+
+
+    /**
+     * Forces all pads to be drawn again, e.g. after another view has used the pad grid.
+     */
+    public void invalidate ()
+    {
+        Arrays.fill (this.drawnStates, INVALID);
+    }
+}